@@ -0,0 +1,99 @@
+package bench;
+
+import model.BankBetLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bet operations behind the buttons of BankPanel.
+ * Every bet moves money out of the bank, so the bank is refilled
+ * once it runs low; the refill is rare enough to stay out of the numbers.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankBetLogicBenchmark {
+    /**
+     * Bank the benchmark refills to.
+     */
+    private static final int FULL_BANK = 1_000_000_000;
+
+    /**
+     * Bank and bet under test.
+     */
+    private BankBetLogic myBank;
+
+    /**
+     * Creates a funded bank with one listener like BankPanel registers.
+     */
+    @Setup
+    public void setup() {
+        myBank = new BankBetLogic();
+        myBank.addPropertyChangeListener(theEvt -> { });
+        refill();
+    }
+
+    /**
+     * Places a fixed bet as the bet field does.
+     *
+     * @return the bank left, so the work is not eliminated.
+     */
+    @Benchmark
+    public int setBetAmount() {
+        if (myBank.getBankAmount() < 10) {
+            refill();
+        }
+        myBank.setBetAmount(10);
+        return myBank.getBankAmount();
+    }
+
+    /**
+     * Raises the bet by one as the +$1 button does.
+     *
+     * @return the bet, so the work is not eliminated.
+     */
+    @Benchmark
+    public int adjustBet() {
+        if (myBank.getBetAmount() + 1 > myBank.getBankAmount()) {
+            refill();
+        }
+        myBank.adjustBet(1);
+        return myBank.getBetAmount();
+    }
+
+    /**
+     * Moves the whole bank onto the bet as the All In button does.
+     * The bet itself funds the next call, so no refill is needed.
+     *
+     * @return the bet, so the work is not eliminated.
+     */
+    @Benchmark
+    public int allIn() {
+        myBank.allIn();
+        return myBank.getBetAmount();
+    }
+
+    /**
+     * Clears the bet and refills the bank.
+     */
+    private void refill() {
+        myBank.resetBankAndBet();
+        myBank.setBankAmount(FULL_BANK);
+    }
+}
\ No newline at end of file
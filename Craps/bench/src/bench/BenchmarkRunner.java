@@ -0,0 +1,46 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks in throughput mode with the GC profiler,
+ * so every result also reports its allocation rate per operation.
+ * Any JMH command line option can be passed, for example a regex
+ * to run only {@code CrapsLogicBenchmark}.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Private empty constructor to avoid accidental instantiation.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param theArgs JMH command line options, all benchmarks run if empty.
+     * @throws RunnerException if a benchmark fails.
+     * @throws CommandLineOptionException if the options cannot be parsed.
+     */
+    public static void main(final String[] theArgs) throws RunnerException, CommandLineOptionException {
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(theArgs))
+                .mode(Mode.Throughput)
+                .addProfiler(GCProfiler.class);
+        if (theArgs.length == 0) {
+            options.include("bench\\..*");
+        }
+        new Runner(options.build()).run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+package bench;
+
+import model.BankBetLogic;
+import model.BatchSettlement;
+import model.BetLayout;
+import model.BetSettlement;
+import model.BetType;
+import model.Money;
+import model.MultiSeatTable;
+import model.RollKernel;
+import model.WagerBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures settling a crowded table of mixed bets against one roll,
+ * including putting back the bets the roll took off so the table stays full.
+ * The bets are spread over the 16 seats of a {@link MultiSeatTable}, or over
+ * 16 banks of a {@link WagerBatch} for the batch settlement.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BetSettlementBenchmark {
+    /**
+     * Number of pre-rolled dice pairs cycled through.
+     */
+    private static final int ROLLS = 4096;
+
+    /**
+     * Bet types placed on the table, cycled through when refilling it.
+     */
+    private static final BetType[] TYPES = {BetType.PLACE, BetType.FIELD, BetType.HARDWAY,
+        BetType.BUY, BetType.ANY_SEVEN, BetType.LAY, BetType.COME, BetType.DONT_COME};
+
+    /**
+     * Number of bets kept on the table.
+     */
+    @Param({"16", "256"})
+    public int bets;
+
+    /**
+     * Bets on the table.
+     */
+    private BetLayout myLayout;
+
+    /**
+     * Pre-rolled dice, two faces per roll.
+     */
+    private int[] myDice;
+
+    /**
+     * Index of the next roll.
+     */
+    private int myRoll;
+
+    /**
+     * Table point before the next roll.
+     */
+    private int myPoint;
+
+    /**
+     * Index of the next bet type placed.
+     */
+    private int myNextType;
+
+    /**
+     * Amount returned to each seat, reused every roll.
+     */
+    private final long[] myReturned = new long[MultiSeatTable.MAX_SEATS];
+
+    /**
+     * Seat of the next bet placed.
+     */
+    private int myNextSeat;
+
+    /**
+     * Banks that own the wagers of the batch.
+     */
+    private BankBetLogic[] myBanks;
+
+    /**
+     * Open wagers settled by the batch benchmark.
+     */
+    private WagerBatch myBatch;
+
+    /**
+     * Batch settlement with its reused buffers.
+     */
+    private final BatchSettlement mySettlement = new BatchSettlement();
+
+    /**
+     * Rolls the dice and fills the table.
+     */
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(42);
+        myDice = new int[2 * ROLLS];
+        for (int i = 0; i < myDice.length; i++) {
+            myDice[i] = random.nextInt(1, 7);
+        }
+        myLayout = new BetLayout();
+        refill();
+        myBanks = new BankBetLogic[MultiSeatTable.MAX_SEATS];
+        for (int i = 0; i < myBanks.length; i++) {
+            myBanks[i] = new BankBetLogic();
+            myBanks[i].setBankCents(Money.ofDollars(1_000_000_000L));
+        }
+        myBatch = new WagerBatch();
+        refillBatch();
+    }
+
+    /**
+     * Settles the table against the next roll and tops it up again.
+     *
+     * @return the amount returned, so the work is not eliminated.
+     */
+    @Benchmark
+    public long settle() {
+        final int die1 = myDice[myRoll];
+        final int die2 = myDice[myRoll + 1];
+        myRoll = (myRoll + 2) % myDice.length;
+        final long returned = BetSettlement.settle(myLayout, die1, die2, myPoint);
+        myPoint = RollKernel.nextPoint(RollKernel.resolve(myPoint, die1 + die2));
+        refill();
+        return returned;
+    }
+
+    /**
+     * Settles the table against the next roll, splitting the returns by seat,
+     * and tops it up again.
+     *
+     * @return the amount returned to the first seat, so the work is not eliminated.
+     */
+    @Benchmark
+    public long settleBySeat() {
+        final int die1 = myDice[myRoll];
+        final int die2 = myDice[myRoll + 1];
+        myRoll = (myRoll + 2) % myDice.length;
+        Arrays.fill(myReturned, 0);
+        BetSettlement.settle(myLayout, die1, die2, myPoint, myReturned);
+        myPoint = RollKernel.nextPoint(RollKernel.resolve(myPoint, die1 + die2));
+        refill();
+        return myReturned[0];
+    }
+
+    /**
+     * Settles the batch against the next roll, paying each bank once, and tops it up again.
+     *
+     * @return the net result of the first wager, so the work is not eliminated.
+     */
+    @Benchmark
+    public long settleBatch() {
+        final int die1 = myDice[myRoll];
+        final int die2 = myDice[myRoll + 1];
+        myRoll = (myRoll + 2) % myDice.length;
+        final long[] deltas = mySettlement.settle(myBatch, die1, die2);
+        myPoint = RollKernel.nextPoint(RollKernel.resolve(myPoint, die1 + die2));
+        refillBatch();
+        return deltas[0];
+    }
+
+    /**
+     * Places wagers until the batch holds the configured number.
+     * Come bets are skipped since they cannot be made on the come out roll.
+     */
+    private void refillBatch() {
+        while (myBatch.size() < bets) {
+            final BetType type = TYPES[myNextType];
+            myNextType = (myNextType + 1) % TYPES.length;
+            if (type == BetType.COME || type == BetType.DONT_COME) {
+                continue;
+            }
+            final int number = type == BetType.HARDWAY ? 8 : type.isValidNumber(6) ? 6 : 0;
+            myBatch.add(myBanks[myNextSeat], myPoint, type, number, Money.ofDollars(10));
+            myNextSeat = (myNextSeat + 1) % myBanks.length;
+        }
+    }
+
+    /**
+     * Places bets until the table holds the configured number.
+     */
+    private void refill() {
+        while (myLayout.size() < bets) {
+            final BetType type = TYPES[myNextType];
+            myNextType = (myNextType + 1) % TYPES.length;
+            final int number = type == BetType.HARDWAY ? 8 : type.isValidNumber(6) ? 6 : 0;
+            myLayout.add(myNextSeat, type, number, 10);
+            myNextSeat = (myNextSeat + 1) % MultiSeatTable.MAX_SEATS;
+        }
+    }
+}
\ No newline at end of file
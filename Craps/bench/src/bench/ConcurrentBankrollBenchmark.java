@@ -0,0 +1,57 @@
+package bench;
+
+import model.ConcurrentBankroll;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bet placement and settlement on one ledger shared by many writers.
+ * Run with {@code -t} to change the number of writer threads.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ConcurrentBankrollBenchmark {
+    /**
+     * Ledger shared by all writer threads.
+     */
+    private ConcurrentBankroll myBank;
+
+    /**
+     * Funds the shared ledger.
+     */
+    @Setup
+    public void setup() {
+        myBank = new ConcurrentBankroll();
+        myBank.setBankAmount(Integer.MAX_VALUE / 2);
+    }
+
+    /**
+     * Places a bet and loses it, the worst case for the bank.
+     *
+     * @return the settled bet, so the work is not eliminated.
+     */
+    @Benchmark
+    public int betAndSettle() {
+        myBank.adjustBet(1);
+        return myBank.settle(myBank.getBankAmount() < Integer.MAX_VALUE / 4);
+    }
+}
\ No newline at end of file
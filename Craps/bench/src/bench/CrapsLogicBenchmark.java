@@ -0,0 +1,85 @@
+package bench;
+
+import model.CrapsLogic;
+import model.DiceSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CrapsLogic#roll()} including its property change events.
+ * The game is soft reset after every decision so each call is a live roll.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrapsLogicBenchmark {
+    /**
+     * Game under test, without listeners.
+     */
+    private CrapsLogic myCraps;
+
+    /**
+     * Game under test, with one listener like each panel registers.
+     */
+    private CrapsLogic myWatchedCraps;
+
+    /**
+     * Creates the games with a seeded dice source.
+     */
+    @Setup
+    public void setup() {
+        myCraps = new CrapsLogic(DiceSource.l64x128(42));
+        myWatchedCraps = new CrapsLogic(DiceSource.l64x128(42));
+        myWatchedCraps.addPropertyChangeListener(theEvt -> { });
+    }
+
+    /**
+     * Rolls a game nobody listens to.
+     *
+     * @return the total, so the work is not eliminated.
+     */
+    @Benchmark
+    public int roll() {
+        return rollAndReset(myCraps);
+    }
+
+    /**
+     * Rolls a game with one listener attached.
+     *
+     * @return the total, so the work is not eliminated.
+     */
+    @Benchmark
+    public int rollWithListener() {
+        return rollAndReset(myWatchedCraps);
+    }
+
+    /**
+     * Rolls once and starts a new round if the roll decided the game.
+     *
+     * @param theCraps the game to roll.
+     * @return the total of the roll.
+     */
+    private static int rollAndReset(final CrapsLogic theCraps) {
+        theCraps.roll();
+        if (!theCraps.isGameActive()) {
+            theCraps.softReset();
+        }
+        return theCraps.getTotal();
+    }
+}
\ No newline at end of file
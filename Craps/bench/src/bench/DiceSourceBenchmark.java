@@ -0,0 +1,96 @@
+package bench;
+
+import model.DiceSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of one roll of two dice for each dice source.
+ * {@code random} is the java.util.Random that CrapsLogic used before,
+ * {@code bulk} pre-generates its faces in blocks.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceSourceBenchmark {
+    /**
+     * Name of the dice source under test.
+     */
+    @Param({"random", "l64x128", "splittable", "threadLocal", "replay", "secure", "bulk"})
+    public String source;
+
+    /**
+     * Dice source under test.
+     */
+    private DiceSource myDice;
+
+    /**
+     * Creates the dice source named by the parameter.
+     */
+    @Setup
+    public void setup() {
+        switch (source) {
+            case "random":
+                myDice = DiceSource.of(new Random(42));
+                break;
+            case "l64x128":
+                myDice = DiceSource.l64x128(42);
+                break;
+            case "splittable":
+                myDice = DiceSource.splittable(42);
+                break;
+            case "threadLocal":
+                myDice = DiceSource.threadLocal();
+                break;
+            case "replay":
+                myDice = DiceSource.replay(42);
+                break;
+            case "secure":
+                myDice = DiceSource.secure();
+                break;
+            case "bulk":
+                myDice = DiceSource.bulk(42);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown dice source " + source);
+        }
+    }
+
+    /**
+     * Rolls two dice the way CrapsLogic.roll() does.
+     *
+     * @return the total, so the work is not eliminated.
+     */
+    @Benchmark
+    public int roll() {
+        return myDice.nextDie() + myDice.nextDie();
+    }
+
+    /**
+     * Rolls two dice the way the simulators do.
+     *
+     * @return the total, so the work is not eliminated.
+     */
+    @Benchmark
+    public int rollTotal() {
+        return myDice.nextTotal();
+    }
+}
\ No newline at end of file
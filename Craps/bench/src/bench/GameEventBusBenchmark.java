@@ -0,0 +1,98 @@
+package bench;
+
+import model.GameEvent;
+import model.GameEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures typed event fan-out to compare with {@link PropertyChangeBenchmark}.
+ * The ring case publishes and drains on the same thread to show the cost
+ * of the queue itself.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEventBusBenchmark {
+    /**
+     * Number of subscribed listeners.
+     */
+    @Param({"1", "4", "16"})
+    public int listeners;
+
+    /**
+     * Bus with synchronous dispatch.
+     */
+    private GameEventBus myBus;
+
+    /**
+     * Bus in ring mode.
+     */
+    private GameEventBus myRingBus;
+
+    /**
+     * Payload published with each event.
+     */
+    private long myValue;
+
+    /**
+     * Subscribes the listeners to both buses.
+     *
+     * @param theHole sink for the payloads the listeners read.
+     */
+    @Setup
+    public void setup(final Blackhole theHole) {
+        myBus = new GameEventBus();
+        myRingBus = new GameEventBus();
+        myRingBus.enableRing(1024);
+        for (int i = 0; i < listeners; i++) {
+            myBus.subscribe((theType, thePayload) -> theHole.consume(thePayload), GameEvent.BANK_SET);
+            myRingBus.subscribe((theType, thePayload) -> theHole.consume(thePayload), GameEvent.BANK_SET);
+        }
+    }
+
+    /**
+     * Publishes one event with synchronous dispatch.
+     */
+    @Benchmark
+    public void publish() {
+        myBus.publish(GameEvent.BANK_SET, myValue++);
+    }
+
+    /**
+     * Publishes one event nobody listens to.
+     */
+    @Benchmark
+    public void publishUnsubscribed() {
+        myBus.publish(GameEvent.BET, myValue++);
+    }
+
+    /**
+     * Publishes one event into the ring and drains it.
+     *
+     * @return the number of events drained.
+     */
+    @Benchmark
+    public int publishRing() {
+        myRingBus.publish(GameEvent.BANK_SET, myValue++);
+        return myRingBus.drain();
+    }
+}
\ No newline at end of file
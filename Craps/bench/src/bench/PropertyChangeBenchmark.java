@@ -0,0 +1,84 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures PropertyChangeSupport fan-out the way the model classes use it:
+ * a named event with a boxed value delivered to every listener, each of
+ * which compares the property name like the panels do.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyChangeBenchmark {
+    /**
+     * Number of registered listeners.
+     */
+    @Param({"1", "4", "16"})
+    public int listeners;
+
+    /**
+     * Support the events are fired through.
+     */
+    private PropertyChangeSupport myChanges;
+
+    /**
+     * Value fired with each event; changes so it is boxed every time.
+     */
+    private int myValue;
+
+    /**
+     * Registers the listeners.
+     *
+     * @param theHole sink for the values the listeners read.
+     */
+    @Setup
+    public void setup(final Blackhole theHole) {
+        myChanges = new PropertyChangeSupport(this);
+        for (int i = 0; i < listeners; i++) {
+            final PropertyChangeListener listener = theEvt -> {
+                if ("bankSet".equals(theEvt.getPropertyName())) {
+                    theHole.consume(theEvt.getNewValue());
+                }
+            };
+            myChanges.addPropertyChangeListener(listener);
+        }
+    }
+
+    /**
+     * Fires one event with an int payload, as BankBetLogic.setBankAmount does.
+     */
+    @Benchmark
+    public void fireInt() {
+        myChanges.firePropertyChange("bankSet", null, myValue++);
+    }
+
+    /**
+     * Fires one event with a boolean payload, as CrapsLogic.setWins does.
+     */
+    @Benchmark
+    public void fireBoolean() {
+        myChanges.firePropertyChange("winDisplay", null, (myValue++ & 1) == 0);
+    }
+}
\ No newline at end of file
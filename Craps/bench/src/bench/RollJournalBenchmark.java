@@ -0,0 +1,98 @@
+package bench;
+
+import model.RollJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures appending rolls to the memory mapped journal, including
+ * segment rollover and the group commit force.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollJournalBenchmark {
+    /**
+     * Number of records between forces to disk.
+     */
+    @Param({"1024", "65536"})
+    public int syncEvery;
+
+    /**
+     * Directory holding the segments.
+     */
+    private Path myDir;
+
+    /**
+     * Journal under test.
+     */
+    private RollJournal myJournal;
+
+    /**
+     * Counter used to vary the records.
+     */
+    private int myRoll;
+
+    /**
+     * Opens a journal in a fresh directory.
+     *
+     * @throws IOException if the directory cannot be created.
+     */
+    @Setup
+    public void setup() throws IOException {
+        myDir = Files.createTempDirectory("roll-journal");
+        myJournal = new RollJournal(myDir, RollJournal.DEFAULT_SEGMENT_BYTES, syncEvery);
+    }
+
+    /**
+     * Closes the journal and deletes its segments.
+     *
+     * @throws IOException if the journal cannot be closed.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        myJournal.close();
+        final File[] segments = myDir.toFile().listFiles();
+        if (segments != null) {
+            for (final File segment : segments) {
+                segment.delete();
+            }
+        }
+        myDir.toFile().delete();
+    }
+
+    /**
+     * Appends one roll.
+     *
+     * @return the sequence number, so the work is not eliminated.
+     * @throws IOException if a segment cannot be created.
+     */
+    @Benchmark
+    public long append() throws IOException {
+        final int roll = myRoll++;
+        return myJournal.append(1 + (roll & 3), 1 + (roll >>> 2 & 3), roll & 7,
+                RollJournal.NO_DECISION, 0, 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package bench;
+
+import model.RollKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the branch chain that used to live in CrapsLogic.roll()
+ * with the table lookup of {@link RollKernel}.
+ * Both resolve the same pre-rolled totals so only the rules are measured.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollKernelBenchmark {
+    /**
+     * Number of pre-rolled totals resolved per invocation.
+     */
+    private static final int ROLLS = 4096;
+
+    /**
+     * Pre-rolled dice totals.
+     */
+    private int[] myTotals;
+
+    /**
+     * Rolls the dice totals once for the whole trial.
+     */
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(42);
+        myTotals = new int[ROLLS];
+        for (int i = 0; i < ROLLS; i++) {
+            myTotals[i] = random.nextInt(1, 7) + random.nextInt(1, 7);
+        }
+    }
+
+    /**
+     * Resolves the totals with the if/else chain of the original roll logic.
+     *
+     * @return the number of player wins, so the work is not eliminated.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public int branchChain() {
+        int point = 0;
+        int playerWins = 0;
+        for (final int total : myTotals) {
+            if (point == 0) {
+                if (total == 7 || total == 11) {
+                    playerWins++;
+                } else if (total != 2 && total != 3 && total != 12) {
+                    point = total;
+                }
+            } else {
+                if (total == point) {
+                    playerWins++;
+                    point = 0;
+                } else if (total == 7) {
+                    point = 0;
+                }
+            }
+        }
+        return playerWins;
+    }
+
+    /**
+     * Resolves the totals with the precomputed transition table.
+     *
+     * @return the number of player wins, so the work is not eliminated.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public int kernel() {
+        int row = RollKernel.COME_OUT_ROW;
+        int playerWins = 0;
+        for (final int total : myTotals) {
+            final int result = RollKernel.resolveRow(row, total);
+            row = result & RollKernel.ROW_MASK;
+            playerWins += result >>> RollKernel.PLAYER_WIN_SHIFT;
+        }
+        return playerWins;
+    }
+}
\ No newline at end of file
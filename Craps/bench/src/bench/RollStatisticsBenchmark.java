@@ -0,0 +1,93 @@
+package bench;
+
+import model.RollKernel;
+import model.RollStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures recording a roll in the streaming statistics and
+ * taking a snapshot of them.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollStatisticsBenchmark {
+    /**
+     * Number of precomputed totals, a power of two.
+     */
+    private static final int ROLLS = 1 << 12;
+
+    /**
+     * Precomputed totals.
+     */
+    private final int[] myTotals = new int[ROLLS];
+
+    /**
+     * Statistics under test.
+     */
+    private RollStatistics myStats;
+
+    /**
+     * Index of the next total.
+     */
+    private int myIndex;
+
+    /**
+     * Point of the round in play.
+     */
+    private int myPoint;
+
+    /**
+     * Precomputes the totals.
+     */
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < ROLLS; i++) {
+            myTotals[i] = random.nextInt(1, 7) + random.nextInt(1, 7);
+        }
+        myStats = new RollStatistics();
+    }
+
+    /**
+     * Resolves and records one roll.
+     *
+     * @return the point after the roll, so the work is not eliminated.
+     */
+    @Benchmark
+    public int record() {
+        final int total = myTotals[myIndex++ & (ROLLS - 1)];
+        final int result = RollKernel.resolve(myPoint, total);
+        myStats.record(total, myPoint, result);
+        myPoint = RollKernel.isDecided(result) ? 0 : RollKernel.nextPoint(result);
+        return myPoint;
+    }
+
+    /**
+     * Takes a consistent snapshot while nothing is recorded.
+     *
+     * @return the snapshot.
+     */
+    @Benchmark
+    public RollStatistics.Snapshot snapshot() {
+        return myStats.snapshot();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package bench;
+
+import model.BettingStrategy;
+import model.CrapsSimulator;
+import model.ParallelSimulator;
+import model.StrategySimulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the headless simulation paths in rounds per microsecond.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+    /**
+     * Rounds played by the single-core benchmark per invocation.
+     */
+    private static final int SEQUENTIAL_ROUNDS = 1 << 16;
+
+    /**
+     * Rounds played by the parallel benchmark per invocation.
+     */
+    private static final int PARALLEL_ROUNDS = 1 << 24;
+
+    /**
+     * Rounds of a betting session, the flat bet never runs out of bank.
+     */
+    private static final int SESSION_ROUNDS = 100;
+
+    /**
+     * Betting sessions played per invocation.
+     */
+    private static final int SESSIONS = 1 << 14;
+
+    /**
+     * Single-core simulator.
+     */
+    private CrapsSimulator mySimulator;
+
+    /**
+     * Simulator on the common fork/join pool.
+     */
+    private ParallelSimulator myParallel;
+
+    /**
+     * Flat betting sessions on the common fork/join pool.
+     */
+    private StrategySimulator myStrategy;
+
+    /**
+     * Seed for the next parallel run.
+     */
+    private long mySeed;
+
+    /**
+     * Creates the simulators.
+     */
+    @Setup
+    public void setup() {
+        mySimulator = new CrapsSimulator(42);
+        myParallel = new ParallelSimulator();
+        myStrategy = new StrategySimulator(BettingStrategy.flat(1), SESSION_ROUNDS, SESSION_ROUNDS);
+    }
+
+    /**
+     * Releases the parallel simulator.
+     */
+    @TearDown
+    public void tearDown() {
+        myParallel.close();
+    }
+
+    /**
+     * Plays rounds on the calling thread.
+     *
+     * @return the player wins, so the work is not eliminated.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SEQUENTIAL_ROUNDS)
+    public long sequential() {
+        return mySimulator.run(SEQUENTIAL_ROUNDS).getPlayerWins();
+    }
+
+    /**
+     * Plays rounds on every core.
+     *
+     * @return the player wins, so the work is not eliminated.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PARALLEL_ROUNDS)
+    public long parallel() {
+        return myParallel.run(PARALLEL_ROUNDS, mySeed++).getPlayerWins();
+    }
+
+    /**
+     * Plays flat betting sessions on every core.
+     *
+     * @return the ruined sessions, so the work is not eliminated.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SESSIONS * SESSION_ROUNDS)
+    public long strategySessions() {
+        return myStrategy.run(SESSIONS, mySeed++).getRuined();
+    }
+}
\ No newline at end of file
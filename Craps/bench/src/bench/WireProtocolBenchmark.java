@@ -0,0 +1,151 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import server.WireMessage;
+import server.WireProtocol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding a roll result with the binary
+ * {@link WireProtocol} against the same result as a JSON object.
+ * The JSON side is written by hand into a reused builder and parsed by
+ * scanning for the fields, the cheapest a JSON text can be handled, so the
+ * difference is the cost of the text format itself.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireProtocolBenchmark {
+    /**
+     * Number of pre-rolled dice pairs cycled through.
+     */
+    private static final int ROLLS = 4096;
+
+    /**
+     * Pre-rolled dice, two faces per roll.
+     */
+    private int[] myDice;
+
+    /**
+     * Index of the next roll.
+     */
+    private int myRoll;
+
+    /**
+     * Encoder of the binary messages.
+     */
+    private final WireProtocol myEncoder = new WireProtocol();
+
+    /**
+     * Decoded view of the binary messages.
+     */
+    private final WireMessage myMessage = new WireMessage();
+
+    /**
+     * Buffer reused for every binary message.
+     */
+    private final ByteBuffer myBuffer = ByteBuffer.allocateDirect(WireProtocol.MESSAGE_BYTES);
+
+    /**
+     * Builder reused for every JSON message.
+     */
+    private final StringBuilder myJson = new StringBuilder(128);
+
+    /**
+     * Sequence number of the next JSON message.
+     */
+    private long myJsonSequence;
+
+    /**
+     * Rolls the dice.
+     */
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(42);
+        myDice = new int[2 * ROLLS];
+        for (int i = 0; i < myDice.length; i++) {
+            myDice[i] = random.nextInt(1, 7);
+        }
+    }
+
+    /**
+     * Encodes and decodes a roll result as a binary message.
+     *
+     * @return the decoded bank, so the work is not eliminated.
+     */
+    @Benchmark
+    public long binary() {
+        final int die1 = myDice[myRoll];
+        final int die2 = myDice[myRoll + 1];
+        myRoll = (myRoll + 2) % myDice.length;
+        myBuffer.clear();
+        myEncoder.encodeRoll(myBuffer, 17L, die1, die2, 6, WireProtocol.ROLLING, 123_456L + die1);
+        myBuffer.flip();
+        myMessage.decode(myBuffer);
+        return myMessage.getCents() + myMessage.getTotal();
+    }
+
+    /**
+     * Encodes and decodes a roll result as a JSON object in UTF-8.
+     *
+     * @return the decoded bank, so the work is not eliminated.
+     */
+    @Benchmark
+    public long json() {
+        final int die1 = myDice[myRoll];
+        final int die2 = myDice[myRoll + 1];
+        myRoll = (myRoll + 2) % myDice.length;
+        myJson.setLength(0);
+        myJson.append("{\"seq\":").append(myJsonSequence++)
+                .append(",\"table\":").append(17L)
+                .append(",\"type\":\"diceRoll\",\"die1\":").append(die1)
+                .append(",\"die2\":").append(die2)
+                .append(",\"point\":").append(6)
+                .append(",\"outcome\":\"ROLLING\",\"bank\":").append(123_456L + die1)
+                .append('}');
+        final byte[] wire = myJson.toString().getBytes(StandardCharsets.UTF_8);
+
+        final String text = new String(wire, StandardCharsets.UTF_8);
+        final long bank = field(text, "\"bank\":");
+        final long total = field(text, "\"die1\":") + field(text, "\"die2\":");
+        field(text, "\"seq\":");
+        field(text, "\"table\":");
+        field(text, "\"point\":");
+        return bank + total;
+    }
+
+    /**
+     * Reads the number following a key in a JSON text.
+     *
+     * @param theText the JSON text.
+     * @param theKey the quoted key and its colon.
+     * @return the number.
+     */
+    private static long field(final String theText, final String theKey) {
+        int index = theText.indexOf(theKey) + theKey.length();
+        long value = 0;
+        while (Character.isDigit(theText.charAt(index))) {
+            value = value * 10 + theText.charAt(index++) - '0';
+        }
+        return value;
+    }
+}
\ No newline at end of file
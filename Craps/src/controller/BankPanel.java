@@ -1,14 +1,16 @@
 package controller;
 
+import metrics.CrapsMetrics;
 import model.BankBetLogic;
+import model.GameEvent;
+import model.GameEventListener;
+import model.Money;
 import res.R;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 
 /**
  * BankPanel class handles the bank-related
@@ -18,7 +20,7 @@ import java.beans.PropertyChangeListener;
  * @author Peter Madin
  * @version 0.0.5  December 5, 2023
  */
-public class BankPanel extends JPanel implements PropertyChangeListener {
+public class BankPanel extends JPanel implements GameEventListener {
     /**
      * Panel for bank-related components.
      */
@@ -101,7 +103,8 @@ public class BankPanel extends JPanel implements PropertyChangeListener {
     public BankPanel() {
         myBankBet = BankBetLogic.getBankBetInstance();
         if (myBankBet != null) {
-            myBankBet.addPropertyChangeListener(this);
+            myBankBet.getEventBus().subscribe(this, GameEvent.BET, GameEvent.BANK_RESET,
+                    GameEvent.BANK_SET, GameEvent.GAME_OVER);
         }
         myBankPanel = new JPanel(new BorderLayout());
         myBankField = new JTextField(10);
@@ -381,18 +384,41 @@ public class BankPanel extends JPanel implements PropertyChangeListener {
     }
 
     /**
-     * Handles property change events, updating UI components based on specific events.
+     * Brings the panel in line with a bank restored from a snapshot,
+     * as if the bank had been entered and set by the player.
+     */
+    public void restoreView() {
+        if (myBankBet.getBankSet()) {
+            myBankField.setEditable(false);
+            myBankField.setFocusable(false);
+            mySetButton.setEnabled(false);
+            myBetField.setEditable(true);
+            for (JButton myButton : myButtons) {
+                myButton.setEnabled(true);
+            }
+        }
+        myBankField.setText(Money.format(myBankBet.getBankCents()));
+        if (myBankBet.getBetSet()) {
+            myBetField.setText(Money.format(myBankBet.getBetCents()));
+            previousBetAmount = myBankBet.getBetAmount();
+        }
+    }
+
+    /**
+     * Handles bank events, updating UI components based on specific events.
      *
-     * @param theEvt The PropertyChangeEvent object.
+     * @param theType The type of the event.
+     * @param thePayload The payload of the event.
      */
     @Override
-    public void propertyChange(PropertyChangeEvent theEvt) {
-        if ("bet".equals(theEvt.getPropertyName())) {
-            myBetField.setText(theEvt.getNewValue().toString());
-            myBankField.setText(String.valueOf(myBankBet.getBankAmount()));
+    public void onEvent(final GameEvent theType, final long thePayload) {
+        final long start = CrapsMetrics.start();
+        if (theType == GameEvent.BET) {
+            myBetField.setText(Money.format(thePayload));
+            myBankField.setText(Money.format(myBankBet.getBankCents()));
         }
 
-        if ("bankReset".equals(theEvt.getPropertyName())) {
+        if (theType == GameEvent.BANK_RESET) {
             myBankField.setEditable(true);
             myBankField.setFocusable(true);
             myBankField.setText("");
@@ -404,12 +430,12 @@ public class BankPanel extends JPanel implements PropertyChangeListener {
             }
         }
 
-        if ("bankSet".equals(theEvt.getPropertyName())) {
-            myBankField.setText(String.valueOf(theEvt.getNewValue()));
+        if (theType == GameEvent.BANK_SET) {
+            myBankField.setText(Money.format(thePayload));
         }
 
-        if ("gameOver".equals(theEvt.getPropertyName())) {
-            if ((boolean) theEvt.getNewValue()) {
+        if (theType == GameEvent.GAME_OVER) {
+            if (thePayload != 0) {
                 myBankField.setEditable(false);
                 myBankField.setText("");
                 myBetField.setText("");
@@ -419,5 +445,6 @@ public class BankPanel extends JPanel implements PropertyChangeListener {
                 }
             }
         }
+        CrapsMetrics.handled(start);
     }
 }
\ No newline at end of file
@@ -6,10 +6,24 @@
  */
 package controller;
 
+import model.BankBetLogic;
+import model.CrapsLogic;
+import model.GameSnapshot;
+import model.SnapshotStore;
 import res.R;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The CrapsController class manages the
@@ -32,6 +46,27 @@ public class CrapsController extends JPanel {
      */
     private static final int WINDOW_SIZE = 1000;
 
+    /**
+     * Directory the session snapshots are kept in, under the user's home.
+     */
+    private static final Path SNAPSHOT_DIR = Path.of(System.getProperty("user.home"), ".craps", "snapshots");
+
+    /**
+     * Milliseconds between periodic session snapshots.
+     */
+    private static final int SNAPSHOT_MS = 10_000;
+
+    /**
+     * Milliseconds the shutdown waits for the last snapshot to be written.
+     */
+    private static final long SHUTDOWN_WAIT_MS = 5_000;
+
+    /**
+     * Indicates a failed save was reported and no save succeeded since,
+     * so a failing disk shows one warning instead of one per period.
+     */
+    private static final AtomicBoolean SAVE_FAILED = new AtomicBoolean();
+
     /**
      * private constructor to prevent call.
      */
@@ -49,13 +84,16 @@ public class CrapsController extends JPanel {
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.getContentPane().setBackground(R.Colors.BACKGROUND);
         MenuBar menuBar = new MenuBar(frame); // Create an instance of MenuBar
-        RollPlayPanel rollPlayPanel = new RollPlayPanel(new CurrentRollPanel());
+        CurrentRollPanel currentRollPanel = new CurrentRollPanel();
+        WinPanel winPanel = new WinPanel(frame);
+        RollPlayPanel rollPlayPanel = new RollPlayPanel(currentRollPanel);
         menuBar.addPropertyChangeListener(rollPlayPanel);
+        rollPlayPanel.addPropertyChangeListener(RollPlayPanel.AUTO_ROLL, winPanel);
 
         JPanel north = new JPanel();
         north.setLayout(new FlowLayout(FlowLayout.CENTER));
         north.setBackground(R.Colors.BACKGROUND);
-        north.add(new CurrentRollPanel());
+        north.add(currentRollPanel);
         frame.add(north, BorderLayout.NORTH);
 
         //Center Section
@@ -69,7 +107,7 @@ public class CrapsController extends JPanel {
         JPanel south = new JPanel();
         south.setBackground(R.Colors.BACKGROUND);
         south.setLayout(new FlowLayout());
-        south.add(new WinPanel(frame));
+        south.add(winPanel);
         frame.add(south, BorderLayout.SOUTH);
         south.setLayout(new FlowLayout(FlowLayout.CENTER));
 
@@ -77,7 +115,8 @@ public class CrapsController extends JPanel {
         JPanel east = new JPanel();
         east.setLayout(new FlowLayout(FlowLayout.CENTER));
         east.setBackground(R.Colors.BACKGROUND);
-        east.add(new BankPanel());
+        BankPanel bankPanel = new BankPanel();
+        east.add(bankPanel);
         frame.add(east, BorderLayout.EAST);
 
         //Left Section
@@ -85,8 +124,11 @@ public class CrapsController extends JPanel {
         west.setLayout(new FlowLayout(FlowLayout.CENTER));
         west.setPreferredSize(new Dimension(155,0));
         west.setBackground(R.Colors.BACKGROUND);
+        west.add(new UpdateOverlay(currentRollPanel.getFrameCoalescer(), winPanel.getFrameCoalescer()));
         frame.add(west, BorderLayout.WEST);
 
+        restoreSession(frame, bankPanel);
+
         // Display the window.
         frame.setResizable(false);
         frame.pack();
@@ -96,4 +138,84 @@ public class CrapsController extends JPanel {
         frame.setSize(WINDOW_SIZE ,WINDOW_SIZE);
         frame.setVisible(true);
     }
+
+    /**
+     * Restores the newest session snapshot, then saves the session
+     * periodically and when the window closes. The state is captured on the
+     * event dispatch thread and written to disk on a background thread,
+     * which the shutdown waits for.
+     *
+     * @param theFrame the main window.
+     * @param theBankPanel the bank panel to bring in line with the restored bank.
+     */
+    private static void restoreSession(final JFrame theFrame, final BankPanel theBankPanel) {
+        final SnapshotStore store;
+        try {
+            store = new SnapshotStore(SNAPSHOT_DIR);
+            final List<GameSnapshot> snapshots = store.readLatest();
+            if (!snapshots.isEmpty()) {
+                snapshots.get(0).restore(CrapsLogic.getCrapsInstance(), BankBetLogic.getBankBetInstance());
+                theBankPanel.restoreView();
+            }
+        } catch (final IOException e) {
+            JOptionPane.showMessageDialog(null, "The last session could not be restored:\n"
+                    + e.getMessage(), "Restore", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        final ExecutorService saver = Executors.newSingleThreadExecutor(theTask -> {
+            final Thread thread = new Thread(theTask, "craps-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        new Timer(SNAPSHOT_MS, theEvent -> saveSession(store, saver)).start();
+        theFrame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(final WindowEvent theEvent) {
+                saveSession(store, saver);
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            saver.shutdown();
+            try {
+                saver.awaitTermination(SHUTDOWN_WAIT_MS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+
+    /**
+     * Captures the session on the event dispatch thread and queues it to be written.
+     *
+     * @param theStore the store to write to.
+     * @param theSaver the thread the snapshot is written on.
+     */
+    private static void saveSession(final SnapshotStore theStore, final ExecutorService theSaver) {
+        final GameSnapshot snapshot = GameSnapshot.capture(0,
+                CrapsLogic.getCrapsInstance(), BankBetLogic.getBankBetInstance());
+        try {
+            theSaver.execute(() -> writeSession(theStore, snapshot));
+        } catch (final RejectedExecutionException e) {
+            // Shutting down, the snapshot queued when the window closed is the last one.
+        }
+    }
+
+    /**
+     * Writes a snapshot of the session, warning the player the first time saving fails.
+     *
+     * @param theStore the store to write to.
+     * @param theSnapshot the captured session.
+     */
+    private static void writeSession(final SnapshotStore theStore, final GameSnapshot theSnapshot) {
+        try {
+            theStore.write(List.of(theSnapshot));
+            SAVE_FAILED.set(false);
+        } catch (final IOException e) {
+            if (SAVE_FAILED.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null,
+                        "The session could not be saved:\n" + e.getMessage(),
+                        "Save", JOptionPane.WARNING_MESSAGE));
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package controller;
 
+import metrics.CrapsMetrics;
 import model.CrapsLogic;
+import model.GameEvent;
+import model.GameEventListener;
 import res.R;
 
 import javax.swing.*;
 import java.awt.*;
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 
 /**
  * Panel for displaying current roll
@@ -15,7 +16,12 @@ import java.beans.PropertyChangeListener;
  * @author Peter Madin
  * @version 0.0.5  December 2, 2023
  */
-public class CurrentRollPanel extends JPanel implements PropertyChangeListener {
+public class CurrentRollPanel extends JPanel implements GameEventListener {
+    /**
+     * Coalesced state that clears the roll fields.
+     */
+    private static final long CLEARED = -1L;
+
     /**
      * Panel for organizing roll details.
      */
@@ -56,6 +62,10 @@ public class CurrentRollPanel extends JPanel implements PropertyChangeListener {
      */
     private final CrapsLogic crapsLogic;
 
+    /**
+     * Coalesces roll updates into at most one render per frame.
+     */
+    private final FrameCoalescer myFrames;
 
     /**
      * Constructs a panel that displays the
@@ -65,8 +75,9 @@ public class CurrentRollPanel extends JPanel implements PropertyChangeListener {
      */
     public CurrentRollPanel() {
         crapsLogic = CrapsLogic.getCrapsInstance();
+        myFrames = new FrameCoalescer(this::render);
         if (crapsLogic != null) {
-            crapsLogic.addPropertyChangeListener(this);
+            crapsLogic.getEventBus().subscribe(this, GameEvent.DICE_ROLL, GameEvent.DISPLAY_RESET);
         }
         myRollPanel = new JPanel(new BorderLayout());
         myDieField1 = new JTextField(10);
@@ -146,24 +157,49 @@ public class CurrentRollPanel extends JPanel implements PropertyChangeListener {
     }
 
     /**
-     * Handles property change events.
+     * Retrieves the coalescer rendering this panel.
+     *
+     * @return the frame coalescer.
+     */
+    public FrameCoalescer getFrameCoalescer() {
+        return myFrames;
+    }
+
+    /**
+     * Handles game events by queueing the latest roll for the next frame.
      *
-     * @param theEvt PropertyChangeEvent instance.
+     * @param theType the type of the event.
+     * @param thePayload the payload of the event.
      */
     @Override
-    public void propertyChange(PropertyChangeEvent theEvt) {
-        if ("diceRoll".equals(theEvt.getPropertyName())) {
-            myDieField1.setText(String.valueOf(crapsLogic.getDice1()));
-            myDieField2.setText(String.valueOf(crapsLogic.getDice2()));
-            myTotal.setText(String.valueOf(crapsLogic.getTotal()));
-            myPoint.setText(String.valueOf(crapsLogic.getPoint()));
+    public void onEvent(final GameEvent theType, final long thePayload) {
+        final long start = CrapsMetrics.start();
+        if (theType == GameEvent.DICE_ROLL) {
+            myFrames.submit(thePayload);
+        }
+
+        if (theType == GameEvent.DISPLAY_RESET) {
+            myFrames.submit(CLEARED);
         }
+        CrapsMetrics.handled(start);
+    }
 
-        if ("displayReset".equals(theEvt.getPropertyName())) {
+    /**
+     * Renders a coalesced roll on the event dispatch thread.
+     *
+     * @param theState the packed roll, or the cleared state.
+     */
+    private void render(final long theState) {
+        if (theState == CLEARED) {
             myDieField1.setText("");
             myDieField2.setText("");
             myTotal.setText("");
             myPoint.setText("");
+        } else {
+            myDieField1.setText(String.valueOf(GameEvent.rollDie1(theState)));
+            myDieField2.setText(String.valueOf(GameEvent.rollDie2(theState)));
+            myTotal.setText(String.valueOf(GameEvent.rollTotal(theState)));
+            myPoint.setText(String.valueOf(GameEvent.rollPoint(theState)));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package controller;
+
+import metrics.CrapsMetrics;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Coalesces high-rate model updates into at most one render per frame.
+ * Any thread may submit a packed state; a Swing timer applies only the
+ * latest one on the event dispatch thread and counts the states that
+ * were replaced before they could be shown.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class FrameCoalescer {
+    /**
+     * Default number of frames per second.
+     */
+    public static final int DEFAULT_FPS = 60;
+
+    /**
+     * Most recently submitted state.
+     */
+    private final AtomicLong myLatest = new AtomicLong();
+
+    /**
+     * Indicates if a state was submitted since the last frame.
+     */
+    private final AtomicBoolean myDirty = new AtomicBoolean();
+
+    /**
+     * Number of states submitted.
+     */
+    private final AtomicLong mySubmitted = new AtomicLong();
+
+    /**
+     * Number of states rendered.
+     */
+    private final AtomicLong myRendered = new AtomicLong();
+
+    /**
+     * Applies a state to the components, called on the event dispatch thread.
+     */
+    private final LongConsumer myRenderer;
+
+    /**
+     * Timer firing once per frame on the event dispatch thread.
+     */
+    private final Timer myTimer;
+
+    /**
+     * Constructs and starts a coalescer at the default frame rate.
+     *
+     * @param theRenderer applies a state to the components.
+     */
+    public FrameCoalescer(final LongConsumer theRenderer) {
+        this(theRenderer, DEFAULT_FPS);
+    }
+
+    /**
+     * Constructs and starts a coalescer.
+     *
+     * @param theRenderer applies a state to the components.
+     * @param theFps the number of frames per second.
+     * @throws IllegalArgumentException if the frame rate is not positive.
+     */
+    public FrameCoalescer(final LongConsumer theRenderer, final int theFps) {
+        if (theFps <= 0) {
+            throw new IllegalArgumentException("The frame rate must be greater than 0, "
+                    + "current value is " + theFps);
+        }
+        myRenderer = theRenderer;
+        myTimer = new Timer(Math.max(1, 1000 / theFps), theEvent -> renderFrame());
+        myTimer.setCoalesce(true);
+        myTimer.start();
+    }
+
+    /**
+     * Submits a new state, replacing any state not yet rendered.
+     * Safe to call from any thread.
+     *
+     * @param theState the packed state to render.
+     */
+    public void submit(final long theState) {
+        myLatest.set(theState);
+        mySubmitted.incrementAndGet();
+        myDirty.set(true);
+    }
+
+    /**
+     * Retrieves the number of submitted states that were never rendered.
+     *
+     * @return the dropped update count.
+     */
+    public long getDropped() {
+        final long pending = myDirty.get() ? 1 : 0;
+        return Math.max(0, mySubmitted.get() - myRendered.get() - pending);
+    }
+
+    /**
+     * Retrieves the number of states rendered.
+     *
+     * @return the rendered update count.
+     */
+    public long getRendered() {
+        return myRendered.get();
+    }
+
+    /**
+     * Stops rendering frames.
+     */
+    public void stop() {
+        myTimer.stop();
+    }
+
+    /**
+     * Renders the latest state if one was submitted since the last frame.
+     */
+    private void renderFrame() {
+        if (myDirty.getAndSet(false)) {
+            final long start = CrapsMetrics.start();
+            myRenderer.accept(myLatest.get());
+            CrapsMetrics.handled(start);
+            myRendered.incrementAndGet();
+        }
+    }
+}
\ No newline at end of file
@@ -1,7 +1,10 @@
 package controller;
 
+import metrics.CrapsMetrics;
 import model.BankBetLogic;
 import model.CrapsLogic;
+import model.GameEvent;
+import model.GameEventListener;
 import res.R;
 import javax.swing.*;
 import java.awt.*;
@@ -9,15 +12,52 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * RollPlayPanel represents the panel for
  * rolling dice and playing the game.
+ * An auto roll mode rolls on a background schedule, placing
+ * the same bet and starting the next round on its own.
  *
  * @author Peter Madin
  * @version 0.0.5  December 5, 2023
  */
-public class RollPlayPanel extends JPanel implements PropertyChangeListener {
+public class RollPlayPanel extends JPanel implements PropertyChangeListener, GameEventListener {
+    /**
+     * Property fired when auto roll is switched on or off.
+     */
+    public static final String AUTO_ROLL = "autoRoll";
+
+    /**
+     * Labels of the selectable auto roll rates.
+     */
+    private static final String[] RATE_LABELS = {"1/s", "10/s", "100/s", "1000/s", "Max"};
+
+    /**
+     * Rolls per second of each selectable rate, 0 rolls as fast as possible.
+     */
+    private static final int[] RATES = {1, 10, 100, 1000, 0};
+
+    /**
+     * Nanoseconds between scheduler ticks when rolling as fast as possible.
+     */
+    private static final long MAX_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Longest time a single burst of rolls may hold the event dispatch thread.
+     */
+    private static final long BURST_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    /**
+     * Milliseconds between updates of the rolls per second readout.
+     */
+    private static final int READOUT_MS = 1000;
+
     /**
      * Panel containing buttons for rolling dice and playing the game.
      */
@@ -43,6 +83,61 @@ public class RollPlayPanel extends JPanel implements PropertyChangeListener {
      */
     private final CrapsLogic crapsLogic;
 
+    /**
+     * Toggle for the auto roll mode.
+     */
+    private final JToggleButton myAutoRoll;
+
+    /**
+     * Selector for the auto roll rate.
+     */
+    private final JComboBox<String> myRate;
+
+    /**
+     * Readout of the achieved rolls per second.
+     */
+    private final JLabel myRollRate;
+
+    /**
+     * Timer updating the rolls per second readout.
+     */
+    private final Timer myReadout;
+
+    /**
+     * Rolls owed by the scheduler but not yet made.
+     */
+    private final AtomicLong myOwed = new AtomicLong();
+
+    /**
+     * Indicates if a burst of rolls is queued on the event dispatch thread.
+     */
+    private final AtomicBoolean myBurstQueued = new AtomicBoolean();
+
+    /**
+     * Scheduler driving auto roll, null when auto roll is off.
+     */
+    private ScheduledExecutorService myScheduler;
+
+    /**
+     * Indicates if auto roll is on.
+     */
+    private volatile boolean myAutoRolling;
+
+    /**
+     * Indicates if the current rate rolls as fast as possible.
+     */
+    private volatile boolean myMaxRate;
+
+    /**
+     * Rolls made by auto roll, only touched on the event dispatch thread.
+     */
+    private long myAutoRolls;
+
+    /**
+     * Auto roll count at the last readout update.
+     */
+    private long myLastReadout;
+
     /**
      * Constructs the RollPlayPanel.
      * @param currentRollPane The current roll panel instance.
@@ -50,12 +145,16 @@ public class RollPlayPanel extends JPanel implements PropertyChangeListener {
     public RollPlayPanel(CurrentRollPanel currentRollPane) {
         crapsLogic = CrapsLogic.getCrapsInstance();
         if (crapsLogic != null) {
-            crapsLogic.addPropertyChangeListener(this);
+            crapsLogic.getEventBus().subscribe(this, GameEvent.ACTIVE, GameEvent.DISPLAY_RESET);
         }
         myRollPanel = currentRollPane;
         myButtons = new JPanel(new BorderLayout());
         myRoll = new JButton("Roll Dice");
         myPlayAgain = new JButton("Play Again");
+        myAutoRoll = new JToggleButton("Auto Roll");
+        myRate = new JComboBox<>(RATE_LABELS);
+        myRollRate = new JLabel(" ");
+        myReadout = new Timer(READOUT_MS, theEvent -> updateReadout());
         add(myRoll);
         add(myPlayAgain);
 
@@ -82,8 +181,20 @@ public class RollPlayPanel extends JPanel implements PropertyChangeListener {
         myPlayAgain.setEnabled(false);
         myRoll.setMnemonic('R');
         myPlayAgain.setMnemonic('P');
+        myAutoRoll.setBackground(R.Colors.BUTTON);
+        myAutoRoll.setForeground(R.Colors.TEXT_LABEL);
+        myAutoRoll.setEnabled(false);
+        myAutoRoll.setMnemonic('A');
+        myRollRate.setForeground(R.Colors.TEXT_LABEL);
+
+        final JPanel auto = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        auto.setBackground(R.Colors.BACKGROUND);
+        auto.add(myAutoRoll);
+        auto.add(myRate);
+        auto.add(myRollRate);
 
         add(myButtons);
+        add(auto, BorderLayout.SOUTH);
     }
 
     /**
@@ -92,6 +203,138 @@ public class RollPlayPanel extends JPanel implements PropertyChangeListener {
     private void addListeners() {
         myRoll.addActionListener(new RollDice());
         myPlayAgain.addActionListener(new PlayAgain());
+        myAutoRoll.addActionListener(theEvent -> {
+            if (myAutoRoll.isSelected()) {
+                startAutoRoll();
+            } else {
+                stopAutoRoll();
+            }
+        });
+        myRate.addActionListener(theEvent -> {
+            if (myAutoRolling) {
+                stopAutoRoll();
+                startAutoRoll();
+            }
+        });
+    }
+
+    /**
+     * Indicates if auto roll is on.
+     *
+     * @return true if the table is rolling on its own.
+     */
+    public boolean isAutoRolling() {
+        return myAutoRolling;
+    }
+
+    /**
+     * Switches auto roll on at the selected rate.
+     * The scheduler only paces the rolls, they are made in
+     * bursts on the event dispatch thread like a button click.
+     */
+    private void startAutoRoll() {
+        final int rate = RATES[myRate.getSelectedIndex()];
+        myMaxRate = rate == 0;
+        myOwed.set(0);
+        myAutoRolls = 0;
+        myLastReadout = 0;
+        myAutoRolling = true;
+        myRoll.setEnabled(false);
+        myPlayAgain.setEnabled(false);
+        myAutoRoll.setSelected(true);
+
+        myScheduler = Executors.newSingleThreadScheduledExecutor(theTask -> {
+            final Thread thread = new Thread(theTask, "craps-auto-roll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long period = myMaxRate ? MAX_TICK_NANOS : TimeUnit.SECONDS.toNanos(1) / rate;
+        myScheduler.scheduleAtFixedRate(this::tick, 0, period, TimeUnit.NANOSECONDS);
+        myReadout.start();
+        firePropertyChange(AUTO_ROLL, false, true);
+    }
+
+    /**
+     * Switches auto roll off and, unless the game was reset,
+     * restores the buttons for the current round.
+     */
+    private void stopAutoRoll() {
+        if (!myAutoRolling) {
+            return;
+        }
+        myAutoRolling = false;
+        myScheduler.shutdownNow();
+        myScheduler = null;
+        myReadout.stop();
+        myRollRate.setText(" ");
+        myAutoRoll.setSelected(false);
+        if (myAutoRoll.isEnabled()) {
+            myRoll.setEnabled(crapsLogic.isGameActive());
+            myPlayAgain.setEnabled(!crapsLogic.isGameActive());
+        }
+        firePropertyChange(AUTO_ROLL, true, false);
+    }
+
+    /**
+     * Scheduler tick, owes one more roll and queues a burst if none is queued.
+     */
+    private void tick() {
+        if (!myMaxRate) {
+            myOwed.incrementAndGet();
+        }
+        if (myBurstQueued.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::rollBurst);
+        }
+    }
+
+    /**
+     * Makes the owed rolls, or as many as fit in one burst at the max rate,
+     * without holding the event dispatch thread longer than a burst.
+     */
+    private void rollBurst() {
+        myBurstQueued.set(false);
+        final long deadline = System.nanoTime() + BURST_NANOS;
+        while (myAutoRolling && System.nanoTime() < deadline) {
+            if (!myMaxRate && myOwed.getAndUpdate(theOwed -> Math.max(0, theOwed - 1)) == 0) {
+                return;
+            }
+            if (!autoStep()) {
+                stopAutoRoll();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Makes one auto roll, placing the same bet and
+     * starting the next round when the last one was decided.
+     *
+     * @return false if the game ended and auto roll must stop.
+     */
+    private boolean autoStep() {
+        final BankBetLogic bank = crapsLogic.getBank();
+        if (!crapsLogic.isGameActive()) {
+            if (crapsLogic.checkBankBalance()) {
+                return false;
+            }
+            crapsLogic.softReset();
+            bank.setBetCents(Math.min(bank.getBetCents(), bank.getBankCents()));
+        }
+        if (!bank.getBetSet()) {
+            return false;
+        }
+        crapsLogic.roll();
+        myAutoRolls++;
+        return !crapsLogic.checkBankBalance();
+    }
+
+    /**
+     * Updates the rolls per second readout.
+     */
+    private void updateReadout() {
+        final long rolls = myAutoRolls - myLastReadout;
+        myLastReadout = myAutoRolls;
+        myRollRate.setText(rolls * 1000 / READOUT_MS + " rolls/s");
     }
 
     /**
@@ -129,29 +372,44 @@ public class RollPlayPanel extends JPanel implements PropertyChangeListener {
     }
 
     /**
-     * Handles property change events.
+     * Handles property change events from the menu bar.
      * @param theEvt The PropertyChangeEvent instance.
      */
     @Override
     public void propertyChange(PropertyChangeEvent theEvt) {
+        final long start = CrapsMetrics.start();
         if ("start".equals(theEvt.getPropertyName())) {
             if ((boolean) theEvt.getNewValue()) {
                 myRoll.setEnabled(true);
+                myAutoRoll.setEnabled(true);
                 myPlayAgain.setFocusable(true);
             }
         }
+        CrapsMetrics.handled(start);
+    }
 
-        if ("active".equals(theEvt.getPropertyName())) {
-            if (!((boolean) theEvt.getNewValue())) {
+    /**
+     * Handles game events.
+     * @param theType The type of the event.
+     * @param thePayload The payload of the event.
+     */
+    @Override
+    public void onEvent(final GameEvent theType, final long thePayload) {
+        final long start = CrapsMetrics.start();
+        if (theType == GameEvent.ACTIVE) {
+            if (thePayload == 0 && !myAutoRolling) {
                 myRoll.setEnabled(false);
                 myPlayAgain.setEnabled(true);
             }
         }
 
-        if ("displayReset".equals(theEvt.getPropertyName())) {
+        if (theType == GameEvent.DISPLAY_RESET) {
             myPlayAgain.setEnabled(false);
             myPlayAgain.setFocusable(false);
             myRoll.setEnabled(false);
+            myAutoRoll.setEnabled(false);
+            stopAutoRoll();
         }
+        CrapsMetrics.handled(start);
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package controller;
+
+import res.R;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Small overlay that reports how many display updates were
+ * coalesced away instead of being rendered.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public class UpdateOverlay extends JPanel {
+    /**
+     * Milliseconds between refreshes of the overlay.
+     */
+    private static final int REFRESH_MS = 250;
+
+    /**
+     * Coalescers whose dropped updates are reported.
+     */
+    private final FrameCoalescer[] myCoalescers;
+
+    /**
+     * Label showing the dropped update count.
+     */
+    private final JLabel myDropped;
+
+    /**
+     * Constructs the overlay and starts refreshing it.
+     *
+     * @param theCoalescers the coalescers to report on.
+     */
+    public UpdateOverlay(final FrameCoalescer... theCoalescers) {
+        myCoalescers = theCoalescers.clone();
+        myDropped = new JLabel();
+        setBackground(R.Colors.BACKGROUND);
+        myDropped.setForeground(R.Colors.TEXT_LABEL);
+        myDropped.setFont(myDropped.getFont().deriveFont(Font.PLAIN, 11f));
+        add(myDropped);
+        refresh();
+        new Timer(REFRESH_MS, theEvent -> refresh()).start();
+    }
+
+    /**
+     * Updates the label with the current dropped update count.
+     */
+    private void refresh() {
+        long dropped = 0;
+        for (final FrameCoalescer coalescer : myCoalescers) {
+            dropped += coalescer.getDropped();
+        }
+        myDropped.setText("Dropped updates: " + dropped);
+    }
+}
\ No newline at end of file
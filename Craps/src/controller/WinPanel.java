@@ -1,7 +1,10 @@
 package controller;
 
+import metrics.CrapsMetrics;
 import model.BankBetLogic;
 import model.CrapsLogic;
+import model.GameEvent;
+import model.GameEventListener;
 import res.R;
 
 import javax.swing.*;
@@ -13,11 +16,20 @@ import java.beans.PropertyChangeListener;
  * Winning panel which displays the total wins of
  * the player and house.
  * Also get notification of changes from the dice
+ * and keeps the win and loss dialogs quiet while the table
+ * is auto rolling, though running out of money is always shown.
+ * The dialogs are shown after the event has been handled, so the
+ * time a player takes to dismiss one is not measured as handler latency.
  *
  * @author Peter Madin
  * @version 0.0.5  December 5, 2023
  */
-public class WinPanel extends JPanel implements PropertyChangeListener {
+public class WinPanel extends JPanel implements GameEventListener, PropertyChangeListener {
+    /**
+     * Coalesced state that clears the win totals.
+     */
+    private static final long CLEARED = -1L;
+
     /**
      * The panel responsible for displaying win statistics in the UI.
      */
@@ -53,6 +65,16 @@ public class WinPanel extends JPanel implements PropertyChangeListener {
      */
     private final CrapsLogic myCraps;
 
+    /**
+     * Coalesces win total updates into at most one render per frame.
+     */
+    private final FrameCoalescer myFrames;
+
+    /**
+     * Indicates if win and loss dialogs are suppressed because the table is auto rolling.
+     */
+    private boolean myAutoRolling;
+
     /**
      * Constructor for the WinPanel class.
      *
@@ -61,8 +83,10 @@ public class WinPanel extends JPanel implements PropertyChangeListener {
     public WinPanel(final JFrame theFrame) {
         myMainFrame = theFrame;
         myCraps = CrapsLogic.getCrapsInstance();
+        myFrames = new FrameCoalescer(this::render);
         if (myCraps != null) {
-            myCraps.addPropertyChangeListener(this);
+            myCraps.getEventBus().subscribe(this, GameEvent.DICE_ROLL, GameEvent.WIN_STATUS,
+                    GameEvent.WIN_DISPLAY, GameEvent.DISPLAY_RESET, GameEvent.GAME_OVER);
         }
         myWinPanel = new JPanel(new BorderLayout());
         myPlayerWins = new JTextField(10);
@@ -142,60 +166,117 @@ public class WinPanel extends JPanel implements PropertyChangeListener {
 
 
     /**
-     * Handles property change events triggered during the Craps game.
+     * Retrieves the coalescer rendering this panel.
+     *
+     * @return the frame coalescer.
+     */
+    public FrameCoalescer getFrameCoalescer() {
+        return myFrames;
+    }
+
+    /**
+     * Handles game events triggered during the Craps game.
+     * Win totals are rendered on the next frame, settlement happens immediately.
      *
-     * @param theEvt The PropertyChangeEvent object indicating a change in properties.
+     * @param theType the type of the event.
+     * @param thePayload the payload of the event.
      */
     @Override
-    public void propertyChange(PropertyChangeEvent theEvt) {
-        if ("diceRoll".equals(theEvt.getPropertyName())) {
-            myPlayerWins.setText(String.valueOf(myCraps.getPlayerWins()));
-            myHouseWins.setText(String.valueOf(myCraps.getHouseWins()));
+    public void onEvent(final GameEvent theType, final long thePayload) {
+        final long start = CrapsMetrics.start();
+        if (theType == GameEvent.DICE_ROLL) {
+            submitTotals();
         }
 
 
-        if ("winStatus".equals(theEvt.getPropertyName())) {
-            if ((boolean) theEvt.getNewValue()) {
-                myPlayerWins.setText(String.valueOf(myCraps.getPlayerWins()));
-                myHouseWins.setText(String.valueOf(myCraps.getHouseWins()));
+        if (theType == GameEvent.WIN_STATUS) {
+            if (thePayload != 0) {
+                submitTotals();
                 BankBetLogic bank = BankBetLogic.getBankBetInstance();
                 bank.bettingWinLost();
             }
         }
 
-        if ("winDisplay".equals(theEvt.getPropertyName())) {
-            if ((boolean) theEvt.getNewValue()) {
+        if (theType == GameEvent.WIN_DISPLAY && !myAutoRolling) {
+            if (thePayload != 0) {
                 String message = "<html>"
                         + "<div style='text-align:center;'>"
                         + "<h1>Congratulations!</h1>"
                         + "</div>"
                         + "<p>You have won!</p>";
-                JOptionPane.showMessageDialog(myMainFrame, message, "Winner", JOptionPane.INFORMATION_MESSAGE);
+                showMessage(message, "Winner");
             } else {
                 String message = "<html>"
                         + "<div style='text-align:center;'>"
                         + "<h1>Unfortunate!</h1>"
                         + "</div>"
                         + "<p>You have lost!</p>";
-                JOptionPane.showMessageDialog(myMainFrame, message, "Loser", JOptionPane.INFORMATION_MESSAGE);
+                showMessage(message, "Loser");
             }
         }
 
-        if ("displayReset".equals(theEvt.getPropertyName())) {
-            myPlayerWins.setText("");
-            myHouseWins.setText("");
+        if (theType == GameEvent.DISPLAY_RESET) {
+            myFrames.submit(CLEARED);
         }
 
-        if ("gameOver".equals(theEvt.getPropertyName())) {
-            if ((boolean) theEvt.getNewValue()) {
+        if (theType == GameEvent.GAME_OVER) {
+            if (thePayload != 0) {
                 String message = "<html>"
                         + "<div style='text-align:center;'>"
                         + "<h1>That's Unfortunate!</h1>"
                         + "</div>"
                         + "<p>You have no more money</p>"
                         + "<p>Game Reset...</p>";
-                JOptionPane.showMessageDialog(myMainFrame, message, "No Money Left", JOptionPane.INFORMATION_MESSAGE);
+                showMessage(message, "No Money Left");
             }
         }
+        CrapsMetrics.handled(start);
+    }
+
+    /**
+     * Shows a message dialog once the current event has been handled.
+     *
+     * @param theMessage the message of the dialog.
+     * @param theTitle the title of the dialog.
+     */
+    private void showMessage(final String theMessage, final String theTitle) {
+        SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(myMainFrame, theMessage, theTitle,
+                JOptionPane.INFORMATION_MESSAGE));
+    }
+
+    /**
+     * Handles auto roll changes from the roll panel.
+     *
+     * @param theEvt The PropertyChangeEvent instance.
+     */
+    @Override
+    public void propertyChange(final PropertyChangeEvent theEvt) {
+        final long start = CrapsMetrics.start();
+        if (RollPlayPanel.AUTO_ROLL.equals(theEvt.getPropertyName())) {
+            myAutoRolling = (boolean) theEvt.getNewValue();
+        }
+        CrapsMetrics.handled(start);
+    }
+
+    /**
+     * Queues the current win totals, player wins in the high half.
+     */
+    private void submitTotals() {
+        myFrames.submit((long) myCraps.getPlayerWins() << 32 | myCraps.getHouseWins());
+    }
+
+    /**
+     * Renders coalesced win totals on the event dispatch thread.
+     *
+     * @param theState the packed totals, or the cleared state.
+     */
+    private void render(final long theState) {
+        if (theState == CLEARED) {
+            myPlayerWins.setText("");
+            myHouseWins.setText("");
+        } else {
+            myPlayerWins.setText(String.valueOf(theState >>> 32));
+            myHouseWins.setText(String.valueOf((int) theState));
+        }
     }
 }
\ No newline at end of file
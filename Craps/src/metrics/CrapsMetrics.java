@@ -0,0 +1,425 @@
+package metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of the game's hot paths, published over JMX.
+ * <p>
+ * The models, the event bus and the panels report through the static methods,
+ * which do nothing unless the JVM was started with {@code -Dcraps.metrics=true}.
+ * The switch is a static final constant, so when it is off the JIT removes the
+ * calls and the clock reads entirely. When it is on, counters are
+ * {@link LongAdder}s and latencies go to {@link LatencyHistogram}s, so
+ * recording never blocks or allocates, and the global metrics are registered
+ * as the MBean {@value #OBJECT_NAME}. Reading the clock costs more than the
+ * sections it times, so only one section in {@code craps.metrics.sample},
+ * 16 by default, is timed; the counters count every call.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class CrapsMetrics implements CrapsMetricsMBean {
+    /**
+     * Indicates if the hot paths record metrics, read once from the craps.metrics system property.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("craps.metrics");
+
+    /**
+     * Mask of the random bits that must be 0 for a section to be timed, one less
+     * than the craps.metrics.sample power of two.
+     */
+    private static final int SAMPLE_MASK =
+            Integer.highestOneBit(Math.max(1, Integer.getInteger("craps.metrics.sample", 16))) - 1;
+
+    /**
+     * Name the global metrics are registered under.
+     */
+    public static final String OBJECT_NAME = "craps:type=Metrics";
+
+    /**
+     * Metrics the hot paths report to.
+     */
+    private static final CrapsMetrics GLOBAL = new CrapsMetrics();
+
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    /**
+     * Number of dice rolls.
+     */
+    private final LongAdder myRolls = new LongAdder();
+
+    /**
+     * Number of rounds decided.
+     */
+    private final LongAdder myDecisions = new LongAdder();
+
+    /**
+     * Number of bets placed.
+     */
+    private final LongAdder myBets = new LongAdder();
+
+    /**
+     * Number of bank settlements.
+     */
+    private final LongAdder mySettlements = new LongAdder();
+
+    /**
+     * Number of events dispatched.
+     */
+    private final LongAdder myEvents = new LongAdder();
+
+    /**
+     * Latencies of dispatching an event to its listeners.
+     */
+    private final LatencyHistogram myDispatch = new LatencyHistogram();
+
+    /**
+     * Latencies of legacy property change firing.
+     */
+    private final LatencyHistogram myPropertyChange = new LatencyHistogram();
+
+    /**
+     * Latencies of panel event handlers and frame renders.
+     */
+    private final LatencyHistogram myHandler = new LatencyHistogram();
+
+    /**
+     * Time the metrics were created or last reset, from {@link System#nanoTime()}.
+     */
+    private volatile long myStarted = System.nanoTime();
+
+    /**
+     * Constructs empty metrics. The hot paths report to {@link #getGlobal()}.
+     */
+    public CrapsMetrics() {
+        // the counters and histograms start empty
+    }
+
+    /**
+     * Retrieves the metrics the hot paths report to.
+     *
+     * @return the global metrics.
+     */
+    public static CrapsMetrics getGlobal() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers the global metrics with the platform MBean server, if not already registered.
+     *
+     * @return true if the metrics are registered.
+     */
+    public static synchronized boolean register() {
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(GLOBAL, name);
+            }
+            return true;
+        } catch (final JMException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reports a dice roll.
+     */
+    public static void rolled() {
+        if (ENABLED) {
+            GLOBAL.recordRoll();
+        }
+    }
+
+    /**
+     * Reports a decided round.
+     */
+    public static void decided() {
+        if (ENABLED) {
+            GLOBAL.recordDecision();
+        }
+    }
+
+    /**
+     * Reports a bet placed.
+     */
+    public static void betPlaced() {
+        if (ENABLED) {
+            GLOBAL.recordBet();
+        }
+    }
+
+    /**
+     * Reports a bank paid or charged for its bets.
+     */
+    public static void settled() {
+        if (ENABLED) {
+            GLOBAL.recordSettlement();
+        }
+    }
+
+    /**
+     * Reads the clock at the start of a section, if the section is sampled.
+     *
+     * @return the start time, or 0 when metrics are off or the section is not timed.
+     */
+    public static long start() {
+        if (!ENABLED || (ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Reports an event dispatched to its listeners.
+     *
+     * @param theStart the time from {@link #start()} before the dispatch.
+     */
+    public static void dispatched(final long theStart) {
+        if (ENABLED) {
+            GLOBAL.recordEvent();
+            if (theStart != 0) {
+                GLOBAL.recordDispatch(System.nanoTime() - theStart);
+            }
+        }
+    }
+
+    /**
+     * Reports a legacy property change fired.
+     *
+     * @param theStart the time from {@link #start()} before firing.
+     */
+    public static void propertyChanged(final long theStart) {
+        if (ENABLED && theStart != 0) {
+            GLOBAL.recordPropertyChange(System.nanoTime() - theStart);
+        }
+    }
+
+    /**
+     * Reports a panel event handler or frame render finished.
+     *
+     * @param theStart the time from {@link #start()} before the handler ran.
+     */
+    public static void handled(final long theStart) {
+        if (ENABLED && theStart != 0) {
+            GLOBAL.recordHandler(System.nanoTime() - theStart);
+        }
+    }
+
+    /**
+     * Counts a dice roll.
+     */
+    public void recordRoll() {
+        myRolls.increment();
+    }
+
+    /**
+     * Counts a decided round.
+     */
+    public void recordDecision() {
+        myDecisions.increment();
+    }
+
+    /**
+     * Counts a bet placed.
+     */
+    public void recordBet() {
+        myBets.increment();
+    }
+
+    /**
+     * Counts a bank settlement.
+     */
+    public void recordSettlement() {
+        mySettlements.increment();
+    }
+
+    /**
+     * Counts an event dispatched.
+     */
+    public void recordEvent() {
+        myEvents.increment();
+    }
+
+    /**
+     * Records the time to dispatch an event.
+     *
+     * @param theNanos the latency in nanoseconds.
+     */
+    public void recordDispatch(final long theNanos) {
+        myDispatch.record(theNanos);
+    }
+
+    /**
+     * Records the time to fire a legacy property change.
+     *
+     * @param theNanos the latency in nanoseconds.
+     */
+    public void recordPropertyChange(final long theNanos) {
+        myPropertyChange.record(theNanos);
+    }
+
+    /**
+     * Records the time spent in a panel event handler or frame render.
+     *
+     * @param theNanos the latency in nanoseconds.
+     */
+    public void recordHandler(final long theNanos) {
+        myHandler.record(theNanos);
+    }
+
+    /**
+     * Retrieves the latencies of dispatching events.
+     *
+     * @return the dispatch histogram.
+     */
+    public LatencyHistogram getDispatchLatency() {
+        return myDispatch;
+    }
+
+    /**
+     * Retrieves the latencies of legacy property changes.
+     *
+     * @return the property change histogram.
+     */
+    public LatencyHistogram getPropertyChangeLatency() {
+        return myPropertyChange;
+    }
+
+    /**
+     * Retrieves the latencies of panel handlers and frame renders.
+     *
+     * @return the handler histogram.
+     */
+    public LatencyHistogram getHandlerLatency() {
+        return myHandler;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public long getRolls() {
+        return myRolls.sum();
+    }
+
+    @Override
+    public long getDecisions() {
+        return myDecisions.sum();
+    }
+
+    @Override
+    public long getBets() {
+        return myBets.sum();
+    }
+
+    @Override
+    public long getSettlements() {
+        return mySettlements.sum();
+    }
+
+    @Override
+    public long getEvents() {
+        return myEvents.sum();
+    }
+
+    @Override
+    public double getRollsPerSecond() {
+        return rate(myRolls.sum());
+    }
+
+    @Override
+    public double getDecisionsPerSecond() {
+        return rate(myDecisions.sum());
+    }
+
+    /**
+     * Computes a per second rate since the metrics were created or last reset.
+     *
+     * @param theCount the count.
+     * @return the rate.
+     */
+    private double rate(final long theCount) {
+        final long elapsed = System.nanoTime() - myStarted;
+        return elapsed <= 0 ? 0 : theCount * 1e9 / elapsed;
+    }
+
+    @Override
+    public long getDispatchP50Nanos() {
+        return myDispatch.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getDispatchP99Nanos() {
+        return myDispatch.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getDispatchP999Nanos() {
+        return myDispatch.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getPropertyChangeP50Nanos() {
+        return myPropertyChange.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getPropertyChangeP99Nanos() {
+        return myPropertyChange.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getPropertyChangeP999Nanos() {
+        return myPropertyChange.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getHandlerP50Nanos() {
+        return myHandler.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getHandlerP99Nanos() {
+        return myHandler.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getHandlerP999Nanos() {
+        return myHandler.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public void reset() {
+        myRolls.reset();
+        myDecisions.reset();
+        myBets.reset();
+        mySettlements.reset();
+        myEvents.reset();
+        myDispatch.reset();
+        myPropertyChange.reset();
+        myHandler.reset();
+        myStarted = System.nanoTime();
+    }
+
+    /**
+     * Generates a string of the counts and the dispatch latencies.
+     *
+     * @return a string representing the metrics.
+     */
+    @Override
+    public String toString() {
+        return "Metrics: " + getRolls() + " rolls, " + getDecisions() + " decisions, " + getBets() + " bets, "
+                + getSettlements() + " settlements, " + getEvents() + " events\ndispatch: " + myDispatch
+                + "\nproperty change: " + myPropertyChange + "\nhandler: " + myHandler;
+    }
+}
\ No newline at end of file
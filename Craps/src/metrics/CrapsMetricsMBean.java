@@ -0,0 +1,135 @@
+package metrics;
+
+/**
+ * Management interface of {@link CrapsMetrics}, the attributes shown by a JMX console.
+ * Counts and rates cover the time since the metrics were created or last reset;
+ * latencies are in nanoseconds, taken from the sampled sections.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public interface CrapsMetricsMBean {
+    /**
+     * Indicates if the hot paths record metrics, set by the craps.metrics system property.
+     *
+     * @return true if metrics are recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Retrieves the number of dice rolls.
+     *
+     * @return the rolls.
+     */
+    long getRolls();
+
+    /**
+     * Retrieves the number of rounds decided.
+     *
+     * @return the decisions.
+     */
+    long getDecisions();
+
+    /**
+     * Retrieves the number of bets placed.
+     *
+     * @return the bets.
+     */
+    long getBets();
+
+    /**
+     * Retrieves the number of times a bank was paid or charged for its bets.
+     *
+     * @return the settlements.
+     */
+    long getSettlements();
+
+    /**
+     * Retrieves the number of events dispatched to listeners.
+     *
+     * @return the events.
+     */
+    long getEvents();
+
+    /**
+     * Computes the rolls per second.
+     *
+     * @return the roll rate.
+     */
+    double getRollsPerSecond();
+
+    /**
+     * Computes the rounds decided per second.
+     *
+     * @return the decision rate.
+     */
+    double getDecisionsPerSecond();
+
+    /**
+     * Retrieves the median time to dispatch an event to its listeners.
+     *
+     * @return the p50 dispatch latency.
+     */
+    long getDispatchP50Nanos();
+
+    /**
+     * Retrieves the 99th percentile time to dispatch an event to its listeners.
+     *
+     * @return the p99 dispatch latency.
+     */
+    long getDispatchP99Nanos();
+
+    /**
+     * Retrieves the 99.9th percentile time to dispatch an event to its listeners.
+     *
+     * @return the p999 dispatch latency.
+     */
+    long getDispatchP999Nanos();
+
+    /**
+     * Retrieves the median time of a legacy firePropertyChange.
+     *
+     * @return the p50 property change latency.
+     */
+    long getPropertyChangeP50Nanos();
+
+    /**
+     * Retrieves the 99th percentile time of a legacy firePropertyChange.
+     *
+     * @return the p99 property change latency.
+     */
+    long getPropertyChangeP99Nanos();
+
+    /**
+     * Retrieves the 99.9th percentile time of a legacy firePropertyChange.
+     *
+     * @return the p999 property change latency.
+     */
+    long getPropertyChangeP999Nanos();
+
+    /**
+     * Retrieves the median time spent in a panel's event handler or frame render.
+     *
+     * @return the p50 handler latency.
+     */
+    long getHandlerP50Nanos();
+
+    /**
+     * Retrieves the 99th percentile time spent in a panel's event handler or frame render.
+     *
+     * @return the p99 handler latency.
+     */
+    long getHandlerP99Nanos();
+
+    /**
+     * Retrieves the 99.9th percentile time spent in a panel's event handler or frame render.
+     *
+     * @return the p999 handler latency.
+     */
+    long getHandlerP999Nanos();
+
+    /**
+     * Forgets every count and latency and restarts the rates.
+     */
+    void reset();
+}
\ No newline at end of file
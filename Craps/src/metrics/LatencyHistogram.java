@@ -0,0 +1,224 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe histogram of latencies in nanoseconds with log-linear buckets.
+ * <p>
+ * Values below {@link #SUB_BUCKETS} have a bucket each. Above that every power
+ * of two is split into {@code SUB_BUCKETS / 2} equal buckets, so a value is
+ * known to within 1 part in 64 whatever its size, and the whole range up to
+ * {@link #MAX_VALUE} fits in a few thousand counters. Recording is one atomic
+ * increment and never allocates; percentiles read while values are recorded
+ * are approximate.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class LatencyHistogram {
+    /**
+     * Number of bits of a value kept exactly within its power of two.
+     */
+    private static final int SUB_BITS = 7;
+
+    /**
+     * Number of buckets below the first split power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * Number of buckets per power of two above {@link #SUB_BUCKETS}.
+     */
+    private static final int HALF_BUCKETS = SUB_BUCKETS / 2;
+
+    /**
+     * Highest bit of the largest value kept apart, about 36 minutes in nanoseconds.
+     */
+    private static final int MAX_BIT = 40;
+
+    /**
+     * Largest value kept apart; larger values count in the last bucket.
+     */
+    public static final long MAX_VALUE = (1L << MAX_BIT + 1) - 1;
+
+    /**
+     * Number of counters.
+     */
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    /**
+     * Number of values in each bucket.
+     */
+    private final AtomicLongArray myCounts;
+
+    /**
+     * Number of values recorded.
+     */
+    private final LongAdder myCount;
+
+    /**
+     * Sum of the values recorded.
+     */
+    private final LongAdder mySum;
+
+    /**
+     * Largest value recorded.
+     */
+    private final AtomicLong myMax;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        myCounts = new AtomicLongArray(BUCKETS);
+        myCount = new LongAdder();
+        mySum = new LongAdder();
+        myMax = new AtomicLong();
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param theNanos the latency in nanoseconds; negative values count as 0.
+     */
+    public void record(final long theNanos) {
+        final long value = Math.max(0, theNanos);
+        myCounts.getAndIncrement(index(Math.min(value, MAX_VALUE)));
+        myCount.increment();
+        mySum.add(value);
+        if (value > myMax.get()) {
+            myMax.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Computes the bucket of a value.
+     *
+     * @param theValue the value, from 0 to {@link #MAX_VALUE}.
+     * @return the bucket index.
+     */
+    private static int index(final long theValue) {
+        if (theValue < SUB_BUCKETS) {
+            return (int) theValue;
+        }
+        final int shift = 64 - Long.numberOfLeadingZeros(theValue) - SUB_BITS;
+        return shift * HALF_BUCKETS + (int) (theValue >>> shift);
+    }
+
+    /**
+     * Computes the largest value that falls in a bucket.
+     *
+     * @param theIndex the bucket index.
+     * @return the highest value of the bucket.
+     */
+    private static long highestValue(final int theIndex) {
+        if (theIndex < SUB_BUCKETS) {
+            return theIndex;
+        }
+        final int shift = theIndex / HALF_BUCKETS - 1;
+        final long mantissa = theIndex - shift * HALF_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Adds the values of another histogram to this one.
+     *
+     * @param theOther the histogram to add.
+     */
+    public void add(final LatencyHistogram theOther) {
+        for (int i = 0; i < BUCKETS; i++) {
+            final long count = theOther.myCounts.get(i);
+            if (count != 0) {
+                myCounts.addAndGet(i, count);
+            }
+        }
+        myCount.add(theOther.myCount.sum());
+        mySum.add(theOther.mySum.sum());
+        myMax.accumulateAndGet(theOther.myMax.get(), Math::max);
+    }
+
+    /**
+     * Forgets every value recorded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            myCounts.set(i, 0);
+        }
+        myCount.reset();
+        mySum.reset();
+        myMax.set(0);
+    }
+
+    /**
+     * Retrieves the number of values recorded.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+        return myCount.sum();
+    }
+
+    /**
+     * Retrieves the largest value recorded.
+     *
+     * @return the maximum in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return myMax.get();
+    }
+
+    /**
+     * Computes the mean of the values recorded.
+     *
+     * @return the mean in nanoseconds, 0 if nothing was recorded.
+     */
+    public double getMean() {
+        final long count = myCount.sum();
+        return count == 0 ? 0 : (double) mySum.sum() / count;
+    }
+
+    /**
+     * Finds the value below or at which a share of the values fall.
+     *
+     * @param thePercentile the share in percent, from 0 to 100.
+     * @return the highest value of the bucket holding the percentile, at most
+     * the largest value recorded, or 0 if nothing was recorded.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long getValueAtPercentile(final double thePercentile) {
+        if (!(thePercentile >= 0 && thePercentile <= 100)) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100, "
+                    + "current value is " + thePercentile);
+        }
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += myCounts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(thePercentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += myCounts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValue(i), myMax.get());
+            }
+        }
+        return myMax.get();
+    }
+
+    /**
+     * Generates a string of the count and the main percentiles in microseconds.
+     *
+     * @return a string representing the histogram.
+     */
+    @Override
+    public String toString() {
+        return String.format("count %d, p50 %.1f us, p99 %.1f us, p999 %.1f us, max %.1f us",
+                getCount(), getValueAtPercentile(50) / 1e3, getValueAtPercentile(99) / 1e3,
+                getValueAtPercentile(99.9) / 1e3, getMax() / 1e3);
+    }
+}
\ No newline at end of file
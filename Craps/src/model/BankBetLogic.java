@@ -1,21 +1,29 @@
 package model;
 
+import metrics.CrapsMetrics;
+
 import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 
 /**
  * Manages betting and banking functionality in a Craps game.
  * Tracks bank and bet amounts, adjusts bets and bank balances,
  * and facilitates notification for property changes.
+ * Amounts are kept in {@link Money} cents and published as cents;
+ * the int methods work in whole dollars.
  * @author Peter Madin
  * @version 0.0.2  December 10, 2023
  */
-public class BankBetLogic {
+public class BankBetLogic implements BankView {
+
+    /**
+     * Publishes the typed events related to the bank and bets.
+     */
+    private final GameEventBus myBankChange;
 
     /**
-     * Handles property change events related to the bank and bets.
+     * Republishes events to PropertyChangeListeners, created with the first one.
      */
-    private final PropertyChangeSupport myBankChange;
+    private PropertyChangeBridge myBridge;
 
     /**
      * Represents the singleton instance of the BankBetLogic class.
@@ -23,14 +31,14 @@ public class BankBetLogic {
     private static final BankBetLogic myInstance = new BankBetLogic();
 
     /**
-     * Stores the current amount in the bank.
+     * Stores the current amount in the bank, in cents.
      */
-    private int myBankAmount;
+    private long myBankCents;
 
     /**
-     * Stores the current bet amount.
+     * Stores the current bet amount, in cents.
      */
-    private int myBetAmount;
+    private long myBetCents;
 
     /**
      * Indicates if the bank amount is set.
@@ -47,17 +55,28 @@ public class BankBetLogic {
      */
     private boolean myCheckReduction;
 
+    /**
+     * Bets on the table besides the pass line bet, settled on every roll.
+     */
+    private final BetLayout myTableBets;
+
+    /**
+     * The game this bank settles against, or null to use the singleton game.
+     */
+    private CrapsLogic myCraps;
+
     /**
      * Constructs a new instance of BankBetLogic with initial values.
-     * Initializes the bank and bet amounts to zero, sets up property change support,
+     * Initializes the bank and bet amounts to zero, sets up the event bus,
      * and configures the initial state of bank and bet settings.
      */
     public BankBetLogic() {
         myCheckReduction = true;
-        myBankAmount = 0;
-        myBetAmount = 0;
-        myBankChange = new PropertyChangeSupport(this);
+        myBankCents = 0;
+        myBetCents = 0;
+        myBankChange = new GameEventBus();
         myBankSet = false;
+        myTableBets = new BetLayout();
     }
 
 
@@ -67,7 +86,7 @@ public class BankBetLogic {
      * @param theOffSet The value to be added to the current bet amount.
      */
     public void adjustBet(final int theOffSet) {
-        setBetAmount(myBetAmount + theOffSet);
+        setBetCents(Money.add(myBetCents, Money.ofDollars(theOffSet)));
     }
 
     /**
@@ -76,7 +95,7 @@ public class BankBetLogic {
      * @param theOffSet The value to be subtracted from the current bank amount.
      */
     public void adjustBank(final int theOffSet) {
-        setBankAmount(myBankAmount - theOffSet);
+        setBankCents(Money.subtract(myBankCents, Money.ofDollars(theOffSet)));
     }
 
     /**
@@ -85,16 +104,26 @@ public class BankBetLogic {
      * @param theNewBet The new bet value to be checked against the current bet amount.
      */
     public void checkBetReduce(int theNewBet) {
-        int previousBet = myBetAmount;
-        int diff = 0;
-        if (theNewBet >= previousBet) {
-            diff = theNewBet - previousBet;
-            myBankAmount -= diff;
-            myBetAmount = theNewBet;
+        checkBetReduceCents(Money.ofDollars(theNewBet));
+    }
+
+    /**
+     * Checks and adjusts the bet and bank amounts based on the new bet value in cents.
+     *
+     * @param theNewBet The new bet value in cents.
+     */
+    private void checkBetReduceCents(final long theNewBet) {
+        long newBet = theNewBet;
+        long previousBet = myBetCents;
+        long diff = 0;
+        if (newBet >= previousBet) {
+            diff = newBet - previousBet;
+            myBankCents = Money.subtract(myBankCents, diff);
+            myBetCents = newBet;
         }
         if (diff == 0) {
-            myBankAmount -= theNewBet;
-            myBetAmount = theNewBet;
+            myBankCents = Money.subtract(myBankCents, newBet);
+            myBetCents = newBet;
         }
     }
 
@@ -102,26 +131,152 @@ public class BankBetLogic {
      * Resets the bank and bet amounts to zero and notifies property listeners of the reset.
      */
     public void resetBankAndBet() {
-        myBankChange.firePropertyChange("bankReset",null,this);
-        myBankAmount = 0;
-        myBetAmount = 0;
+        myBankChange.publish(GameEvent.BANK_RESET, 0);
+        myBankCents = 0;
+        myBetCents = 0;
+        myTableBets.clear();
     }
 
     /**
      * Reset game when bank is at 0.
      */
     public void gameEnd() {
-        myBankChange.firePropertyChange("gameOver", null, true);
+        myBankChange.publish(GameEvent.GAME_OVER, 1);
     }
 
     /**
      * Adjusts the bank amount based on the game outcome (win or loss).
      */
     public void bettingWinLost() {
-        CrapsLogic craps = CrapsLogic.getCrapsInstance();
+        CrapsLogic craps = getCraps();
+        CrapsMetrics.settled();
         if (craps.getGameWon()) {
-            setBankAmount(getBankAmount() + getBetAmount() * 2);
+            setBankCents(Money.add(myBankCents, Money.times(myBetCents, 2)));
+        }
+    }
+
+    /**
+     * Places a bet from the catalog, taking its amount from the bank.
+     * Bets are only taken while a round is in play, and free odds only
+     * behind a line bet on their number; the main bet is the pass line
+     * bet behind the table point.
+     *
+     * @param theType the type of the bet.
+     * @param theNumber the number of the bet, 0 for line and one roll bets.
+     * @param theAmount the amount wagered.
+     * @throws IllegalArgumentException if no round is in play, the bet cannot
+     * be placed at this stage of the round, odds have no line bet to go behind,
+     * the number is not valid for the type, or the amount is not positive
+     * or exceeds the bank.
+     */
+    public void placeTableBet(final BetType theType, final int theNumber, final int theAmount) {
+        placeTableBetCents(theType, theNumber, Money.ofDollars(theAmount));
+    }
+
+    /**
+     * Places a bet from the catalog in cents, taking its amount from the bank.
+     *
+     * @param theType the type of the bet.
+     * @param theNumber the number of the bet, 0 for line and one roll bets.
+     * @param theCents the amount wagered in cents.
+     * @throws IllegalArgumentException if no round is in play, the bet cannot
+     * be placed at this stage of the round, odds have no line bet to go behind,
+     * the number is not valid for the type, or the amount is not positive
+     * or exceeds the bank.
+     */
+    public void placeTableBetCents(final BetType theType, final int theNumber, final long theCents) {
+        final CrapsLogic craps = getCraps();
+        if (!craps.isGameActive()) {
+            throw new IllegalArgumentException("A " + theType + " bet cannot be placed "
+                    + "while no round is in play");
+        }
+        final int point = craps.getPoint();
+        if (!theType.canPlace(theNumber, point)) {
+            throw new IllegalArgumentException("A " + theType + " bet on " + theNumber
+                    + " cannot be placed now, current point is " + point);
+        }
+        if (theType.isOdds() && !myTableBets.hasLineBet(0, theType, theNumber)
+                && !(theType.isBackedBy(BetType.PASS) && theNumber == point && myBetSet && myBetCents > 0)) {
+            throw new IllegalArgumentException("A " + theType + " bet on " + theNumber
+                    + " needs a line bet on that number, current point is " + point);
+        }
+        if (theCents > myBankCents) {
+            throw new IllegalArgumentException("The bet amount exceeds the available bank balance, "
+                    + "current value is " + Money.format(theCents));
+        }
+        myTableBets.add(theType, theNumber, theCents);
+        CrapsMetrics.betPlaced();
+        myBankCents -= theCents;
+        myBankChange.publish(GameEvent.BANK_SET, myBankCents);
+    }
+
+    /**
+     * Settles the table bets against a roll in one pass and pays the bank once.
+     *
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     * @param thePoint the point before the roll, 0 on the come out roll.
+     */
+    void settleTableBets(final int theDie1, final int theDie2, final int thePoint) {
+        if (myTableBets.isEmpty()) {
+            return;
+        }
+        final long returned = BetSettlement.settle(myTableBets, theDie1, theDie2, thePoint);
+        CrapsMetrics.settled();
+        if (returned > 0) {
+            myBankCents = Money.add(myBankCents, returned);
+            myBankChange.publish(GameEvent.BANK_SET, myBankCents);
+        }
+    }
+
+    /**
+     * Takes the stake of a wager in a {@link WagerBatch} from the bank.
+     *
+     * @param theCents the amount wagered in cents.
+     * @throws IllegalArgumentException if the amount exceeds the bank.
+     */
+    void takeStake(final long theCents) {
+        if (theCents > myBankCents) {
+            throw new IllegalArgumentException("The bet amount exceeds the available bank balance, "
+                    + "current value is " + Money.format(theCents));
+        }
+        CrapsMetrics.betPlaced();
+        myBankCents -= theCents;
+        myBankChange.publish(GameEvent.BANK_SET, myBankCents);
+    }
+
+    /**
+     * Pays the stakes and winnings returned by a batch of wagers into the bank and tells listeners once.
+     *
+     * @param theCents the amount returned in cents.
+     * @throws ArithmeticException if the bank overflows.
+     */
+    void applySettlement(final long theCents) {
+        CrapsMetrics.settled();
+        myBankCents = Money.add(myBankCents, theCents);
+        myBankChange.publish(GameEvent.BANK_SET, myBankCents);
+    }
+
+    /**
+     * Takes every bet off the table and pays its amount back to the bank.
+     */
+    void takeDownTableBets() {
+        if (myTableBets.isEmpty()) {
+            return;
         }
+        final long returned = myTableBets.getTotalAmount();
+        myTableBets.clear();
+        myBankCents = Money.add(myBankCents, returned);
+        myBankChange.publish(GameEvent.BANK_SET, myBankCents);
+    }
+
+    /**
+     * Retrieves the bets on the table besides the pass line bet.
+     *
+     * @return the table bets.
+     */
+    public BetLayout getTableBets() {
+        return myTableBets;
     }
 
     /**
@@ -130,10 +285,10 @@ public class BankBetLogic {
      * and notifies property listeners of the bank reset.
      */
     public void allIn() {
-        setBankAmount(getBetAmount() + getBankAmount());
-        setBetAmount(getBankAmount());
-        myBankAmount = 0;
-        myBankChange.firePropertyChange("bankSet",null,myBankAmount);
+        setBankCents(Money.add(myBetCents, myBankCents));
+        setBetCents(myBankCents);
+        myBankCents = 0;
+        myBankChange.publish(GameEvent.BANK_SET, myBankCents);
     }
 
     /**
@@ -146,21 +301,51 @@ public class BankBetLogic {
     }
 
     /**
-     * Retrieves the current bank amount.
+     * Retrieves the game this bank settles against.
+     *
+     * @return the linked game, or the singleton game if none is linked.
+     */
+    public CrapsLogic getCraps() {
+        return myCraps == null ? CrapsLogic.getCrapsInstance() : myCraps;
+    }
+
+    /**
+     * Links this bank to the game of its table.
+     *
+     * @param theCraps the game this bank settles against.
+     */
+    void setCraps(final CrapsLogic theCraps) {
+        myCraps = theCraps;
+    }
+
+    /**
+     * Retrieves the current bank amount in whole dollars.
      *
      * @return The current bank amount.
+     * @throws ArithmeticException if the dollars do not fit in an int.
      */
     public int getBankAmount() {
-        return myBankAmount;
+        return Money.toIntDollars(myBankCents);
     }
 
     /**
-     * Retrieves the current bet amount.
+     * Retrieves the current bet amount in whole dollars.
      *
      * @return The current bet amount.
+     * @throws ArithmeticException if the dollars do not fit in an int.
      */
     public int getBetAmount() {
-        return myBetAmount;
+        return Money.toIntDollars(myBetCents);
+    }
+
+    @Override
+    public long getBankCents() {
+        return myBankCents;
+    }
+
+    @Override
+    public long getBetCents() {
+        return myBetCents;
     }
 
     /**
@@ -212,8 +397,24 @@ public class BankBetLogic {
             throw new IllegalArgumentException("The bank amount must be greater than 0, "
                     + "current value is " + theAmount);
         }
-        myBankAmount = theAmount;
-        myBankChange.firePropertyChange("bankSet",null,theAmount);
+        setBankCents(Money.ofDollars(theAmount));
+    }
+
+    /**
+     * Sets the bank amount in cents.
+     * Fires a bank set event with the amount in cents.
+     *
+     * @param theCents The amount to be set for the bank, in cents.
+     * @throws IllegalArgumentException
+     * if the specified amount is less than or equal to 0.
+     */
+    public void setBankCents(final long theCents) {
+        if (theCents <= 0) {
+            throw new IllegalArgumentException("The bank amount must be greater than 0, "
+                    + "current value is " + Money.format(theCents));
+        }
+        myBankCents = theCents;
+        myBankChange.publish(GameEvent.BANK_SET, theCents);
     }
 
     /**
@@ -225,27 +426,74 @@ public class BankBetLogic {
      * is less than or equal to 0 or exceeds the available bank balance.
      */
     public void setBetAmount(final int theAmount) {
-        if (theAmount > getBankAmount()) {
+        setBetCents(Money.ofDollars(theAmount));
+    }
+
+    /**
+     * Sets the bet amount in cents.
+     * Fires a bet event with the amount in cents.
+     *
+     * @param theCents The amount to be set for the bet, in cents.
+     * @throws IllegalArgumentException if the specified amount
+     * is less than or equal to 0 or exceeds the available bank balance.
+     */
+    public void setBetCents(final long theCents) {
+        if (theCents > myBankCents) {
             throw new IllegalArgumentException("The bet amount exceeds the available bank balance, "
-            + "current bet is " + getBetAmount());
+            + "current bet is " + Money.format(myBetCents));
         }
 
-        if (theAmount <= 0) {
+        if (theCents <= 0) {
             throw new IllegalArgumentException("The bet mount must be greater than 0, "
-                    + "current bet is " + getBetAmount());
+                    + "current bet is " + Money.format(myBetCents));
         }
-        checkBetReduce(theAmount);
-        myBankChange.firePropertyChange("bet",null, theAmount);
+        checkBetReduceCents(theCents);
+        CrapsMetrics.betPlaced();
+        myBankChange.publish(GameEvent.BET, myBetCents);
         setBet(true);
     }
 
+    /**
+     * Restores the bank from a snapshot and tells listeners the restored amounts.
+     *
+     * @param theBankCents the amount in the bank, in cents.
+     * @param theBetCents the amount of the bet, in cents.
+     * @param theBankSet true if the bank was set.
+     * @param theBetSet true if a bet was placed.
+     */
+    void restore(final long theBankCents, final long theBetCents,
+                 final boolean theBankSet, final boolean theBetSet) {
+        myBankCents = theBankCents;
+        myBetCents = theBetCents;
+        myBankSet = theBankSet;
+        myBetSet = theBetSet;
+        myBankChange.publish(GameEvent.BANK_SET, theBankCents);
+        if (theBetSet) {
+            myBankChange.publish(GameEvent.BET, theBetCents);
+        }
+    }
+
+    /**
+     * Retrieves the bus the bank events are published on.
+     *
+     * @return the event bus of this bank.
+     */
+    public GameEventBus getEventBus() {
+        return myBankChange;
+    }
+
     /**
      * Adds a property change listener for bank-related changes.
+     * Prefer subscribing to {@link #getEventBus()}, which does not box values.
      *
      * @param theL The PropertyChangeListener to be added.
      */
-    public void addPropertyChangeListener(PropertyChangeListener theL) {
-        myBankChange.addPropertyChangeListener(theL);
+    public synchronized void addPropertyChangeListener(PropertyChangeListener theL) {
+        if (myBridge == null) {
+            myBridge = new PropertyChangeBridge(this, myBankChange, GameEvent.BANK_SET, GameEvent.BET,
+                    GameEvent.BANK_RESET, GameEvent.GAME_OVER);
+        }
+        myBridge.addPropertyChangeListener(theL);
     }
 
     /**
@@ -255,7 +503,7 @@ public class BankBetLogic {
      */
     @Override
     public String toString() {
-        return "Bank: " + getBankAmount()
-             + "\nBet: " + getBetAmount();
+        return "Bank: " + Money.format(myBankCents)
+             + "\nBet: " + Money.format(myBetCents);
     }
 }
\ No newline at end of file
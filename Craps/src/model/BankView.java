@@ -0,0 +1,52 @@
+package model;
+
+/**
+ * Read side of one player's bankroll: what the bank panel shows.
+ * The bus publishes {@link GameEvent#BANK_SET} and {@link GameEvent#BET}
+ * with the new amounts in {@link Money} cents whenever they change.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public interface BankView {
+    /**
+     * Retrieves the amount in the bank.
+     *
+     * @return the bank amount in cents.
+     */
+    long getBankCents();
+
+    /**
+     * Retrieves the amount wagered.
+     *
+     * @return the bet amount in cents.
+     */
+    long getBetCents();
+
+    /**
+     * Retrieves the amount in the bank in whole dollars.
+     *
+     * @return the bank amount.
+     * @throws ArithmeticException if the dollars do not fit in an int.
+     */
+    default int getBankAmount() {
+        return Money.toIntDollars(getBankCents());
+    }
+
+    /**
+     * Retrieves the amount wagered in whole dollars.
+     *
+     * @return the bet amount.
+     * @throws ArithmeticException if the dollars do not fit in an int.
+     */
+    default int getBetAmount() {
+        return Money.toIntDollars(getBetCents());
+    }
+
+    /**
+     * Retrieves the bus the bank events are published on.
+     *
+     * @return the event bus of the bank.
+     */
+    GameEventBus getEventBus();
+}
\ No newline at end of file
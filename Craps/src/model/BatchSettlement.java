@@ -0,0 +1,142 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Settles a {@link WagerBatch} against one roll in a single call.
+ * Every wager is looked up in the settlement table of {@link BetSettlement},
+ * its net result is written to a delta buffer that is reused from one roll to
+ * the next, and the stakes and winnings returned to each owner are summed so
+ * its bank changes and publishes {@link GameEvent#BANK_SET} once per roll,
+ * however many wagers it has.
+ *
+ * <p>Decided wagers leave the batch, line and come wagers move to their point,
+ * and the table point of every wager that stays follows the roll.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class BatchSettlement {
+    /**
+     * Number of wagers and owners the buffers hold before they first grow.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Net result of each wager of the last settlement, in cents.
+     */
+    private long[] myDeltas;
+
+    /**
+     * Cents returned to each owner by the last settlement.
+     */
+    private long[] myReturned;
+
+    /**
+     * Number of wagers settled by the last call.
+     */
+    private int myCount;
+
+    /**
+     * Constructs a settlement with empty buffers.
+     */
+    public BatchSettlement() {
+        myDeltas = new long[INITIAL_CAPACITY];
+        myReturned = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Settles every wager of the batch against one roll and pays the stakes and
+     * winnings of the decided wagers back to each owner's bank.
+     *
+     * @param theBatch the open wagers.
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     * @return the buffer of the net result in cents of each wager, indexed as the
+     * wagers were before the call and valid up to {@link #getCount()}; it is
+     * overwritten by the next call.
+     * @throws IllegalArgumentException if a die is not between 1 and 6.
+     * @throws ArithmeticException if a bank overflows.
+     */
+    public long[] settle(final WagerBatch theBatch, final int theDie1, final int theDie2) {
+        Objects.requireNonNull(theBatch, "theBatch");
+        final int roll = BetSettlement.roll(theDie1, theDie2);
+        final int total = theDie1 + theDie2;
+        final int size = theBatch.size();
+        final int ownerCount = theBatch.ownerCount();
+        if (myDeltas.length < size) {
+            myDeltas = new long[Math.max(size, myDeltas.length * 2)];
+        }
+        if (myReturned.length < ownerCount) {
+            myReturned = new long[Math.max(ownerCount, myReturned.length * 2)];
+        }
+        Arrays.fill(myReturned, 0, ownerCount, 0);
+        final int[] owners = theBatch.owners();
+        final byte[] points = theBatch.points();
+        final byte[] types = theBatch.types();
+        final byte[] numbers = theBatch.numbers();
+        final long[] amounts = theBatch.amounts();
+        final long[] stakes = theBatch.stakes();
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            final int owner = owners[i];
+            final int point = points[i];
+            final int type = types[i];
+            final long amount = amounts[i];
+            final int entry = BetSettlement.entry(type, numbers[i], point, roll);
+            if (BetSettlement.stays(entry)) {
+                myDeltas[i] = 0;
+                owners[kept] = owner;
+                points[kept] = (byte) RollKernel.nextPoint(RollKernel.resolve(point, total));
+                types[kept] = (byte) type;
+                numbers[kept] = (byte) BetSettlement.keptNumber(entry);
+                amounts[kept] = amount;
+                kept++;
+                continue;
+            }
+            final long delta = BetSettlement.net(entry, amount);
+            myDeltas[i] = delta;
+            myReturned[owner] = Money.add(myReturned[owner], Money.add(amount, delta));
+            stakes[owner] -= amount;
+        }
+        theBatch.truncate(kept);
+        myCount = size;
+        for (int owner = 0; owner < ownerCount; owner++) {
+            if (myReturned[owner] != 0) {
+                theBatch.owner(owner).applySettlement(myReturned[owner]);
+            }
+        }
+        return myDeltas;
+    }
+
+    /**
+     * Retrieves the number of wagers settled by the last call.
+     *
+     * @return the number of valid entries of the delta buffer.
+     */
+    public int getCount() {
+        return myCount;
+    }
+
+    /**
+     * Retrieves the net result of one wager of the last settlement.
+     *
+     * @param theIndex the index the wager had before the settlement.
+     * @return the net result in cents.
+     */
+    public long getDelta(final int theIndex) {
+        return myDeltas[Objects.checkIndex(theIndex, myCount)];
+    }
+
+    /**
+     * Generates a string of the size of the last settlement.
+     *
+     * @return a string representing the settlement.
+     */
+    @Override
+    public String toString() {
+        return "Batch settlement: " + myCount + " wagers";
+    }
+}
\ No newline at end of file
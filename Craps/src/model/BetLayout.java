@@ -0,0 +1,308 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The bets on a table, kept as parallel columns of seats, types, numbers and
+ * amounts in {@link Money} cents.
+ * Storing the bets column by column instead of as one object per bet lets
+ * {@link BetSettlement} walk the whole table in one cache friendly pass and
+ * compact it in place, with no allocation once the columns have grown.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class BetLayout {
+    /**
+     * Number of bets the columns hold before they first grow.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Highest seat a bet can belong to, the last seat of a {@link MultiSeatTable}.
+     */
+    public static final int MAX_SEAT = MultiSeatTable.MAX_SEATS - 1;
+
+    /**
+     * Seat of the player who owns each bet.
+     */
+    private byte[] mySeats;
+
+    /**
+     * Ordinal of the {@link BetType} of each bet.
+     */
+    private byte[] myTypes;
+
+    /**
+     * Number of each bet, the own point of line and come bets.
+     */
+    private byte[] myNumbers;
+
+    /**
+     * Amount wagered on each bet, in cents.
+     */
+    private long[] myAmounts;
+
+    /**
+     * Number of bets on the table.
+     */
+    private int mySize;
+
+    /**
+     * Constructs an empty layout.
+     */
+    public BetLayout() {
+        mySeats = new byte[INITIAL_CAPACITY];
+        myTypes = new byte[INITIAL_CAPACITY];
+        myNumbers = new byte[INITIAL_CAPACITY];
+        myAmounts = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a bet of seat 0 to the table.
+     *
+     * @param theType the type of the bet.
+     * @param theNumber the number of the bet, 0 for line and one roll bets.
+     * @param theCents the amount wagered in cents.
+     * @return the index of the new bet.
+     * @throws IllegalArgumentException if the number is not valid for the type
+     * or the amount is not positive.
+     */
+    public int add(final BetType theType, final int theNumber, final long theCents) {
+        return add(0, theType, theNumber, theCents);
+    }
+
+    /**
+     * Adds a bet to the table.
+     *
+     * @param theSeat the seat of the player who owns the bet.
+     * @param theType the type of the bet.
+     * @param theNumber the number of the bet, 0 for line and one roll bets.
+     * @param theCents the amount wagered in cents.
+     * @return the index of the new bet.
+     * @throws IllegalArgumentException if the seat is out of range, the number
+     * is not valid for the type or the amount is not positive.
+     */
+    public int add(final int theSeat, final BetType theType, final int theNumber, final long theCents) {
+        Objects.requireNonNull(theType, "theType");
+        if (theSeat < 0 || theSeat > MAX_SEAT) {
+            throw new IllegalArgumentException("The seat must be between 0 and " + MAX_SEAT
+                    + ", current value is " + theSeat);
+        }
+        if (!theType.isValidNumber(theNumber)) {
+            throw new IllegalArgumentException("The number is not valid for a " + theType
+                    + " bet, current value is " + theNumber);
+        }
+        if (theCents <= 0) {
+            throw new IllegalArgumentException("The bet amount must be greater than 0, "
+                    + "current value is " + Money.format(theCents));
+        }
+        if (mySize == myAmounts.length) {
+            final int capacity = mySize * 2;
+            mySeats = Arrays.copyOf(mySeats, capacity);
+            myTypes = Arrays.copyOf(myTypes, capacity);
+            myNumbers = Arrays.copyOf(myNumbers, capacity);
+            myAmounts = Arrays.copyOf(myAmounts, capacity);
+        }
+        mySeats[mySize] = (byte) theSeat;
+        myTypes[mySize] = (byte) theType.ordinal();
+        myNumbers[mySize] = (byte) theNumber;
+        myAmounts[mySize] = theCents;
+        return mySize++;
+    }
+
+    /**
+     * Retrieves the number of bets on the table.
+     *
+     * @return the number of bets.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Checks if there are no bets on the table.
+     *
+     * @return true if the table is empty.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /**
+     * Retrieves the seat of a bet.
+     *
+     * @param theIndex the index of the bet.
+     * @return the seat of the player who owns the bet.
+     */
+    public int getSeat(final int theIndex) {
+        return mySeats[Objects.checkIndex(theIndex, mySize)];
+    }
+
+    /**
+     * Retrieves the type of a bet.
+     *
+     * @param theIndex the index of the bet.
+     * @return the type of the bet.
+     */
+    public BetType getType(final int theIndex) {
+        return BetType.of(myTypes[Objects.checkIndex(theIndex, mySize)]);
+    }
+
+    /**
+     * Retrieves the number of a bet.
+     *
+     * @param theIndex the index of the bet.
+     * @return the number of the bet, 0 for a line bet without a point.
+     */
+    public int getNumber(final int theIndex) {
+        return myNumbers[Objects.checkIndex(theIndex, mySize)];
+    }
+
+    /**
+     * Retrieves the amount of a bet.
+     *
+     * @param theIndex the index of the bet.
+     * @return the amount wagered in cents.
+     */
+    public long getAmount(final int theIndex) {
+        return myAmounts[Objects.checkIndex(theIndex, mySize)];
+    }
+
+    /**
+     * Retrieves the sum of every bet on the table.
+     *
+     * @return the total amount wagered in cents.
+     */
+    public long getTotalAmount() {
+        long total = 0;
+        for (int i = 0; i < mySize; i++) {
+            total += myAmounts[i];
+        }
+        return total;
+    }
+
+    /**
+     * Checks if a seat has a line bet on a number that carries free odds of a type.
+     *
+     * @param theSeat the seat.
+     * @param theOdds the type of the odds bet.
+     * @param theNumber the number of the odds bet.
+     * @return true if a matching line bet of the seat is on the table.
+     */
+    public boolean hasLineBet(final int theSeat, final BetType theOdds, final int theNumber) {
+        for (int i = 0; i < mySize; i++) {
+            if (mySeats[i] == theSeat && myNumbers[i] == theNumber
+                    && theOdds.isBackedBy(BetType.of(myTypes[i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes every bet off the table.
+     */
+    public void clear() {
+        mySize = 0;
+    }
+
+    /**
+     * Sums the bets of every seat.
+     *
+     * @param theAmounts the array the cents of each seat are added to, indexed by seat.
+     */
+    public void sumBySeat(final long[] theAmounts) {
+        for (int i = 0; i < mySize; i++) {
+            theAmounts[mySeats[i]] += myAmounts[i];
+        }
+    }
+
+    /**
+     * Takes every bet of one seat off the table, keeping the order of the rest.
+     *
+     * @param theSeat the seat whose bets are removed.
+     * @return the sum of the removed bets in cents.
+     */
+    public long removeSeat(final int theSeat) {
+        long removed = 0;
+        int kept = 0;
+        for (int i = 0; i < mySize; i++) {
+            if (mySeats[i] == theSeat) {
+                removed += myAmounts[i];
+            } else {
+                mySeats[kept] = mySeats[i];
+                myTypes[kept] = myTypes[i];
+                myNumbers[kept] = myNumbers[i];
+                myAmounts[kept] = myAmounts[i];
+                kept++;
+            }
+        }
+        mySize = kept;
+        return removed;
+    }
+
+    /**
+     * Retrieves the seat column for the settlement engine.
+     *
+     * @return the seats, valid up to {@link #size()}.
+     */
+    byte[] seats() {
+        return mySeats;
+    }
+
+    /**
+     * Retrieves the type column for the settlement engine.
+     *
+     * @return the type ordinals, valid up to {@link #size()}.
+     */
+    byte[] types() {
+        return myTypes;
+    }
+
+    /**
+     * Retrieves the number column for the settlement engine.
+     *
+     * @return the numbers, valid up to {@link #size()}.
+     */
+    byte[] numbers() {
+        return myNumbers;
+    }
+
+    /**
+     * Retrieves the amount column for the settlement engine.
+     *
+     * @return the amounts in cents, valid up to {@link #size()}.
+     */
+    long[] amounts() {
+        return myAmounts;
+    }
+
+    /**
+     * Shrinks the table after the settlement engine compacted the columns.
+     *
+     * @param theSize the number of bets left.
+     */
+    void truncate(final int theSize) {
+        mySize = theSize;
+    }
+
+    /**
+     * Generates a string of the bets on the table.
+     *
+     * @return a string representing the layout.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("Bets:");
+        for (int i = 0; i < mySize; i++) {
+            builder.append(' ').append(BetType.of(myTypes[i]));
+            if (myNumbers[i] != 0) {
+                builder.append(' ').append(myNumbers[i]);
+            }
+            builder.append(" $").append(Money.format(myAmounts[i]));
+        }
+        return builder.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,522 @@
+package model;
+
+import java.util.Objects;
+
+/**
+ * Table-driven settlement of every bet in a {@link BetLayout}.
+ * The rules and payouts of the whole catalog are precomputed into one table
+ * indexed by the bet type, the stage of the round, the number of the bet and
+ * the roll, so settling a crowded table is one lookup per bet in a single pass
+ * over the layout, with no events and no allocation. Amounts are {@link Money}
+ * cents and winnings are rounded down to the cent.
+ *
+ * <p>An entry holds the action in its low bits: stay, win, lose or push. A bet
+ * that stays keeps the number in the entry, which is how a line or come bet
+ * travels to its point. A winning entry holds the payout as a ratio and the
+ * kind of commission taken from it.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class BetSettlement {
+    /**
+     * Number of roll codes, {@code total << 1 | hard} for totals up to 12.
+     */
+    private static final int ROLLS = 26;
+
+    /**
+     * Number of columns per bet number, one for each number from 0 to 12.
+     */
+    private static final int NUMBERS = 13;
+
+    /**
+     * Entries of one bet type at one stage of the round.
+     */
+    private static final int STAGE_STRIDE = NUMBERS * ROLLS;
+
+    /**
+     * Entries of one bet type, the point stage followed by the come out stage.
+     */
+    private static final int TYPE_STRIDE = 2 * STAGE_STRIDE;
+
+    /**
+     * Action of a bet that stays on the table.
+     */
+    private static final int STAY = 0;
+
+    /**
+     * Action of a bet that wins and is paid with its stake.
+     */
+    private static final int WIN = 1;
+
+    /**
+     * Action of a bet that loses.
+     */
+    private static final int LOSE = 2;
+
+    /**
+     * Action of a bet that is returned.
+     */
+    private static final int PUSH = 3;
+
+    /**
+     * Mask for the action of an entry.
+     */
+    private static final int ACTION_MASK = 0x3;
+
+    /**
+     * Shift of the number a staying bet keeps.
+     */
+    private static final int NUMBER_SHIFT = 2;
+
+    /**
+     * Mask for the number once shifted by {@link #NUMBER_SHIFT}.
+     */
+    private static final int NUMBER_MASK = 0xF;
+
+    /**
+     * Shift of the payout numerator.
+     */
+    private static final int NUMERATOR_SHIFT = 8;
+
+    /**
+     * Mask for the payout numerator once shifted.
+     */
+    private static final int NUMERATOR_MASK = 0x3F;
+
+    /**
+     * Shift of the payout denominator.
+     */
+    private static final int DENOMINATOR_SHIFT = 14;
+
+    /**
+     * Mask for the payout denominator once shifted.
+     */
+    private static final int DENOMINATOR_MASK = 0xF;
+
+    /**
+     * Shift of the commission kind.
+     */
+    private static final int COMMISSION_SHIFT = 18;
+
+    /**
+     * Commission kind of a bet paid in full.
+     */
+    private static final int NO_COMMISSION = 0;
+
+    /**
+     * Commission kind of a buy bet, 5% of the bet.
+     */
+    private static final int COMMISSION_ON_BET = 1;
+
+    /**
+     * Commission kind of a lay bet, 5% of the win.
+     */
+    private static final int COMMISSION_ON_WIN = 2;
+
+    /**
+     * Divisor of a 5% commission.
+     */
+    private static final int COMMISSION_DIVISOR = 20;
+
+    /**
+     * Settlement entries indexed by type, stage, number and roll.
+     */
+    private static final int[] TABLE = buildTable();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BetSettlement() {
+    }
+
+    /**
+     * Settles every bet on the table against one roll.
+     * Bets that win, lose or push are taken off the table, line and come bets
+     * move to their point, and the remaining bets keep their order.
+     *
+     * @param theLayout the bets on the table.
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     * @param theTablePoint the table point before the roll, 0 on the come out roll.
+     * @return the cents returned to the player, the stakes and winnings of the
+     * winning bets plus the stakes of the pushed ones.
+     * @throws IllegalArgumentException if a die is not between 1 and 6.
+     */
+    public static long settle(final BetLayout theLayout, final int theDie1, final int theDie2,
+                              final int theTablePoint) {
+        return settle(theLayout, theDie1, theDie2, theTablePoint, null);
+    }
+
+    /**
+     * Settles every bet on the table against one roll and splits the amount
+     * returned by seat, in the same single pass.
+     *
+     * @param theLayout the bets on the table.
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     * @param theTablePoint the table point before the roll, 0 on the come out roll.
+     * @param theReturned the array the cents returned to each seat are added to,
+     * indexed by seat, or null to only total it.
+     * @return the cents returned to all seats.
+     * @throws IllegalArgumentException if a die is not between 1 and 6, or the
+     * array cannot hold every seat up to {@link BetLayout#MAX_SEAT}.
+     */
+    public static long settle(final BetLayout theLayout, final int theDie1, final int theDie2,
+                              final int theTablePoint, final long[] theReturned) {
+        Objects.requireNonNull(theLayout, "theLayout");
+        if (theReturned != null && theReturned.length <= BetLayout.MAX_SEAT) {
+            throw new IllegalArgumentException("The returned array must hold " + (BetLayout.MAX_SEAT + 1)
+                    + " seats, current length is " + theReturned.length);
+        }
+        final int roll = roll(theDie1, theDie2);
+        final int offset = (theTablePoint == 0 ? STAGE_STRIDE : 0) + roll;
+        final byte[] seats = theLayout.seats();
+        final byte[] types = theLayout.types();
+        final byte[] numbers = theLayout.numbers();
+        final long[] amounts = theLayout.amounts();
+        final int size = theLayout.size();
+
+        long returned = 0;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            final byte seat = seats[i];
+            final int type = types[i];
+            final long amount = amounts[i];
+            final int entry = TABLE[type * TYPE_STRIDE + numbers[i] * ROLLS + offset];
+            final long paid;
+            switch (entry & ACTION_MASK) {
+                case STAY:
+                    seats[kept] = seat;
+                    types[kept] = (byte) type;
+                    numbers[kept] = (byte) ((entry >>> NUMBER_SHIFT) & NUMBER_MASK);
+                    amounts[kept] = amount;
+                    kept++;
+                    continue;
+                case WIN:
+                    paid = Money.add(amount, winnings(entry, amount));
+                    break;
+                case PUSH:
+                    paid = amount;
+                    break;
+                default:
+                    continue;
+            }
+            returned = Money.add(returned, paid);
+            if (theReturned != null) {
+                theReturned[seat] += paid;
+            }
+        }
+        theLayout.truncate(kept);
+        return returned;
+    }
+
+    /**
+     * Encodes a roll for the settlement table.
+     *
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     * @return the roll code, {@code total << 1 | hard}.
+     * @throws IllegalArgumentException if a die is not between 1 and 6.
+     */
+    static int roll(final int theDie1, final int theDie2) {
+        checkDie(theDie1);
+        checkDie(theDie2);
+        return (theDie1 + theDie2) << 1 | (theDie1 == theDie2 ? 1 : 0);
+    }
+
+    /**
+     * Looks up how one bet settles against a roll.
+     *
+     * @param theType the ordinal of the bet type.
+     * @param theNumber the number of the bet.
+     * @param theTablePoint the table point before the roll, 0 on the come out roll.
+     * @param theRoll the roll code from {@link #roll(int, int)}.
+     * @return the settlement entry.
+     */
+    static int entry(final int theType, final int theNumber, final int theTablePoint, final int theRoll) {
+        return TABLE[theType * TYPE_STRIDE + (theTablePoint == 0 ? STAGE_STRIDE : 0)
+                + theNumber * ROLLS + theRoll];
+    }
+
+    /**
+     * Checks if an entry leaves the bet on the table.
+     *
+     * @param theEntry the settlement entry.
+     * @return true if the bet is not decided by the roll.
+     */
+    static boolean stays(final int theEntry) {
+        return (theEntry & ACTION_MASK) == STAY;
+    }
+
+    /**
+     * Retrieves the number a bet keeps when it stays on the table.
+     *
+     * @param theEntry the staying entry.
+     * @return the number of the bet after the roll.
+     */
+    static int keptNumber(final int theEntry) {
+        return (theEntry >>> NUMBER_SHIFT) & NUMBER_MASK;
+    }
+
+    /**
+     * Computes the net result of a bet for its owner: the winnings when it wins,
+     * the lost stake when it loses and nothing when it pushes or stays.
+     *
+     * @param theEntry the settlement entry.
+     * @param theAmount the amount of the bet.
+     * @return the change to the owner's bank.
+     * @throws ArithmeticException if the winnings overflow.
+     */
+    static long net(final int theEntry, final long theAmount) {
+        switch (theEntry & ACTION_MASK) {
+            case WIN:
+                return winnings(theEntry, theAmount);
+            case LOSE:
+                return -theAmount;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Computes the winnings of a bet, rounded down, less any commission.
+     *
+     * @param theEntry the winning entry.
+     * @param theAmount the amount of the bet.
+     * @return the winnings, not counting the returned stake.
+     * @throws ArithmeticException if the winnings overflow.
+     */
+    private static long winnings(final int theEntry, final long theAmount) {
+        final int numerator = (theEntry >>> NUMERATOR_SHIFT) & NUMERATOR_MASK;
+        final int denominator = (theEntry >>> DENOMINATOR_SHIFT) & DENOMINATOR_MASK;
+        final long win = Math.multiplyExact(theAmount, numerator) / denominator;
+        switch (theEntry >>> COMMISSION_SHIFT) {
+            case COMMISSION_ON_BET:
+                return win - theAmount / COMMISSION_DIVISOR;
+            case COMMISSION_ON_WIN:
+                return win - win / COMMISSION_DIVISOR;
+            default:
+                return win;
+        }
+    }
+
+    /**
+     * Checks that a die shows a face from 1 to 6.
+     *
+     * @param theDie the die.
+     * @throws IllegalArgumentException if the die is out of range.
+     */
+    private static void checkDie(final int theDie) {
+        if (theDie < 1 || theDie > 6) {
+            throw new IllegalArgumentException("The die must be between 1 and 6, "
+                    + "current value is " + theDie);
+        }
+    }
+
+    /**
+     * Builds the settlement table from the rules of every bet type.
+     *
+     * @return the filled settlement table.
+     */
+    private static int[] buildTable() {
+        final BetType[] types = BetType.values();
+        final int[] table = new int[types.length * TYPE_STRIDE];
+        for (final BetType type : types) {
+            for (int stage = 0; stage < 2; stage++) {
+                for (int number = 0; number < NUMBERS; number++) {
+                    for (int roll = 0; roll < ROLLS; roll++) {
+                        table[type.ordinal() * TYPE_STRIDE + stage * STAGE_STRIDE + number * ROLLS + roll] =
+                                rule(type, stage == 1, number, roll >>> 1, (roll & 1) != 0);
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Applies the rules of one bet type to one roll.
+     *
+     * @param theType the type of the bet.
+     * @param theComeOut true on the come out roll.
+     * @param theNumber the number of the bet.
+     * @param theTotal the total of the dice.
+     * @param theHard true if both dice show the same face.
+     * @return the settlement entry.
+     */
+    private static int rule(final BetType theType, final boolean theComeOut, final int theNumber,
+                            final int theTotal, final boolean theHard) {
+        if (theComeOut && theType.isOffOnComeOut()) {
+            if (theType == BetType.COME_ODDS && (theTotal == theNumber || theTotal == 7)) {
+                return PUSH;
+            }
+            return stay(theNumber);
+        }
+        switch (theType) {
+            case PASS:
+            case COME:
+                if (theNumber == 0) {
+                    if (theTotal == 7 || theTotal == 11) {
+                        return win(1, 1);
+                    }
+                    if (theTotal == 2 || theTotal == 3 || theTotal == 12) {
+                        return LOSE;
+                    }
+                    return stay(theTotal);
+                }
+                return theTotal == theNumber ? win(1, 1) : theTotal == 7 ? LOSE : stay(theNumber);
+            case DONT_PASS:
+            case DONT_COME:
+                if (theNumber == 0) {
+                    if (theTotal == 2 || theTotal == 3) {
+                        return win(1, 1);
+                    }
+                    if (theTotal == 12) {
+                        return PUSH;
+                    }
+                    if (theTotal == 7 || theTotal == 11) {
+                        return LOSE;
+                    }
+                    return stay(theTotal);
+                }
+                return theTotal == 7 ? win(1, 1) : theTotal == theNumber ? LOSE : stay(theNumber);
+            case ODDS:
+            case COME_ODDS:
+                return theTotal == theNumber ? trueOdds(theNumber, NO_COMMISSION)
+                        : theTotal == 7 ? LOSE : stay(theNumber);
+            case BUY:
+                return theTotal == theNumber ? trueOdds(theNumber, COMMISSION_ON_BET)
+                        : theTotal == 7 ? LOSE : stay(theNumber);
+            case PLACE:
+                return theTotal == theNumber ? placeOdds(theNumber)
+                        : theTotal == 7 ? LOSE : stay(theNumber);
+            case LAY_ODDS:
+                return theTotal == 7 ? layOdds(theNumber, NO_COMMISSION)
+                        : theTotal == theNumber ? LOSE : stay(theNumber);
+            case LAY:
+                return theTotal == 7 ? layOdds(theNumber, COMMISSION_ON_WIN)
+                        : theTotal == theNumber ? LOSE : stay(theNumber);
+            case HARDWAY:
+                if (theTotal == theNumber) {
+                    return !theHard ? LOSE : theNumber == 4 || theNumber == 10 ? win(7, 1) : win(9, 1);
+                }
+                return theTotal == 7 ? LOSE : stay(theNumber);
+            case FIELD:
+                if (theTotal == 2) {
+                    return win(2, 1);
+                }
+                if (theTotal == 12) {
+                    return win(3, 1);
+                }
+                return theTotal == 3 || theTotal == 4 || theTotal >= 9 && theTotal <= 11 ? win(1, 1) : LOSE;
+            case ANY_SEVEN:
+                return theTotal == 7 ? win(4, 1) : LOSE;
+            case ANY_CRAPS:
+                return theTotal == 2 || theTotal == 3 || theTotal == 12 ? win(7, 1) : LOSE;
+            case ACES:
+                return theTotal == 2 ? win(30, 1) : LOSE;
+            case ACE_DEUCE:
+                return theTotal == 3 ? win(15, 1) : LOSE;
+            case YO:
+                return theTotal == 11 ? win(15, 1) : LOSE;
+            case BOXCARS:
+                return theTotal == 12 ? win(30, 1) : LOSE;
+            default:
+                throw new IllegalStateException("No rule for " + theType);
+        }
+    }
+
+    /**
+     * Encodes the true odds of making a point before a 7.
+     *
+     * @param thePoint the point.
+     * @param theCommission the kind of commission taken.
+     * @return the winning entry.
+     */
+    private static int trueOdds(final int thePoint, final int theCommission) {
+        switch (thePoint) {
+            case 4:
+            case 10:
+                return win(2, 1, theCommission);
+            case 5:
+            case 9:
+                return win(3, 2, theCommission);
+            default:
+                return win(6, 5, theCommission);
+        }
+    }
+
+    /**
+     * Encodes the true odds of a 7 before a point.
+     *
+     * @param thePoint the point.
+     * @param theCommission the kind of commission taken.
+     * @return the winning entry.
+     */
+    private static int layOdds(final int thePoint, final int theCommission) {
+        switch (thePoint) {
+            case 4:
+            case 10:
+                return win(1, 2, theCommission);
+            case 5:
+            case 9:
+                return win(2, 3, theCommission);
+            default:
+                return win(5, 6, theCommission);
+        }
+    }
+
+    /**
+     * Encodes the house payout of a place bet.
+     *
+     * @param thePoint the number placed.
+     * @return the winning entry.
+     */
+    private static int placeOdds(final int thePoint) {
+        switch (thePoint) {
+            case 4:
+            case 10:
+                return win(9, 5);
+            case 5:
+            case 9:
+                return win(7, 5);
+            default:
+                return win(7, 6);
+        }
+    }
+
+    /**
+     * Encodes a win paid in full.
+     *
+     * @param theNumerator the numerator of the payout.
+     * @param theDenominator the denominator of the payout.
+     * @return the winning entry.
+     */
+    private static int win(final int theNumerator, final int theDenominator) {
+        return win(theNumerator, theDenominator, NO_COMMISSION);
+    }
+
+    /**
+     * Encodes a win.
+     *
+     * @param theNumerator the numerator of the payout.
+     * @param theDenominator the denominator of the payout.
+     * @param theCommission the kind of commission taken.
+     * @return the winning entry.
+     */
+    private static int win(final int theNumerator, final int theDenominator, final int theCommission) {
+        return WIN | theNumerator << NUMERATOR_SHIFT | theDenominator << DENOMINATOR_SHIFT
+                | theCommission << COMMISSION_SHIFT;
+    }
+
+    /**
+     * Encodes a bet that stays on the table.
+     *
+     * @param theNumber the number the bet keeps.
+     * @return the staying entry.
+     */
+    private static int stay(final int theNumber) {
+        return STAY | theNumber << NUMBER_SHIFT;
+    }
+}
\ No newline at end of file
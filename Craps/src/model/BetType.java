@@ -0,0 +1,265 @@
+package model;
+
+/**
+ * Catalog of the bets that can be placed on the table.
+ * A bet is a type, a number and an amount. The number of a line or come bet
+ * is its own point, 0 until one is established; odds, place, buy, lay and
+ * hardway bets are made on a point number; one roll bets carry no number.
+ * How each bet is paid lives in the tables of {@link BetSettlement}.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public enum BetType {
+    /**
+     * Pass line, placed on the come out roll, pays even money.
+     */
+    PASS(NumberRule.LINE, false),
+
+    /**
+     * Don't pass, placed on the come out roll, pays even money and pushes on 12.
+     */
+    DONT_PASS(NumberRule.LINE, false),
+
+    /**
+     * Come, placed while a point is on, pays even money.
+     */
+    COME(NumberRule.LINE, false),
+
+    /**
+     * Don't come, placed while a point is on, pays even money and pushes on 12.
+     */
+    DONT_COME(NumberRule.LINE, false),
+
+    /**
+     * Free odds behind a pass or come bet, pays true odds.
+     */
+    ODDS(NumberRule.POINT, false),
+
+    /**
+     * Free odds behind a come bet, off and returned on the come out roll.
+     */
+    COME_ODDS(NumberRule.POINT, true),
+
+    /**
+     * Free odds laid behind a don't pass or don't come bet, pays true odds.
+     */
+    LAY_ODDS(NumberRule.POINT, false),
+
+    /**
+     * Place bet on a number, pays 9:5, 7:5 or 7:6.
+     */
+    PLACE(NumberRule.POINT, true),
+
+    /**
+     * Buy bet on a number, pays true odds less a 5% commission on the bet.
+     */
+    BUY(NumberRule.POINT, true),
+
+    /**
+     * Lay bet against a number, pays true odds less a 5% commission on the win.
+     */
+    LAY(NumberRule.POINT, false),
+
+    /**
+     * One roll bet on 2, 3, 4, 9, 10, 11 or 12, pays 2:1 on 2 and 3:1 on 12.
+     */
+    FIELD(NumberRule.NONE, false),
+
+    /**
+     * Hard 4, 6, 8 or 10, pays 7:1 or 9:1, loses on 7 or the easy way.
+     */
+    HARDWAY(NumberRule.HARD, true),
+
+    /**
+     * One roll bet on 7, pays 4:1.
+     */
+    ANY_SEVEN(NumberRule.NONE, false),
+
+    /**
+     * One roll bet on 2, 3 or 12, pays 7:1.
+     */
+    ANY_CRAPS(NumberRule.NONE, false),
+
+    /**
+     * One roll bet on 2, pays 30:1.
+     */
+    ACES(NumberRule.NONE, false),
+
+    /**
+     * One roll bet on 3, pays 15:1.
+     */
+    ACE_DEUCE(NumberRule.NONE, false),
+
+    /**
+     * One roll bet on 11, pays 15:1.
+     */
+    YO(NumberRule.NONE, false),
+
+    /**
+     * One roll bet on 12, pays 30:1.
+     */
+    BOXCARS(NumberRule.NONE, false);
+
+    /**
+     * Shared copy of {@link #values()} so lookups do not allocate.
+     */
+    private static final BetType[] VALUES = values();
+
+    /**
+     * Numbers the bet may be placed on.
+     */
+    private final NumberRule myNumbers;
+
+    /**
+     * Indicates if the bet is off on the come out roll.
+     */
+    private final boolean myOffOnComeOut;
+
+    /**
+     * Constructs a bet type.
+     *
+     * @param theNumbers the numbers the bet may be placed on.
+     * @param theOffOnComeOut true if the bet does not work on the come out roll.
+     */
+    BetType(final NumberRule theNumbers, final boolean theOffOnComeOut) {
+        myNumbers = theNumbers;
+        myOffOnComeOut = theOffOnComeOut;
+    }
+
+    /**
+     * Checks if the bet is off on the come out roll.
+     *
+     * @return true if a come out roll neither wins nor loses the bet.
+     */
+    public boolean isOffOnComeOut() {
+        return myOffOnComeOut;
+    }
+
+    /**
+     * Checks if the bet stays on the table until it wins or loses,
+     * as opposed to being decided by the next roll.
+     *
+     * @return false for one roll bets, true otherwise.
+     */
+    public boolean isMultiRoll() {
+        return myNumbers != NumberRule.NONE;
+    }
+
+    /**
+     * Checks if the bet may be placed on a number.
+     *
+     * @param theNumber the number, 0 for line and one roll bets.
+     * @return true if the number is valid for this bet.
+     */
+    public boolean isValidNumber(final int theNumber) {
+        return myNumbers.allows(theNumber);
+    }
+
+    /**
+     * Checks if the bet may be placed at the current stage of the round.
+     * Pass and don't pass are placed on the come out roll, come and don't come
+     * while a point is on, and odds only behind the table point.
+     *
+     * @param theNumber the number of the bet.
+     * @param theTablePoint the table point, 0 on the come out roll.
+     * @return true if the bet may be placed now.
+     */
+    public boolean canPlace(final int theNumber, final int theTablePoint) {
+        switch (this) {
+            case PASS:
+            case DONT_PASS:
+                return theTablePoint == 0;
+            case COME:
+            case DONT_COME:
+                return theTablePoint != 0;
+            case ODDS:
+            case LAY_ODDS:
+                return theTablePoint != 0 && theNumber == theTablePoint;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Checks if the bet is free odds, which is only taken behind a line bet on its number.
+     *
+     * @return true for odds, come odds and lay odds.
+     */
+    public boolean isOdds() {
+        return this == ODDS || this == COME_ODDS || this == LAY_ODDS;
+    }
+
+    /**
+     * Checks if a line bet can carry this bet's free odds.
+     * Odds go behind pass and come bets, come odds behind come bets,
+     * and lay odds behind don't pass and don't come bets.
+     *
+     * @param theLine the type of the line bet.
+     * @return true if this is an odds bet that the line bet carries.
+     */
+    public boolean isBackedBy(final BetType theLine) {
+        switch (this) {
+            case ODDS:
+                return theLine == PASS || theLine == COME;
+            case COME_ODDS:
+                return theLine == COME;
+            case LAY_ODDS:
+                return theLine == DONT_PASS || theLine == DONT_COME;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Retrieves the bet type of an ordinal without allocating.
+     *
+     * @param theOrdinal the ordinal of the bet type.
+     * @return the bet type.
+     */
+    public static BetType of(final int theOrdinal) {
+        return VALUES[theOrdinal];
+    }
+
+    /**
+     * Numbers a bet type may be placed on.
+     */
+    private enum NumberRule {
+        /**
+         * No number, one roll bets.
+         */
+        NONE,
+
+        /**
+         * Number 0, the bet establishes its own point.
+         */
+        LINE,
+
+        /**
+         * One of the point numbers 4, 5, 6, 8, 9 and 10.
+         */
+        POINT,
+
+        /**
+         * One of the hardway numbers 4, 6, 8 and 10.
+         */
+        HARD;
+
+        /**
+         * Checks if a number is allowed by this rule.
+         *
+         * @param theNumber the number.
+         * @return true if the number is allowed.
+         */
+        private boolean allows(final int theNumber) {
+            switch (this) {
+                case POINT:
+                    return theNumber >= 4 && theNumber <= 10 && theNumber != 7;
+                case HARD:
+                    return theNumber == 4 || theNumber == 6 || theNumber == 8 || theNumber == 10;
+                default:
+                    return theNumber == 0;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package model;
+
+/**
+ * Decides the next pass line bet of a session from the bank and the betting history.
+ * Strategies are stateless, so one instance can drive any number of sessions at once.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@FunctionalInterface
+public interface BettingStrategy {
+    /**
+     * Decides the next bet. The simulator clamps the bet to between 1 and the bank,
+     * as the bet field and the All In button do.
+     *
+     * @param theBank the amount in the bank before the bet is placed.
+     * @param theLastBet the previous bet, 0 before the first round.
+     * @param theStreak the number of rounds won in a row if positive,
+     *                  lost in a row if negative, 0 before the first round.
+     * @return the amount to bet.
+     */
+    int nextBet(int theBank, int theLastBet, int theStreak);
+
+    /**
+     * Bets the same amount every round.
+     *
+     * @param theUnit the amount to bet.
+     * @return the flat strategy.
+     * @throws IllegalArgumentException if the unit is not positive.
+     */
+    static BettingStrategy flat(final int theUnit) {
+        checkUnit(theUnit);
+        return (theBank, theLastBet, theStreak) -> theUnit;
+    }
+
+    /**
+     * Doubles the bet after every loss and returns to the unit after a win.
+     *
+     * @param theUnit the base bet.
+     * @return the Martingale strategy.
+     * @throws IllegalArgumentException if the unit is not positive.
+     */
+    static BettingStrategy martingale(final int theUnit) {
+        checkUnit(theUnit);
+        return (theBank, theLastBet, theStreak) ->
+                theStreak < 0 ? (int) Math.min(Integer.MAX_VALUE, 2L * theLastBet) : theUnit;
+    }
+
+    /**
+     * Doubles the bet after every win until a number of wins in a row,
+     * then returns to the unit, as it also does after a loss.
+     *
+     * @param theUnit the base bet.
+     * @param theWins the number of wins in a row before the bet is reset.
+     * @return the Paroli strategy.
+     * @throws IllegalArgumentException if the unit or the number of wins is not positive.
+     */
+    static BettingStrategy paroli(final int theUnit, final int theWins) {
+        checkUnit(theUnit);
+        if (theWins <= 0) {
+            throw new IllegalArgumentException("The number of wins must be greater than 0, "
+                    + "current value is " + theWins);
+        }
+        return (theBank, theLastBet, theStreak) -> theStreak > 0 && theStreak % theWins != 0
+                ? (int) Math.min(Integer.MAX_VALUE, 2L * theLastBet) : theUnit;
+    }
+
+    /**
+     * Bets a percentage of the bank every round, at least 1.
+     *
+     * @param thePercent the percentage of the bank to bet, 1 to 100.
+     * @return the percentage strategy.
+     * @throws IllegalArgumentException if the percentage is not between 1 and 100.
+     */
+    static BettingStrategy percentOfBank(final int thePercent) {
+        if (thePercent < 1 || thePercent > 100) {
+            throw new IllegalArgumentException("The percentage must be between 1 and 100, "
+                    + "current value is " + thePercent);
+        }
+        return (theBank, theLastBet, theStreak) -> (int) Math.max(1, (long) theBank * thePercent / 100);
+    }
+
+    /**
+     * Checks that a base bet is positive.
+     *
+     * @param theUnit the base bet.
+     * @throws IllegalArgumentException if the unit is not positive.
+     */
+    private static void checkUnit(final int theUnit) {
+        if (theUnit <= 0) {
+            throw new IllegalArgumentException("The bet amount must be greater than 0, "
+                    + "current bet is " + theUnit);
+        }
+    }
+}
\ No newline at end of file
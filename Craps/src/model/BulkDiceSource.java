@@ -0,0 +1,210 @@
+package model;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Dice source that pre-generates faces in blocks, for the simulators.
+ * <p>
+ * Drawing one die with {@code nextInt(1, 7)} spends a whole random word on
+ * less than three bits. Here every 63 bit word is read as a base 6 number and
+ * yields {@link #DICE_PER_WORD} faces at once. Words at or above the largest
+ * multiple of 6<sup>23</sup> are rejected, so every face stays exactly
+ * uniform; fewer than 6% of words are thrown away. The digits are peeled off
+ * with multiplications only: each 11 digit chunk is scaled to a 61 bit fixed
+ * point fraction, and every multiplication by 6 moves the next digit into the
+ * top three bits. The fraction is exact because 6<sup>22</sup> is below 2<sup>61</sup>.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class BulkDiceSource implements DiceSource {
+    /**
+     * Default number of faces generated per block.
+     */
+    public static final int DEFAULT_BLOCK = 4096;
+
+    /**
+     * Number of faces extracted from one accepted random word.
+     */
+    public static final int DICE_PER_WORD = 23;
+
+    /**
+     * Number of distinct rolls of {@link #DICE_PER_WORD} dice, 6 to the 23rd.
+     */
+    private static final long DICE_RANGE = 789_730_223_053_602_816L;
+
+    /**
+     * Number of faces in one int sized chunk of a word.
+     */
+    private static final int CHUNK_DICE = 11;
+
+    /**
+     * Number of distinct rolls of {@link #CHUNK_DICE} dice, 6 to the 11th.
+     */
+    private static final long CHUNK_RANGE = 362_797_056L;
+
+    /**
+     * Number of fraction bits of a scaled chunk.
+     */
+    private static final int FRACTION_BITS = 61;
+
+    /**
+     * Mask of the fraction bits of a scaled chunk.
+     */
+    private static final long FRACTION_MASK = (1L << FRACTION_BITS) - 1;
+
+    /**
+     * Scale that turns a chunk into a fraction, 2 to the 61st over 6 to the 11th rounded up.
+     */
+    private static final long CHUNK_SCALE = 6_355_737_929L;
+
+    /**
+     * Largest multiple of {@link #DICE_RANGE} that fits in 63 bits, the rejection limit.
+     */
+    private static final long ACCEPT_LIMIT = (Long.MAX_VALUE / DICE_RANGE) * DICE_RANGE;
+
+    /**
+     * Generator the faces are drawn from.
+     */
+    private final RandomGenerator myGenerator;
+
+    /**
+     * Faces of the current block.
+     */
+    private final byte[] myFaces;
+
+    /**
+     * Index of the next face to hand out.
+     */
+    private int myPosition;
+
+    /**
+     * Constructs a source for the given generator with the default block size.
+     *
+     * @param theGenerator the generator to draw faces from.
+     */
+    public BulkDiceSource(final RandomGenerator theGenerator) {
+        this(theGenerator, DEFAULT_BLOCK);
+    }
+
+    /**
+     * Constructs a source for the given generator.
+     *
+     * @param theGenerator the generator to draw faces from.
+     * @param theBlock the number of faces generated at a time.
+     * @throws IllegalArgumentException if the block holds fewer than two faces.
+     */
+    public BulkDiceSource(final RandomGenerator theGenerator, final int theBlock) {
+        if (theBlock < 2) {
+            throw new IllegalArgumentException("The block must hold at least 2 faces, "
+                    + "current value is " + theBlock);
+        }
+        myGenerator = Objects.requireNonNull(theGenerator, "theGenerator");
+        myFaces = new byte[theBlock];
+        myPosition = theBlock;
+    }
+
+    @Override
+    public int nextDie() {
+        if (myPosition == myFaces.length) {
+            refill();
+        }
+        return myFaces[myPosition++];
+    }
+
+    @Override
+    public int nextTotal() {
+        if (myPosition > myFaces.length - 2) {
+            refill();
+        }
+        final int total = myFaces[myPosition] + myFaces[myPosition + 1];
+        myPosition += 2;
+        return total;
+    }
+
+    /**
+     * Fills part of an array with fresh faces from this source's generator.
+     * The faces are not taken from the current block.
+     *
+     * @param theFaces the array to fill.
+     * @param theFrom the first index to fill, inclusive.
+     * @param theTo the last index to fill, exclusive.
+     * @throws IndexOutOfBoundsException if the range is outside the array.
+     */
+    public void fill(final byte[] theFaces, final int theFrom, final int theTo) {
+        fill(myGenerator, theFaces, theFrom, theTo);
+    }
+
+    /**
+     * Fills part of an array with faces from 1 to 6 drawn from a generator.
+     *
+     * @param theGenerator the generator to draw from.
+     * @param theFaces the array to fill.
+     * @param theFrom the first index to fill, inclusive.
+     * @param theTo the last index to fill, exclusive.
+     * @throws IndexOutOfBoundsException if the range is outside the array.
+     */
+    public static void fill(final RandomGenerator theGenerator, final byte[] theFaces,
+                            final int theFrom, final int theTo) {
+        Objects.checkFromToIndex(theFrom, theTo, theFaces.length);
+        int index = theFrom;
+        while (index < theTo) {
+            final long word = theGenerator.nextLong() >>> 1;
+            if (word >= ACCEPT_LIMIT) {
+                continue;
+            }
+            final int count = Math.min(DICE_PER_WORD, theTo - index);
+            final int low = Math.min(CHUNK_DICE, count);
+            final int middle = Math.min(CHUNK_DICE, count - low);
+            final long high = word / CHUNK_RANGE;
+            final long top = high / CHUNK_RANGE;
+            index = digits(word - high * CHUNK_RANGE, theFaces, index, low);
+            index = digits(high - top * CHUNK_RANGE, theFaces, index, middle);
+            if (count == DICE_PER_WORD) {
+                theFaces[index++] = (byte) (top % 6 + 1);
+            }
+        }
+    }
+
+    /**
+     * Writes the leading base 6 digits of a chunk as faces.
+     *
+     * @param theChunk the chunk, below 6 to the 11th.
+     * @param theFaces the array to write to.
+     * @param theIndex the index of the first face.
+     * @param theCount the number of faces to write, at most {@link #CHUNK_DICE}.
+     * @return the index after the last face written.
+     */
+    private static int digits(final long theChunk, final byte[] theFaces,
+                              final int theIndex, final int theCount) {
+        long fraction = theChunk * CHUNK_SCALE;
+        final int end = theIndex + theCount;
+        for (int index = theIndex; index < end; index++) {
+            fraction *= 6;
+            theFaces[index] = (byte) ((fraction >>> FRACTION_BITS) + 1);
+            fraction &= FRACTION_MASK;
+        }
+        return end;
+    }
+
+    /**
+     * Moves any face left over to the front and generates the rest of the block.
+     */
+    private void refill() {
+        final int left = myFaces.length - myPosition;
+        System.arraycopy(myFaces, myPosition, myFaces, 0, left);
+        fill(myGenerator, myFaces, left, myFaces.length);
+        myPosition = 0;
+    }
+
+    /**
+     * Generates a string naming the backing generator.
+     *
+     * @return a string representing the dice source.
+     */
+    @Override
+    public String toString() {
+        return "Bulk dice: " + myGenerator.getClass().getSimpleName();
+    }
+}
\ No newline at end of file
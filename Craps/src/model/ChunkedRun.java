@@ -0,0 +1,181 @@
+package model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Fork/join driver shared by the simulators that split a run into chunks.
+ * The work is cut into fixed-size chunks, each played with its own seed
+ * derived from the master seed and the chunk index, and the chunk results
+ * are merged pairwise. Chunking never depends on the number of threads, so a
+ * given master seed yields the same result for any parallelism.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+final class ChunkedRun {
+    /**
+     * Golden ratio increment used by SplitMix64 to spread chunk seeds.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ChunkedRun() {
+    }
+
+    /**
+     * Plays the work of one chunk.
+     *
+     * @param <R> the type of the result.
+     */
+    @FunctionalInterface
+    interface Chunk<R> {
+        /**
+         * Plays a chunk.
+         *
+         * @param theSeed the seed of the chunk.
+         * @param theCount the number of units in the chunk.
+         * @return the result of the chunk.
+         */
+        R play(long theSeed, long theCount);
+    }
+
+    /**
+     * Plays a run across a pool.
+     *
+     * @param <R> the type of the result.
+     * @param thePool the pool that plays the chunks.
+     * @param theTotal the number of units to play.
+     * @param theChunkSize the number of units played by one chunk.
+     * @param theMasterSeed the seed every chunk seed is derived from.
+     * @param theChunk plays one chunk.
+     * @param theMerge merges the results of two ranges of chunks.
+     * @param theEmpty supplies the result of a run without units.
+     * @return the merged results of all chunks.
+     */
+    static <R> R invoke(final ForkJoinPool thePool, final long theTotal, final long theChunkSize,
+                        final long theMasterSeed, final Chunk<R> theChunk,
+                        final BinaryOperator<R> theMerge, final Supplier<R> theEmpty) {
+        final long chunks = theTotal == 0 ? 0 : (theTotal - 1) / theChunkSize + 1;
+        if (chunks == 0) {
+            return theEmpty.get();
+        }
+        return thePool.invoke(new ChunkTask<>(theTotal, theChunkSize, theMasterSeed,
+                theChunk, theMerge, 0, chunks));
+    }
+
+    /**
+     * Derives the seed of one chunk from the master seed.
+     * Uses the SplitMix64 finalizer so neighbouring chunks get unrelated streams.
+     *
+     * @param theMasterSeed the master seed of the run.
+     * @param theIndex the index of the chunk.
+     * @return the seed for the chunk.
+     */
+    static long chunkSeed(final long theMasterSeed, final long theIndex) {
+        long z = theMasterSeed + (theIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Creates a pool with the given number of workers.
+     *
+     * @param theParallelism the number of worker threads.
+     * @return the new pool.
+     * @throws IllegalArgumentException if the parallelism is less than 1.
+     */
+    static ForkJoinPool newPool(final int theParallelism) {
+        if (theParallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1, "
+                    + "current value is " + theParallelism);
+        }
+        return new ForkJoinPool(theParallelism);
+    }
+
+    /**
+     * Plays a range of chunks, splitting it in half until one chunk is left.
+     *
+     * @param <R> the type of the result.
+     */
+    private static final class ChunkTask<R> extends RecursiveTask<R> {
+        /**
+         * Total units of the run, used to size the last chunk.
+         */
+        private final long myTotal;
+
+        /**
+         * Number of units played by one chunk.
+         */
+        private final long myChunkSize;
+
+        /**
+         * Master seed of the run.
+         */
+        private final long myMasterSeed;
+
+        /**
+         * Plays one chunk.
+         */
+        private final Chunk<R> myChunk;
+
+        /**
+         * Merges the results of two ranges.
+         */
+        private final BinaryOperator<R> myMerge;
+
+        /**
+         * First chunk of the range, inclusive.
+         */
+        private final long myFrom;
+
+        /**
+         * Last chunk of the range, exclusive.
+         */
+        private final long myTo;
+
+        /**
+         * Constructs a task for a range of chunks.
+         *
+         * @param theTotal the total units of the run.
+         * @param theChunkSize the number of units played by one chunk.
+         * @param theMasterSeed the master seed of the run.
+         * @param theChunk plays one chunk.
+         * @param theMerge merges the results of two ranges.
+         * @param theFrom the first chunk, inclusive.
+         * @param theTo the last chunk, exclusive.
+         */
+        private ChunkTask(final long theTotal, final long theChunkSize, final long theMasterSeed,
+                          final Chunk<R> theChunk, final BinaryOperator<R> theMerge,
+                          final long theFrom, final long theTo) {
+            myTotal = theTotal;
+            myChunkSize = theChunkSize;
+            myMasterSeed = theMasterSeed;
+            myChunk = theChunk;
+            myMerge = theMerge;
+            myFrom = theFrom;
+            myTo = theTo;
+        }
+
+        @Override
+        protected R compute() {
+            if (myTo - myFrom == 1) {
+                final long start = myFrom * myChunkSize;
+                return myChunk.play(chunkSeed(myMasterSeed, myFrom), Math.min(myChunkSize, myTotal - start));
+            }
+            final long middle = (myFrom + myTo) >>> 1;
+            final ChunkTask<R> left = new ChunkTask<>(myTotal, myChunkSize, myMasterSeed,
+                    myChunk, myMerge, myFrom, middle);
+            final ChunkTask<R> right = new ChunkTask<>(myTotal, myChunkSize, myMasterSeed,
+                    myChunk, myMerge, middle, myTo);
+            left.fork();
+            final R rightResult = right.compute();
+            return myMerge.apply(left.join(), rightResult);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Thread-safe bank and bet ledger for bets arriving from many threads.
+ * The bank and the bet are packed into one 64-bit word that is only ever
+ * replaced with a VarHandle compare-and-set, so every operation sees and
+ * writes a consistent pair and money is never created or lost.
+ *
+ * <p>Unlike {@link BankBetLogic}, the bet here is the money currently on the
+ * table: settling a round pays it out or forfeits it and leaves the bet at 0.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class ConcurrentBankroll {
+    /**
+     * Handle for compare-and-set on {@link #myState}.
+     */
+    private static final VarHandle STATE;
+
+    /**
+     * Mask for the bet in the low half of the packed word.
+     */
+    private static final long BET_MASK = 0xFFFF_FFFFL;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(ConcurrentBankroll.class, "myState", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Bank in the high 32 bits, bet in the low 32 bits.
+     */
+    private volatile long myState;
+
+    /**
+     * Constructs an empty ledger.
+     */
+    public ConcurrentBankroll() {
+        myState = 0;
+    }
+
+    /**
+     * Sets the bank amount, leaving the bet on the table.
+     *
+     * @param theAmount the amount to be set for the bank.
+     * @throws IllegalArgumentException if the amount is less than or equal to 0.
+     */
+    public void setBankAmount(final int theAmount) {
+        if (theAmount <= 0) {
+            throw new IllegalArgumentException("The bank amount must be greater than 0, "
+                    + "current value is " + theAmount);
+        }
+        long current;
+        do {
+            current = myState;
+        } while (!cas(current, pack(theAmount, bet(current))));
+    }
+
+    /**
+     * Moves money from the bank onto the bet.
+     *
+     * @param theOffSet the amount to add to the bet.
+     * @throws IllegalArgumentException if the offset is not positive or exceeds the bank.
+     */
+    public void adjustBet(final int theOffSet) {
+        if (theOffSet <= 0) {
+            throw new IllegalArgumentException("The bet mount must be greater than 0, "
+                    + "current offset is " + theOffSet);
+        }
+        long current;
+        long next;
+        do {
+            current = myState;
+            final int bank = bank(current);
+            if (theOffSet > bank) {
+                throw new IllegalArgumentException("The bet amount exceeds the available bank balance, "
+                        + "current bank is " + bank);
+            }
+            next = pack(bank - theOffSet, Math.addExact(bet(current), theOffSet));
+        } while (!cas(current, next));
+    }
+
+    /**
+     * Moves the whole bank onto the bet.
+     *
+     * @return the amount moved.
+     */
+    public int allIn() {
+        long current;
+        do {
+            current = myState;
+        } while (!cas(current, pack(0, Math.addExact(bet(current), bank(current)))));
+        return bank(current);
+    }
+
+    /**
+     * Returns the bet to the bank without settling it.
+     *
+     * @return the amount returned.
+     */
+    public int cancelBet() {
+        long current;
+        do {
+            current = myState;
+        } while (!cas(current, pack(Math.addExact(bank(current), bet(current)), 0)));
+        return bet(current);
+    }
+
+    /**
+     * Settles the bet on the table at even money.
+     * A win returns the bet plus an equal payout to the bank,
+     * a loss forfeits it to the house.
+     *
+     * @param theWon true if the player won the round.
+     * @return the bet that was settled.
+     */
+    public int settle(final boolean theWon) {
+        long current;
+        long next;
+        do {
+            current = myState;
+            final int bet = bet(current);
+            final int bank = theWon ? Math.addExact(bank(current), Math.multiplyExact(bet, 2)) : bank(current);
+            next = pack(bank, 0);
+        } while (!cas(current, next));
+        return bet(current);
+    }
+
+    /**
+     * Retrieves the current bank amount.
+     *
+     * @return the current bank amount.
+     */
+    public int getBankAmount() {
+        return bank(myState);
+    }
+
+    /**
+     * Retrieves the current bet amount.
+     *
+     * @return the current bet amount.
+     */
+    public int getBetAmount() {
+        return bet(myState);
+    }
+
+    /**
+     * Retrieves the bank plus the bet from one consistent read.
+     *
+     * @return the money held by the player.
+     */
+    public long getTotal() {
+        final long state = myState;
+        return (long) bank(state) + bet(state);
+    }
+
+    /**
+     * Swaps the packed word if it still holds the expected value.
+     * Backs off briefly when another thread won the race.
+     *
+     * @param theExpected the value read before the update.
+     * @param theNext the value to write.
+     * @return true if the word was replaced.
+     */
+    private boolean cas(final long theExpected, final long theNext) {
+        if (STATE.compareAndSet(this, theExpected, theNext)) {
+            return true;
+        }
+        Thread.onSpinWait();
+        return false;
+    }
+
+    /**
+     * Packs a bank and a bet into one word.
+     *
+     * @param theBank the bank amount.
+     * @param theBet the bet amount.
+     * @return the packed word.
+     */
+    private static long pack(final int theBank, final int theBet) {
+        return (long) theBank << 32 | theBet & BET_MASK;
+    }
+
+    /**
+     * Unpacks the bank from a packed word.
+     *
+     * @param theState the packed word.
+     * @return the bank amount.
+     */
+    private static int bank(final long theState) {
+        return (int) (theState >>> 32);
+    }
+
+    /**
+     * Unpacks the bet from a packed word.
+     *
+     * @param theState the packed word.
+     * @return the bet amount.
+     */
+    private static int bet(final long theState) {
+        return (int) theState;
+    }
+
+    /**
+     * Generates a string of the bank amount and the bet amount.
+     *
+     * @return a string representing the bank and bet amounts.
+     */
+    @Override
+    public String toString() {
+        final long state = myState;
+        return "Bank: " + bank(state)
+             + "\nBet: " + bet(state);
+    }
+}
\ No newline at end of file
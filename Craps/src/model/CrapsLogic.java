@@ -1,8 +1,9 @@
 package model;
 
+import metrics.CrapsMetrics;
+
 import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
-import java.util.Random;
+import java.util.Objects;
 
 /**
  * The CrapsLogic class simulates the logic of a game of Craps.
@@ -15,14 +16,34 @@ import java.util.Random;
  */
 public class CrapsLogic {
     /**
-     * Manages the PropertyChangeSupport for handling property changes.
+     * Publishes the typed game events.
      */
-    private final PropertyChangeSupport myChanges = new PropertyChangeSupport(this);
+    private final GameEventBus myBus = new GameEventBus();
 
     /**
-     * Utilized for generating random numbers in the game.
+     * Republishes events to PropertyChangeListeners, created with the first one.
      */
-    private final Random myRandom = new Random();
+    private PropertyChangeBridge myBridge;
+
+    /**
+     * Supplies the dice faces for the game.
+     */
+    private final DiceSource myDice;
+
+    /**
+     * The bank this game checks, or null to use the singleton bank.
+     */
+    private BankBetLogic myBank;
+
+    /**
+     * Journal every roll is appended to, or null if rolls are not journaled.
+     */
+    private RollJournal myJournal;
+
+    /**
+     * Streaming statistics of every roll of this game.
+     */
+    private final RollStatistics myStats = new RollStatistics();
 
     /**
      * Represents the value of the first dice.
@@ -70,9 +91,21 @@ public class CrapsLogic {
     private static final CrapsLogic myInstance = new CrapsLogic();
 
     /**
-     * Initializes the CrapsLogic instance and starts the game.
+     * Initializes the CrapsLogic instance with an L64X128MixRandom dice source
+     * and starts the game.
      */
     public CrapsLogic() {
+        this(DiceSource.l64x128());
+    }
+
+    /**
+     * Initializes the CrapsLogic instance with the given dice source
+     * and starts the game.
+     *
+     * @param theDice the source of the dice faces.
+     */
+    public CrapsLogic(final DiceSource theDice) {
+        myDice = Objects.requireNonNull(theDice, "theDice");
         startGame();
     }
 
@@ -84,7 +117,7 @@ public class CrapsLogic {
     public void setGameActive(final Boolean theActive) {
         myGameActive = theActive;
         if (!myGameActive) {
-            myChanges.firePropertyChange("active", null, false);
+            myBus.publish(GameEvent.ACTIVE, 0);
         }
     }
 
@@ -96,9 +129,9 @@ public class CrapsLogic {
      */
     public void setWins(final boolean theGameWins) {
         myGameWon = theGameWins;
-        myChanges.firePropertyChange("diceRoll", null, this);
-        myChanges.firePropertyChange("winStatus", null, true);
-        myChanges.firePropertyChange("winDisplay", null, theGameWins);
+        myBus.publish(GameEvent.DICE_ROLL, rollPayload());
+        myBus.publish(GameEvent.WIN_STATUS, 1);
+        myBus.publish(GameEvent.WIN_DISPLAY, theGameWins ? 1 : 0);
     }
 
     /**
@@ -218,6 +251,82 @@ public class CrapsLogic {
         return myInstance;
     }
 
+    /**
+     * Restores the game from a snapshot and tells listeners the restored roll.
+     * The fields are set directly so no win is settled again.
+     *
+     * @param theDie1 the value of the first die.
+     * @param theDie2 the value of the second die.
+     * @param theTotal the total of the last roll.
+     * @param thePoint the point of the round in play.
+     * @param thePlayerWins the number of player wins.
+     * @param theHouseWins the number of house wins.
+     * @param theActive true if a round was in play.
+     * @param theWon true if the last round was won.
+     */
+    void restore(final int theDie1, final int theDie2, final int theTotal, final int thePoint,
+                 final int thePlayerWins, final int theHouseWins,
+                 final boolean theActive, final boolean theWon) {
+        myDice1 = theDie1;
+        myDice2 = theDie2;
+        myTotal = theTotal;
+        myPoint = thePoint;
+        myPlayerWins = thePlayerWins;
+        myHouseWins = theHouseWins;
+        myGameActive = theActive;
+        myGameWon = theWon;
+        myBus.publish(GameEvent.DICE_ROLL, rollPayload());
+    }
+
+    /**
+     * Retrieves the streaming statistics of this game's rolls,
+     * which any thread may read while the game is played.
+     *
+     * @return the roll statistics.
+     */
+    public RollStatistics getStatistics() {
+        return myStats;
+    }
+
+    /**
+     * Sets the journal every roll is appended to.
+     *
+     * @param theJournal the roll journal, or null to stop journaling.
+     */
+    public void setJournal(final RollJournal theJournal) {
+        myJournal = theJournal;
+    }
+
+    /**
+     * Appends the current roll to the journal, if there is one.
+     * Decisions are journaled before they are settled, so the bet is still placed.
+     *
+     * @param theOutcome the outcome of the roll.
+     */
+    private void journal(final int theOutcome) {
+        if (myJournal != null) {
+            myJournal.record(this, theOutcome);
+        }
+    }
+
+    /**
+     * Retrieves the bank this game checks.
+     *
+     * @return the linked bank, or the singleton bank if none is linked.
+     */
+    public BankBetLogic getBank() {
+        return myBank == null ? BankBetLogic.getBankBetInstance() : myBank;
+    }
+
+    /**
+     * Links this game to the bank of its table.
+     *
+     * @param theBank the bank this game checks.
+     */
+    void setBank(final BankBetLogic theBank) {
+        myBank = theBank;
+    }
+
     /**
      * Checks if the game is active.
      *
@@ -254,35 +363,33 @@ public class CrapsLogic {
      */
     public void roll() {
         if (myGameActive) {
-            setDie1(myRandom.nextInt(1, 7));
-            setDie2(myRandom.nextInt(1, 7));
+            setDie1(myDice.nextDie());
+            setDie2(myDice.nextDie());
             setTotal(myDice1 + myDice2);
-
-            if (myPoint == 0) {
-                if (myTotal == 7 || myTotal == 11) {
-                    myPlayerWins++;
-                    setWins(true);
-                    setGameActive(false);
-                } else if (myTotal == 2 || myTotal == 3 || myTotal == 12) {
-                    myHouseWins++;
-                    setWins(false);
-                    setGameActive(false);
-                } else {
-                    setPoint(myTotal);
-                }
+            CrapsMetrics.rolled();
+
+            final int point = myPoint;
+            final int result = RollKernel.resolve(point, myTotal);
+            myStats.record(myTotal, myPoint, result);
+            if (!RollKernel.isDecided(result)) {
+                setPoint(RollKernel.nextPoint(result));
+                journal(RollJournal.NO_DECISION);
+            } else if (RollKernel.isPlayerWin(result)) {
+                journal(RollJournal.PLAYER_WIN);
+                CrapsMetrics.decided();
+                myPlayerWins++;
+                setWins(true);
+                setGameActive(false);
             } else {
-                if (myTotal == myPoint) {
-                    myPlayerWins++;
-                    setWins(true);
-                    setGameActive(false);
-                } else if (myTotal == 7) {
-                    myHouseWins++;
-                    setWins(false);
-                    setGameActive(false);
-                }
+                journal(RollJournal.HOUSE_WIN);
+                CrapsMetrics.decided();
+                myHouseWins++;
+                setWins(false);
+                setGameActive(false);
             }
+            getBank().settleTableBets(myDice1, myDice2, point);
         }
-        myChanges.firePropertyChange("diceRoll", null, this);
+        myBus.publish(GameEvent.DICE_ROLL, rollPayload());
     }
 
     /**
@@ -306,33 +413,62 @@ public class CrapsLogic {
         setTotal(0);
         setPlayerWins(0);
         setHouseWins(0);
-        myChanges.firePropertyChange("displayReset",null,this);
+        myBus.publish(GameEvent.DISPLAY_RESET, 0);
     }
 
     /**
-     * Checks the bank balance, triggers game over if the bank amount is zero,
-     * and performs a hard reset of the game.
+     * Checks the bank balance, triggers game over if the bank amount is zero
+     * and no bets are left on the table, and performs a hard reset of the game.
+     * Once a round is decided, bets still on the table of an empty bank are
+     * taken down and paid back to it, so they are never stranded there.
      *
-     * @return true if bank balance is zero, false otherwise.
+     * @return true if the bank is zero with no bets on the table, false otherwise.
      */
     public boolean checkBankBalance() {
-        BankBetLogic bank = BankBetLogic.getBankBetInstance();
-        if (bank.getBankAmount() == 0) {
+        BankBetLogic bank = getBank();
+        if (bank.getBankCents() == 0 && !isGameActive()) {
+            bank.takeDownTableBets();
+        }
+        final boolean broke = bank.getBankCents() == 0 && bank.getTableBets().isEmpty();
+        if (broke) {
             bank.resetBankAndBet();
             bank.gameEnd();
-            myChanges.firePropertyChange("gameOver", null, bank.getBankAmount() == 0);
+            myBus.publish(GameEvent.GAME_OVER, bank.getBankCents() == 0 ? 1 : 0);
             hardReset();
         }
-        return bank.getBankAmount() == 0;
+        return broke;
+    }
+
+    /**
+     * Packs the current dice, total and point into a dice roll payload.
+     *
+     * @return the payload for a {@link GameEvent#DICE_ROLL} event.
+     */
+    private long rollPayload() {
+        return GameEvent.packRoll(myDice1, myDice2, myTotal, myPoint);
+    }
+
+    /**
+     * Retrieves the bus the game events are published on.
+     *
+     * @return the event bus of this game.
+     */
+    public GameEventBus getEventBus() {
+        return myBus;
     }
 
     /**
      * Adds a PropertyChangeListener to listen for changes in the CrapsLogic class.
+     * Prefer subscribing to {@link #getEventBus()}, which does not box values.
      *
      * @param theL the PropertyChangeListener to be added.
      */
-    public void addPropertyChangeListener(PropertyChangeListener theL) {
-        myChanges.addPropertyChangeListener(theL);
+    public synchronized void addPropertyChangeListener(PropertyChangeListener theL) {
+        if (myBridge == null) {
+            myBridge = new PropertyChangeBridge(this, myBus, GameEvent.DICE_ROLL, GameEvent.WIN_STATUS,
+                    GameEvent.WIN_DISPLAY, GameEvent.ACTIVE, GameEvent.DISPLAY_RESET, GameEvent.GAME_OVER);
+        }
+        myBridge.addPropertyChangeListener(theL);
     }
 
     /**
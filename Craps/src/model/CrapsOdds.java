@@ -0,0 +1,245 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Exact odds of the pass line, solved once from the {@link RollKernel} rules.
+ * The come out roll and each point are the transient states of an absorbing
+ * Markov chain whose absorbing states are a player win and a house win.
+ * Solving (I - Q) x = b with exact fractions gives the win probability and
+ * the expected number of rolls from every state, so the results double as an
+ * oracle for the simulations.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class CrapsOdds {
+    /**
+     * Number of the 36 dice combinations giving each total, indexed by the total.
+     */
+    private static final int[] WAYS = {0, 0, 1, 2, 3, 4, 5, 6, 5, 4, 3, 2, 1};
+
+    /**
+     * Number of equally likely dice combinations.
+     */
+    private static final int COMBINATIONS = 36;
+
+    /**
+     * Point of the come out roll.
+     */
+    private static final int COME_OUT = 0;
+
+    /**
+     * Index of each state in the chain, indexed by the point, -1 if not a state.
+     */
+    private final int[] myIndex = new int[11];
+
+    /**
+     * Probability of moving between transient states, one row per state.
+     */
+    private final Fraction[][] myTransitions;
+
+    /**
+     * Probability of the player eventually winning from each state.
+     */
+    private final Fraction[] myWin;
+
+    /**
+     * Expected number of rolls to a decision from each state.
+     */
+    private final Fraction[] myRolls;
+
+    /**
+     * Holds the odds, solved on first use.
+     */
+    private static final class Holder {
+        /**
+         * The solved odds.
+         */
+        private static final CrapsOdds INSTANCE = new CrapsOdds();
+    }
+
+    /**
+     * Builds the chain from the roll rules and solves it.
+     */
+    private CrapsOdds() {
+        Arrays.fill(myIndex, -1);
+        final int[] points = new int[myIndex.length];
+        int states = 0;
+        myIndex[COME_OUT] = states;
+        points[states++] = COME_OUT;
+        for (int i = 0; i < states; i++) {
+            for (int total = 2; total <= 12; total++) {
+                final int result = RollKernel.resolve(points[i], total);
+                final int next = RollKernel.nextPoint(result);
+                if (!RollKernel.isDecided(result) && myIndex[next] < 0) {
+                    myIndex[next] = states;
+                    points[states++] = next;
+                }
+            }
+        }
+
+        myTransitions = new Fraction[states][states];
+        final Fraction[][] system = new Fraction[states][states + 2];
+        for (int i = 0; i < states; i++) {
+            Arrays.fill(myTransitions[i], Fraction.ZERO);
+            Arrays.fill(system[i], Fraction.ZERO);
+            system[i][i] = Fraction.ONE;
+            system[i][states + 1] = Fraction.ONE;
+            for (int total = 2; total <= 12; total++) {
+                final Fraction chance = Fraction.of(WAYS[total], COMBINATIONS);
+                final int result = RollKernel.resolve(points[i], total);
+                if (!RollKernel.isDecided(result)) {
+                    final int j = myIndex[RollKernel.nextPoint(result)];
+                    myTransitions[i][j] = myTransitions[i][j].add(chance);
+                    system[i][j] = system[i][j].subtract(chance);
+                } else if (RollKernel.isPlayerWin(result)) {
+                    system[i][states] = system[i][states].add(chance);
+                }
+            }
+        }
+
+        solve(system);
+        myWin = new Fraction[states];
+        myRolls = new Fraction[states];
+        for (int i = 0; i < states; i++) {
+            myWin[i] = system[i][states];
+            myRolls[i] = system[i][states + 1];
+        }
+    }
+
+    /**
+     * Reduces an augmented system to reduced row echelon form with Gauss-Jordan
+     * elimination, leaving the solutions in the right hand side columns.
+     *
+     * @param theSystem the square coefficients followed by the right hand sides.
+     * @throws ArithmeticException if the system is singular.
+     */
+    private static void solve(final Fraction[][] theSystem) {
+        final int size = theSystem.length;
+        for (int col = 0; col < size; col++) {
+            int pivot = col;
+            while (pivot < size && theSystem[pivot][col].isZero()) {
+                pivot++;
+            }
+            if (pivot == size) {
+                throw new ArithmeticException("The chain has a state that never reaches a decision");
+            }
+            final Fraction[] swap = theSystem[col];
+            theSystem[col] = theSystem[pivot];
+            theSystem[pivot] = swap;
+
+            final Fraction scale = theSystem[col][col];
+            for (int k = col; k < theSystem[col].length; k++) {
+                theSystem[col][k] = theSystem[col][k].divide(scale);
+            }
+            for (int row = 0; row < size; row++) {
+                final Fraction factor = theSystem[row][col];
+                if (row != col && !factor.isZero()) {
+                    for (int k = col; k < theSystem[row].length; k++) {
+                        theSystem[row][k] = theSystem[row][k].subtract(factor.multiply(theSystem[col][k]));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the solved odds, computing them on the first call only.
+     *
+     * @return the odds of the pass line.
+     */
+    public static CrapsOdds getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Retrieves the probability that the player wins a round.
+     *
+     * @return the exact win probability, 244/495.
+     */
+    public Fraction getPlayerWinProbability() {
+        return myWin[myIndex[COME_OUT]];
+    }
+
+    /**
+     * Retrieves the probability that the house wins a round.
+     *
+     * @return the exact loss probability, 251/495.
+     */
+    public Fraction getHouseWinProbability() {
+        return Fraction.ONE.subtract(getPlayerWinProbability());
+    }
+
+    /**
+     * Retrieves the house edge of an even money pass line bet.
+     *
+     * @return the expected loss per unit bet, 7/495.
+     */
+    public Fraction getHouseEdge() {
+        return getHouseWinProbability().subtract(getPlayerWinProbability());
+    }
+
+    /**
+     * Retrieves the expected number of rolls per decision.
+     *
+     * @return the exact expected rolls, 557/165.
+     */
+    public Fraction getExpectedRolls() {
+        return myRolls[myIndex[COME_OUT]];
+    }
+
+    /**
+     * Retrieves the probability that the come out roll establishes a point.
+     *
+     * @param thePoint the point, 4 to 10.
+     * @return the probability of establishing the point.
+     * @throws IllegalArgumentException if the value is not a point.
+     */
+    public Fraction getPointEstablished(final int thePoint) {
+        return myTransitions[myIndex[COME_OUT]][state(thePoint)];
+    }
+
+    /**
+     * Retrieves the probability that an established point is made before a 7.
+     *
+     * @param thePoint the point, 4 to 10.
+     * @return the conversion probability of the point.
+     * @throws IllegalArgumentException if the value is not a point.
+     */
+    public Fraction getPointConversion(final int thePoint) {
+        return myWin[state(thePoint)];
+    }
+
+    /**
+     * Retrieves the expected number of rolls to a decision once a point is established.
+     *
+     * @param thePoint the point, 4 to 10.
+     * @return the expected rolls from the point.
+     * @throws IllegalArgumentException if the value is not a point.
+     */
+    public Fraction getExpectedRolls(final int thePoint) {
+        return myRolls[state(thePoint)];
+    }
+
+    /**
+     * Finds the state of a point.
+     *
+     * @param thePoint the point.
+     * @return the index of the state.
+     * @throws IllegalArgumentException if the value is not a point.
+     */
+    private int state(final int thePoint) {
+        if (thePoint <= 0 || thePoint >= myIndex.length || myIndex[thePoint] < 0) {
+            throw new IllegalArgumentException("The point must be 4, 5, 6, 8, 9 or 10, "
+                    + "current value is " + thePoint);
+        }
+        return myIndex[thePoint];
+    }
+
+    @Override
+    public String toString() {
+        return "Pass line: win " + getPlayerWinProbability() + ", edge " + getHouseEdge()
+                + ", rolls " + getExpectedRolls();
+    }
+}
\ No newline at end of file
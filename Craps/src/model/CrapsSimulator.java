@@ -0,0 +1,74 @@
+package model;
+
+import java.util.Objects;
+
+/**
+ * Headless engine that plays pass-line rounds of Craps in bulk.
+ * Resolves rolls through the same {@link RollKernel} as {@link CrapsLogic#roll()}
+ * but keeps all state in local variables and fires no property change
+ * events, so it can be used for house-edge and strategy studies.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public class CrapsSimulator {
+    /**
+     * Generates the dice for the simulated rounds.
+     */
+    private final DiceSource myDice;
+
+    /**
+     * Constructs a simulator with a randomly seeded L64X128MixRandom dice source.
+     */
+    public CrapsSimulator() {
+        this(DiceSource.l64x128());
+    }
+
+    /**
+     * Constructs a simulator whose dice sequence is fully determined by the seed.
+     *
+     * @param theSeed the seed for the bulk SplittableRandom dice source.
+     */
+    public CrapsSimulator(final long theSeed) {
+        this(DiceSource.bulk(theSeed));
+    }
+
+    /**
+     * Constructs a simulator with the given dice source.
+     *
+     * @param theDice the source of the dice faces.
+     */
+    public CrapsSimulator(final DiceSource theDice) {
+        myDice = Objects.requireNonNull(theDice, "theDice");
+    }
+
+    /**
+     * Plays the given number of complete rounds.
+     * A round starts with a come-out roll and ends with a decision
+     * for either the player or the house.
+     *
+     * @param theRounds the number of rounds to play.
+     * @return the aggregated results of the rounds.
+     * @throws IllegalArgumentException if the number of rounds is negative.
+     */
+    public SimulationResult run(final long theRounds) {
+        if (theRounds < 0) {
+            throw new IllegalArgumentException("The number of rounds must not be negative, "
+                    + "current value is " + theRounds);
+        }
+        final DiceSource dice = myDice;
+        long decisions = 0;
+        long playerWins = 0;
+        long rolls = 0;
+        int row = RollKernel.COME_OUT_ROW;
+
+        while (decisions < theRounds) {
+            final int result = RollKernel.resolveRow(row, dice.nextTotal());
+            row = result & RollKernel.ROW_MASK;
+            decisions += (result >>> RollKernel.DECIDED_SHIFT) & 1;
+            playerWins += result >>> RollKernel.PLAYER_WIN_SHIFT;
+            rolls++;
+        }
+        return new SimulationResult(playerWins, decisions - playerWins, rolls);
+    }
+}
\ No newline at end of file
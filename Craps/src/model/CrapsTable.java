@@ -0,0 +1,135 @@
+package model;
+
+/**
+ * One independent Craps table: a game and the bank that bets on it.
+ * The game and bank are linked to each other instead of to the
+ * singletons, so any number of tables can live in one JVM.
+ * The operations mirror the flows of the Swing panels.
+ * A table is not thread safe; callers must serialize access to it.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class CrapsTable {
+    /**
+     * Identifier of the table in its registry.
+     */
+    private final long myId;
+
+    /**
+     * Game played at the table.
+     */
+    private final CrapsLogic myCraps;
+
+    /**
+     * Bank and bet of the player at the table.
+     */
+    private final BankBetLogic myBank;
+
+    /**
+     * Constructs a table with its own game and bank.
+     *
+     * @param theId the identifier of the table.
+     * @param theDice the source of the dice faces.
+     */
+    public CrapsTable(final long theId, final DiceSource theDice) {
+        myId = theId;
+        myCraps = new CrapsLogic(theDice);
+        myBank = new BankBetLogic();
+        myCraps.setBank(myBank);
+        myBank.setCraps(myCraps);
+    }
+
+    /**
+     * Sets the bank, as the Set Bank button does.
+     *
+     * @param theAmount the amount for the bank.
+     * @throws IllegalArgumentException if the amount is less than or equal to 0.
+     */
+    public void setBank(final int theAmount) {
+        myBank.setBankAmount(theAmount);
+        myBank.setBank(true);
+    }
+
+    /**
+     * Places a bet, as the bet field does.
+     *
+     * @param theAmount the amount to bet.
+     * @throws IllegalArgumentException if the amount is not positive or exceeds the bank.
+     */
+    public void placeBet(final int theAmount) {
+        myBank.setBetAmount(theAmount);
+    }
+
+    /**
+     * Rolls the dice if a round is in play and a bet is placed,
+     * settles the bet when the roll decides the round
+     * and ends the game when the bank is empty.
+     *
+     * @return true if the dice were rolled, false otherwise.
+     */
+    public boolean roll() {
+        if (!myCraps.isGameActive() || !myBank.getBetSet()) {
+            return false;
+        }
+        myCraps.roll();
+        if (!myCraps.isGameActive()) {
+            myBank.bettingWinLost();
+        }
+        myCraps.checkBankBalance();
+        return true;
+    }
+
+    /**
+     * Starts the next round with the same bet, as the Play Again button does.
+     *
+     * @return true if a new round started, false otherwise.
+     */
+    public boolean playAgain() {
+        if (myCraps.isGameActive() || myCraps.checkBankBalance()) {
+            return false;
+        }
+        myCraps.softReset();
+        myBank.setBetAmount(myBank.getBetAmount());
+        return true;
+    }
+
+    /**
+     * Retrieves the identifier of the table.
+     *
+     * @return the table identifier.
+     */
+    public long getId() {
+        return myId;
+    }
+
+    /**
+     * Retrieves the game played at the table.
+     *
+     * @return the game.
+     */
+    public CrapsLogic getCraps() {
+        return myCraps;
+    }
+
+    /**
+     * Retrieves the bank of the player at the table.
+     *
+     * @return the bank.
+     */
+    public BankBetLogic getBank() {
+        return myBank;
+    }
+
+    /**
+     * Generates a string of the table state.
+     *
+     * @return a string representing the table.
+     */
+    @Override
+    public String toString() {
+        return "Table: " + myId
+                + "\n" + myCraps
+                + "\n" + myBank;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package model;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Supplies die faces to the game logic and the headless simulators.
+ * Implementations are built on {@link RandomGenerator}, so any JDK
+ * algorithm can be plugged in, and the static factories cover the
+ * generators used at our tables.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@FunctionalInterface
+public interface DiceSource {
+    /**
+     * Name of the default LXM algorithm.
+     */
+    String L64X128 = "L64X128MixRandom";
+
+    /**
+     * Rolls one die.
+     *
+     * @return a face from 1 to 6.
+     */
+    int nextDie();
+
+    /**
+     * Rolls two dice.
+     *
+     * @return the total of the two faces, from 2 to 12.
+     */
+    default int nextTotal() {
+        return nextDie() + nextDie();
+    }
+
+    /**
+     * Wraps a random generator.
+     * The generator must not be shared between threads unless it is thread safe.
+     *
+     * @param theGenerator the generator to draw faces from.
+     * @return a dice source backed by the generator.
+     */
+    static DiceSource of(final RandomGenerator theGenerator) {
+        return new RandomDiceSource(theGenerator);
+    }
+
+    /**
+     * Creates a source backed by a randomly seeded L64X128MixRandom.
+     *
+     * @return a new dice source.
+     */
+    static DiceSource l64x128() {
+        return of(RandomGeneratorFactory.of(L64X128).create());
+    }
+
+    /**
+     * Creates a source backed by a seeded L64X128MixRandom.
+     *
+     * @param theSeed the seed for the generator.
+     * @return a new dice source.
+     */
+    static DiceSource l64x128(final long theSeed) {
+        return of(RandomGeneratorFactory.of(L64X128).create(theSeed));
+    }
+
+    /**
+     * Creates a source backed by a seeded SplittableRandom.
+     *
+     * @param theSeed the seed for the generator.
+     * @return a new dice source.
+     */
+    static DiceSource splittable(final long theSeed) {
+        return of(new SplittableRandom(theSeed));
+    }
+
+    /**
+     * Creates a seeded SplittableRandom source that generates its faces in blocks.
+     *
+     * @param theSeed the seed for the generator.
+     * @return a new bulk dice source.
+     */
+    static BulkDiceSource bulk(final long theSeed) {
+        return new BulkDiceSource(new SplittableRandom(theSeed));
+    }
+
+    /**
+     * Retrieves a source that rolls with the calling thread's ThreadLocalRandom.
+     * It holds no state, so one instance can be shared by any number of tables and threads,
+     * but it cannot be seeded.
+     *
+     * @return the shared thread local dice source.
+     */
+    static DiceSource threadLocal() {
+        return () -> ThreadLocalRandom.current().nextInt(1, 7);
+    }
+
+    /**
+     * Creates a seeded source that can be rewound to replay its rolls.
+     *
+     * @param theSeed the seed the rolls are replayed from.
+     * @return a new replay dice source.
+     */
+    static ReplayDiceSource replay(final long theSeed) {
+        return new ReplayDiceSource(theSeed);
+    }
+
+    /**
+     * Creates a source backed by a SecureRandom for real-money tables.
+     *
+     * @return a new cryptographically strong dice source.
+     */
+    static DiceSource secure() {
+        return of(new SecureRandom());
+    }
+}
\ No newline at end of file
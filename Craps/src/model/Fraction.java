@@ -0,0 +1,191 @@
+package model;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Immutable exact rational number in lowest terms with a positive denominator.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class Fraction implements Comparable<Fraction> {
+    /**
+     * The fraction 0.
+     */
+    public static final Fraction ZERO = new Fraction(BigInteger.ZERO, BigInteger.ONE);
+
+    /**
+     * The fraction 1.
+     */
+    public static final Fraction ONE = new Fraction(BigInteger.ONE, BigInteger.ONE);
+
+    /**
+     * Numerator, carrying the sign.
+     */
+    private final BigInteger myNumerator;
+
+    /**
+     * Denominator, always positive.
+     */
+    private final BigInteger myDenominator;
+
+    /**
+     * Constructs a fraction that is already in lowest terms.
+     *
+     * @param theNumerator the numerator.
+     * @param theDenominator the positive denominator.
+     */
+    private Fraction(final BigInteger theNumerator, final BigInteger theDenominator) {
+        myNumerator = theNumerator;
+        myDenominator = theDenominator;
+    }
+
+    /**
+     * Creates a fraction in lowest terms.
+     *
+     * @param theNumerator the numerator.
+     * @param theDenominator the denominator.
+     * @return the fraction.
+     * @throws ArithmeticException if the denominator is 0.
+     */
+    public static Fraction of(final BigInteger theNumerator, final BigInteger theDenominator) {
+        if (theDenominator.signum() == 0) {
+            throw new ArithmeticException("The denominator must not be 0");
+        }
+        BigInteger gcd = theNumerator.gcd(theDenominator);
+        if (theDenominator.signum() < 0) {
+            gcd = gcd.negate();
+        }
+        return new Fraction(theNumerator.divide(gcd), theDenominator.divide(gcd));
+    }
+
+    /**
+     * Creates a fraction in lowest terms.
+     *
+     * @param theNumerator the numerator.
+     * @param theDenominator the denominator.
+     * @return the fraction.
+     * @throws ArithmeticException if the denominator is 0.
+     */
+    public static Fraction of(final long theNumerator, final long theDenominator) {
+        return of(BigInteger.valueOf(theNumerator), BigInteger.valueOf(theDenominator));
+    }
+
+    /**
+     * Adds a fraction to this one.
+     *
+     * @param theOther the fraction to add.
+     * @return the sum.
+     */
+    public Fraction add(final Fraction theOther) {
+        return of(myNumerator.multiply(theOther.myDenominator).add(theOther.myNumerator.multiply(myDenominator)),
+                myDenominator.multiply(theOther.myDenominator));
+    }
+
+    /**
+     * Subtracts a fraction from this one.
+     *
+     * @param theOther the fraction to subtract.
+     * @return the difference.
+     */
+    public Fraction subtract(final Fraction theOther) {
+        return add(theOther.negate());
+    }
+
+    /**
+     * Multiplies this fraction by another.
+     *
+     * @param theOther the factor.
+     * @return the product.
+     */
+    public Fraction multiply(final Fraction theOther) {
+        return of(myNumerator.multiply(theOther.myNumerator), myDenominator.multiply(theOther.myDenominator));
+    }
+
+    /**
+     * Divides this fraction by another.
+     *
+     * @param theOther the divisor.
+     * @return the quotient.
+     * @throws ArithmeticException if the divisor is 0.
+     */
+    public Fraction divide(final Fraction theOther) {
+        return of(myNumerator.multiply(theOther.myDenominator), myDenominator.multiply(theOther.myNumerator));
+    }
+
+    /**
+     * Negates this fraction.
+     *
+     * @return the negated fraction.
+     */
+    public Fraction negate() {
+        return new Fraction(myNumerator.negate(), myDenominator);
+    }
+
+    /**
+     * Indicates if this fraction is 0.
+     *
+     * @return true if the fraction is 0.
+     */
+    public boolean isZero() {
+        return myNumerator.signum() == 0;
+    }
+
+    /**
+     * Retrieves the numerator.
+     *
+     * @return the numerator in lowest terms.
+     */
+    public BigInteger getNumerator() {
+        return myNumerator;
+    }
+
+    /**
+     * Retrieves the denominator.
+     *
+     * @return the positive denominator in lowest terms.
+     */
+    public BigInteger getDenominator() {
+        return myDenominator;
+    }
+
+    /**
+     * Converts the fraction to the nearest double.
+     *
+     * @return the value of the fraction.
+     */
+    public double doubleValue() {
+        return new BigDecimal(myNumerator).divide(new BigDecimal(myDenominator), MathContext.DECIMAL64)
+                .doubleValue();
+    }
+
+    @Override
+    public int compareTo(final Fraction theOther) {
+        return myNumerator.multiply(theOther.myDenominator)
+                .compareTo(theOther.myNumerator.multiply(myDenominator));
+    }
+
+    @Override
+    public boolean equals(final Object theOther) {
+        if (this == theOther) {
+            return true;
+        }
+        if (!(theOther instanceof Fraction)) {
+            return false;
+        }
+        final Fraction other = (Fraction) theOther;
+        return myNumerator.equals(other.myNumerator) && myDenominator.equals(other.myDenominator);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * myNumerator.hashCode() + myDenominator.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return myDenominator.equals(BigInteger.ONE) ? myNumerator.toString() : myNumerator + "/" + myDenominator;
+    }
+}
\ No newline at end of file
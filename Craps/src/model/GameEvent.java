@@ -0,0 +1,157 @@
+package model;
+
+/**
+ * Types of events published by the game and bank models.
+ * Every event carries a primitive long payload whose meaning
+ * depends on the type; the pack and unpack helpers cover the
+ * payloads that hold more than one value.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public enum GameEvent {
+    /**
+     * The dice were rolled or the round was decided; payload from {@link #packRoll}.
+     */
+    DICE_ROLL("diceRoll"),
+
+    /**
+     * A round was decided and bets can be settled; payload is always 1.
+     */
+    WIN_STATUS("winStatus"),
+
+    /**
+     * A round was decided; payload is 1 if the player won, 0 otherwise.
+     */
+    WIN_DISPLAY("winDisplay"),
+
+    /**
+     * The game became inactive; payload is always 0.
+     */
+    ACTIVE("active"),
+
+    /**
+     * The game was hard reset; payload is always 0.
+     */
+    DISPLAY_RESET("displayReset"),
+
+    /**
+     * The bank ran out; payload is 1 if the game is over, 0 otherwise.
+     */
+    GAME_OVER("gameOver"),
+
+    /**
+     * The bank amount was set; payload is the new bank amount in {@link Money} cents.
+     */
+    BANK_SET("bankSet"),
+
+    /**
+     * The bet amount was set; payload is the new bet amount in {@link Money} cents.
+     */
+    BET("bet"),
+
+    /**
+     * The bank and bet were reset; payload is always 0.
+     */
+    BANK_RESET("bankReset");
+
+    /**
+     * Shared copy of {@link #values()} so lookups do not allocate.
+     */
+    private static final GameEvent[] VALUES = values();
+
+    /**
+     * Name of the matching PropertyChangeEvent.
+     */
+    private final String myPropertyName;
+
+    /**
+     * Constructs an event type.
+     *
+     * @param thePropertyName the name of the matching PropertyChangeEvent.
+     */
+    GameEvent(final String thePropertyName) {
+        myPropertyName = thePropertyName;
+    }
+
+    /**
+     * Retrieves the name of the matching PropertyChangeEvent.
+     *
+     * @return the property name.
+     */
+    public String getPropertyName() {
+        return myPropertyName;
+    }
+
+    /**
+     * Retrieves an event type by its ordinal without allocating.
+     *
+     * @param theOrdinal the ordinal of the type.
+     * @return the event type.
+     */
+    public static GameEvent of(final int theOrdinal) {
+        return VALUES[theOrdinal];
+    }
+
+    /**
+     * Retrieves the number of event types.
+     *
+     * @return the type count.
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * Packs the state of a roll into a {@link #DICE_ROLL} payload.
+     *
+     * @param theDie1 the value of the first die.
+     * @param theDie2 the value of the second die.
+     * @param theTotal the total of the dice.
+     * @param thePoint the point after the roll.
+     * @return the packed payload.
+     */
+    public static long packRoll(final int theDie1, final int theDie2, final int theTotal, final int thePoint) {
+        return theDie1 & 0xFF | (theDie2 & 0xFF) << 8 | (theTotal & 0xFF) << 16 | (long) (thePoint & 0xFF) << 24;
+    }
+
+    /**
+     * Unpacks the first die from a {@link #DICE_ROLL} payload.
+     *
+     * @param thePayload the packed payload.
+     * @return the value of the first die.
+     */
+    public static int rollDie1(final long thePayload) {
+        return (int) (thePayload & 0xFF);
+    }
+
+    /**
+     * Unpacks the second die from a {@link #DICE_ROLL} payload.
+     *
+     * @param thePayload the packed payload.
+     * @return the value of the second die.
+     */
+    public static int rollDie2(final long thePayload) {
+        return (int) (thePayload >>> 8 & 0xFF);
+    }
+
+    /**
+     * Unpacks the total from a {@link #DICE_ROLL} payload.
+     *
+     * @param thePayload the packed payload.
+     * @return the total of the dice.
+     */
+    public static int rollTotal(final long thePayload) {
+        return (int) (thePayload >>> 16 & 0xFF);
+    }
+
+    /**
+     * Unpacks the point from a {@link #DICE_ROLL} payload.
+     *
+     * @param thePayload the packed payload.
+     * @return the point after the roll.
+     */
+    public static int rollPoint(final long thePayload) {
+        return (int) (thePayload >>> 24 & 0xFF);
+    }
+}
\ No newline at end of file
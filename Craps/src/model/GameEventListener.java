@@ -0,0 +1,18 @@
+package model;
+
+/**
+ * Receives typed events from a {@link GameEventBus}.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    /**
+     * Handles one event.
+     *
+     * @param theType the type of the event.
+     * @param thePayload the primitive payload, see {@link GameEvent}.
+     */
+    void onEvent(GameEvent theType, long thePayload);
+}
\ No newline at end of file
@@ -0,0 +1,453 @@
+package model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Immutable copy of the state of one table: the game, the bank that bets on it
+ * and the bets it has on the table. Snapshots are encoded by the
+ * {@link SnapshotStore} as fixed width records, followed by the table bets.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class GameSnapshot {
+    /**
+     * Size of an encoded snapshot in bytes.
+     */
+    static final int RECORD_BYTES = 40;
+
+    /**
+     * Size of one encoded table bet in bytes.
+     */
+    static final int BET_BYTES = 12;
+
+    /**
+     * Number of bet types, the bound of a decoded type ordinal.
+     */
+    private static final int BET_TYPES = BetType.values().length;
+
+    /**
+     * Flag bit set when a round is in play.
+     */
+    private static final int ACTIVE = 1;
+
+    /**
+     * Flag bit set when the last round was won.
+     */
+    private static final int WON = 1 << 1;
+
+    /**
+     * Flag bit set when the bank is set.
+     */
+    private static final int BANK_SET = 1 << 2;
+
+    /**
+     * Flag bit set when a bet is placed.
+     */
+    private static final int BET_SET = 1 << 3;
+
+    /**
+     * Identifier of the table, 0 for the singleton game.
+     */
+    private final long myTableId;
+
+    /**
+     * Value of the first die.
+     */
+    private final int myDie1;
+
+    /**
+     * Value of the second die.
+     */
+    private final int myDie2;
+
+    /**
+     * Total of the last roll.
+     */
+    private final int myTotal;
+
+    /**
+     * Point of the round in play.
+     */
+    private final int myPoint;
+
+    /**
+     * Number of player wins.
+     */
+    private final int myPlayerWins;
+
+    /**
+     * Number of house wins.
+     */
+    private final int myHouseWins;
+
+    /**
+     * Amount in the bank, in cents.
+     */
+    private final long myBankCents;
+
+    /**
+     * Amount of the bet, in cents.
+     */
+    private final long myBetCents;
+
+    /**
+     * Combination of the flag bits.
+     */
+    private final int myFlags;
+
+    /**
+     * Ordinal of the {@link BetType} of each table bet.
+     */
+    private final byte[] myBetTypes;
+
+    /**
+     * Number of each table bet.
+     */
+    private final byte[] myBetNumbers;
+
+    /**
+     * Amount of each table bet, in cents.
+     */
+    private final long[] myBetAmounts;
+
+    /**
+     * Constructs a snapshot from its fields.
+     *
+     * @param theTableId the identifier of the table.
+     * @param theDie1 the value of the first die.
+     * @param theDie2 the value of the second die.
+     * @param theTotal the total of the last roll.
+     * @param thePoint the point of the round in play.
+     * @param thePlayerWins the number of player wins.
+     * @param theHouseWins the number of house wins.
+     * @param theBankCents the amount in the bank, in cents.
+     * @param theBetCents the amount of the bet, in cents.
+     * @param theFlags the combination of the flag bits.
+     * @param theBetTypes the type ordinal of each table bet, not copied.
+     * @param theBetNumbers the number of each table bet, not copied.
+     * @param theBetAmounts the cents of each table bet, not copied.
+     */
+    private GameSnapshot(final long theTableId, final int theDie1, final int theDie2, final int theTotal,
+                         final int thePoint, final int thePlayerWins, final int theHouseWins,
+                         final long theBankCents, final long theBetCents, final int theFlags,
+                         final byte[] theBetTypes, final byte[] theBetNumbers, final long[] theBetAmounts) {
+        myTableId = theTableId;
+        myDie1 = theDie1;
+        myDie2 = theDie2;
+        myTotal = theTotal;
+        myPoint = thePoint;
+        myPlayerWins = thePlayerWins;
+        myHouseWins = theHouseWins;
+        myBankCents = theBankCents;
+        myBetCents = theBetCents;
+        myFlags = theFlags;
+        myBetTypes = theBetTypes;
+        myBetNumbers = theBetNumbers;
+        myBetAmounts = theBetAmounts;
+    }
+
+    /**
+     * Captures the state of a game and its bank.
+     * The game and bank must not change while they are captured.
+     *
+     * @param theTableId the identifier of the table, 0 for the singleton game.
+     * @param theCraps the game to capture.
+     * @param theBank the bank to capture.
+     * @return the snapshot.
+     */
+    public static GameSnapshot capture(final long theTableId, final CrapsLogic theCraps,
+                                       final BankBetLogic theBank) {
+        final int flags = (theCraps.isGameActive() ? ACTIVE : 0)
+                | (theCraps.getGameWon() ? WON : 0)
+                | (theBank.getBankSet() ? BANK_SET : 0)
+                | (theBank.getBetSet() ? BET_SET : 0);
+        final BetLayout bets = theBank.getTableBets();
+        final int count = bets.size();
+        final byte[] types = new byte[count];
+        final byte[] numbers = new byte[count];
+        final long[] amounts = new long[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = (byte) bets.getType(i).ordinal();
+            numbers[i] = (byte) bets.getNumber(i);
+            amounts[i] = bets.getAmount(i);
+        }
+        return new GameSnapshot(theTableId, theCraps.getDice1(), theCraps.getDice2(), theCraps.getTotal(),
+                theCraps.getPoint(), theCraps.getPlayerWins(), theCraps.getHouseWins(),
+                theBank.getBankCents(), theBank.getBetCents(), flags, types, numbers, amounts);
+    }
+
+    /**
+     * Captures the state of a table.
+     *
+     * @param theTable the table to capture.
+     * @return the snapshot.
+     */
+    public static GameSnapshot capture(final CrapsTable theTable) {
+        return capture(theTable.getId(), theTable.getCraps(), theTable.getBank());
+    }
+
+    /**
+     * Restores the captured state into a game and its bank, replacing the
+     * bank's table bets with the captured ones.
+     * Listeners are told about the restored roll, bank and bet.
+     *
+     * @param theCraps the game to restore.
+     * @param theBank the bank to restore.
+     */
+    public void restore(final CrapsLogic theCraps, final BankBetLogic theBank) {
+        theBank.restore(myBankCents, myBetCents, (myFlags & BANK_SET) != 0, (myFlags & BET_SET) != 0);
+        final BetLayout bets = theBank.getTableBets();
+        bets.clear();
+        for (int i = 0; i < myBetTypes.length; i++) {
+            bets.add(BetType.of(myBetTypes[i]), myBetNumbers[i], myBetAmounts[i]);
+        }
+        theCraps.restore(myDie1, myDie2, myTotal, myPoint, myPlayerWins, myHouseWins,
+                (myFlags & ACTIVE) != 0, (myFlags & WON) != 0);
+    }
+
+    /**
+     * Encodes the snapshot at the position of the buffer.
+     *
+     * @param theBuffer the buffer to write to.
+     */
+    void writeTo(final ByteBuffer theBuffer) {
+        theBuffer.putLong(myTableId)
+                .putInt(myPlayerWins)
+                .putInt(myHouseWins)
+                .putLong(myBankCents)
+                .putLong(myBetCents)
+                .put((byte) myDie1)
+                .put((byte) myDie2)
+                .put((byte) myTotal)
+                .put((byte) myPoint)
+                .putInt(myFlags);
+    }
+
+    /**
+     * Computes the size of the encoded table bets.
+     *
+     * @return the bytes written by {@link #writeTableBetsTo(ByteBuffer)}.
+     */
+    int tableBetBytes() {
+        return Integer.BYTES + myBetTypes.length * BET_BYTES;
+    }
+
+    /**
+     * Encodes the table bets at the position of the buffer, a count followed by
+     * the type, number, two reserved bytes and cents of each bet.
+     *
+     * @param theBuffer the buffer to write to.
+     */
+    void writeTableBetsTo(final ByteBuffer theBuffer) {
+        theBuffer.putInt(myBetTypes.length);
+        for (int i = 0; i < myBetTypes.length; i++) {
+            theBuffer.put(myBetTypes[i])
+                    .put(myBetNumbers[i])
+                    .putShort((short) 0)
+                    .putLong(myBetAmounts[i]);
+        }
+    }
+
+    /**
+     * Decodes the table bets of this snapshot at the position of the buffer.
+     *
+     * @param theBuffer the buffer to read from.
+     * @return a copy of this snapshot with the decoded table bets.
+     * @throws IllegalArgumentException if the bets are not valid.
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the bets.
+     */
+    GameSnapshot readTableBetsFrom(final ByteBuffer theBuffer) {
+        final int count = theBuffer.getInt();
+        if (count < 0 || count > theBuffer.remaining() / BET_BYTES) {
+            throw new IllegalArgumentException("The table bet count must fit the snapshot, "
+                    + "current value is " + count);
+        }
+        final byte[] types = new byte[count];
+        final byte[] numbers = new byte[count];
+        final long[] amounts = new long[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = theBuffer.get();
+            numbers[i] = theBuffer.get();
+            theBuffer.getShort();
+            amounts[i] = theBuffer.getLong();
+            if (types[i] < 0 || types[i] >= BET_TYPES
+                    || !BetType.of(types[i]).isValidNumber(numbers[i]) || amounts[i] <= 0) {
+                throw new IllegalArgumentException("The table bet is not valid, current value is "
+                        + types[i] + " " + numbers[i] + " " + amounts[i]);
+            }
+        }
+        return new GameSnapshot(myTableId, myDie1, myDie2, myTotal, myPoint, myPlayerWins, myHouseWins,
+                myBankCents, myBetCents, myFlags, types, numbers, amounts);
+    }
+
+    /**
+     * Decodes a snapshot at the position of the buffer, without table bets.
+     * Version 1 records held the bank and bet as int dollars followed by
+     * eight reserved bytes; they are read back as cents.
+     *
+     * @param theBuffer the buffer to read from.
+     * @param theVersion the format version of the record.
+     * @return the snapshot.
+     */
+    static GameSnapshot readFrom(final ByteBuffer theBuffer, final int theVersion) {
+        final boolean legacy = theVersion == 1;
+        final long id = theBuffer.getLong();
+        final int playerWins = theBuffer.getInt();
+        final int houseWins = theBuffer.getInt();
+        final long bank = legacy ? Money.ofDollars(theBuffer.getInt()) : theBuffer.getLong();
+        final long bet = legacy ? Money.ofDollars(theBuffer.getInt()) : theBuffer.getLong();
+        final int die1 = theBuffer.get();
+        final int die2 = theBuffer.get();
+        final int total = theBuffer.get();
+        final int point = theBuffer.get();
+        final int flags = theBuffer.getInt();
+        if (legacy) {
+            theBuffer.getLong();
+        }
+        return new GameSnapshot(id, die1, die2, total, point, playerWins, houseWins, bank, bet, flags,
+                new byte[0], new byte[0], new long[0]);
+    }
+
+    /**
+     * Retrieves the identifier of the table.
+     *
+     * @return the table identifier, 0 for the singleton game.
+     */
+    public long getTableId() {
+        return myTableId;
+    }
+
+    /**
+     * Retrieves the captured point.
+     *
+     * @return the point.
+     */
+    public int getPoint() {
+        return myPoint;
+    }
+
+    /**
+     * Retrieves the captured number of player wins.
+     *
+     * @return the player wins.
+     */
+    public int getPlayerWins() {
+        return myPlayerWins;
+    }
+
+    /**
+     * Retrieves the captured number of house wins.
+     *
+     * @return the house wins.
+     */
+    public int getHouseWins() {
+        return myHouseWins;
+    }
+
+    /**
+     * Retrieves the captured bank amount in whole dollars.
+     *
+     * @return the bank amount.
+     */
+    public int getBankAmount() {
+        return Money.toIntDollars(myBankCents);
+    }
+
+    /**
+     * Retrieves the captured bet amount in whole dollars.
+     *
+     * @return the bet amount.
+     */
+    public int getBetAmount() {
+        return Money.toIntDollars(myBetCents);
+    }
+
+    /**
+     * Retrieves the captured bank amount.
+     *
+     * @return the bank amount in cents.
+     */
+    public long getBankCents() {
+        return myBankCents;
+    }
+
+    /**
+     * Retrieves the captured bet amount.
+     *
+     * @return the bet amount in cents.
+     */
+    public long getBetCents() {
+        return myBetCents;
+    }
+
+    /**
+     * Retrieves the number of captured table bets.
+     *
+     * @return the number of bets on the table besides the pass line bet.
+     */
+    public int getTableBetCount() {
+        return myBetTypes.length;
+    }
+
+    /**
+     * Retrieves the sum of the captured table bets.
+     *
+     * @return the amount on the table besides the pass line bet, in cents.
+     */
+    public long getTableBetCents() {
+        long total = 0;
+        for (final long amount : myBetAmounts) {
+            total = Money.add(total, amount);
+        }
+        return total;
+    }
+
+    /**
+     * Indicates if a round was in play.
+     *
+     * @return true if the game was active.
+     */
+    public boolean isGameActive() {
+        return (myFlags & ACTIVE) != 0;
+    }
+
+    @Override
+    public boolean equals(final Object theOther) {
+        if (this == theOther) {
+            return true;
+        }
+        if (!(theOther instanceof GameSnapshot)) {
+            return false;
+        }
+        final GameSnapshot other = (GameSnapshot) theOther;
+        return myTableId == other.myTableId && myDie1 == other.myDie1 && myDie2 == other.myDie2
+                && myTotal == other.myTotal && myPoint == other.myPoint
+                && myPlayerWins == other.myPlayerWins && myHouseWins == other.myHouseWins
+                && myBankCents == other.myBankCents && myBetCents == other.myBetCents
+                && myFlags == other.myFlags && Arrays.equals(myBetTypes, other.myBetTypes)
+                && Arrays.equals(myBetNumbers, other.myBetNumbers)
+                && Arrays.equals(myBetAmounts, other.myBetAmounts);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(myTableId);
+        result = 31 * result + myPoint;
+        result = 31 * result + myPlayerWins;
+        result = 31 * result + myHouseWins;
+        result = 31 * result + Long.hashCode(myBankCents);
+        result = 31 * result + Long.hashCode(myBetCents);
+        result = 31 * result + Arrays.hashCode(myBetAmounts);
+        return 31 * result + myFlags;
+    }
+
+    @Override
+    public String toString() {
+        return "Table " + myTableId + ": point " + myPoint + ", wins " + myPlayerWins + "/" + myHouseWins
+                + ", bank " + Money.format(myBankCents) + ", bet " + Money.format(myBetCents)
+                + (myBetTypes.length > 0 ? ", " + myBetTypes.length + " table bets" : "")
+                + (isGameActive() ? ", active" : "");
+    }
+}
\ No newline at end of file
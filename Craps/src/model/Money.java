@@ -0,0 +1,178 @@
+package model;
+
+/**
+ * Fixed point money held in a primitive long of cents.
+ * Amounts never live in an object, so the bank and the events that carry
+ * amounts stay free of boxing and allocation. Every operation checks for
+ * overflow and throws an {@link ArithmeticException} instead of wrapping,
+ * which leaves room for about 92 quadrillion dollars.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class Money {
+    /**
+     * Number of cents in a dollar.
+     */
+    public static final long CENTS_PER_DOLLAR = 100;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Money() {
+    }
+
+    /**
+     * Converts whole dollars to cents.
+     *
+     * @param theDollars the amount in dollars.
+     * @return the amount in cents.
+     * @throws ArithmeticException if the amount overflows.
+     */
+    public static long ofDollars(final long theDollars) {
+        return Math.multiplyExact(theDollars, CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts dollars and cents to cents.
+     *
+     * @param theDollars the whole dollars, carrying the sign of the amount.
+     * @param theCents the cents, from 0 to 99.
+     * @return the amount in cents.
+     * @throws IllegalArgumentException if the cents are out of range.
+     * @throws ArithmeticException if the amount overflows.
+     */
+    public static long of(final long theDollars, final int theCents) {
+        if (theCents < 0 || theCents >= CENTS_PER_DOLLAR) {
+            throw new IllegalArgumentException("The cents must be between 0 and 99, "
+                    + "current value is " + theCents);
+        }
+        return Math.addExact(ofDollars(theDollars), theDollars < 0 ? -theCents : theCents);
+    }
+
+    /**
+     * Adds two amounts.
+     *
+     * @param theCents the first amount in cents.
+     * @param theOther the second amount in cents.
+     * @return the sum in cents.
+     * @throws ArithmeticException if the sum overflows.
+     */
+    public static long add(final long theCents, final long theOther) {
+        return Math.addExact(theCents, theOther);
+    }
+
+    /**
+     * Subtracts an amount from another.
+     *
+     * @param theCents the amount in cents.
+     * @param theOther the amount to subtract in cents.
+     * @return the difference in cents.
+     * @throws ArithmeticException if the difference overflows.
+     */
+    public static long subtract(final long theCents, final long theOther) {
+        return Math.subtractExact(theCents, theOther);
+    }
+
+    /**
+     * Multiplies an amount by a whole factor.
+     *
+     * @param theCents the amount in cents.
+     * @param theFactor the factor.
+     * @return the product in cents.
+     * @throws ArithmeticException if the product overflows.
+     */
+    public static long times(final long theCents, final long theFactor) {
+        return Math.multiplyExact(theCents, theFactor);
+    }
+
+    /**
+     * Scales an amount by a payout ratio, rounding down to the cent.
+     *
+     * @param theCents the amount in cents.
+     * @param theNumerator the numerator of the ratio.
+     * @param theDenominator the denominator of the ratio.
+     * @return the scaled amount in cents.
+     * @throws IllegalArgumentException if the denominator is not positive.
+     * @throws ArithmeticException if the amount overflows.
+     */
+    public static long ratio(final long theCents, final long theNumerator, final long theDenominator) {
+        if (theDenominator <= 0) {
+            throw new IllegalArgumentException("The denominator must be greater than 0, "
+                    + "current value is " + theDenominator);
+        }
+        return Math.floorDiv(Math.multiplyExact(theCents, theNumerator), theDenominator);
+    }
+
+    /**
+     * Converts cents to whole dollars, rounding down.
+     *
+     * @param theCents the amount in cents.
+     * @return the whole dollars.
+     */
+    public static long toDollars(final long theCents) {
+        return Math.floorDiv(theCents, CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts cents to whole dollars that fit in an int, rounding down.
+     *
+     * @param theCents the amount in cents.
+     * @return the whole dollars.
+     * @throws ArithmeticException if the dollars do not fit in an int.
+     */
+    public static int toIntDollars(final long theCents) {
+        return Math.toIntExact(toDollars(theCents));
+    }
+
+    /**
+     * Checks if an amount is a whole number of dollars.
+     *
+     * @param theCents the amount in cents.
+     * @return true if there are no cents.
+     */
+    public static boolean isWholeDollars(final long theCents) {
+        return theCents % CENTS_PER_DOLLAR == 0;
+    }
+
+    /**
+     * Formats an amount as dollars, with two decimals only when there are cents.
+     *
+     * @param theCents the amount in cents.
+     * @return the formatted amount, such as "25" or "-3.05".
+     */
+    public static String format(final long theCents) {
+        if (isWholeDollars(theCents)) {
+            return Long.toString(theCents / CENTS_PER_DOLLAR);
+        }
+        final long dollars = Math.abs(theCents / CENTS_PER_DOLLAR);
+        final long cents = Math.abs(theCents % CENTS_PER_DOLLAR);
+        return (theCents < 0 ? "-" : "") + dollars + (cents < 10 ? ".0" : ".") + cents;
+    }
+
+    /**
+     * Parses an amount of dollars with up to two decimals.
+     *
+     * @param theText the text, such as "25", "0.5" or "-3.05".
+     * @return the amount in cents.
+     * @throws NumberFormatException if the text is not an amount.
+     */
+    public static long parse(final String theText) {
+        final String text = theText.trim();
+        final int dot = text.indexOf('.');
+        if (dot < 0) {
+            return ofDollars(Long.parseLong(text));
+        }
+        final String fraction = text.substring(dot + 1);
+        if (fraction.isEmpty() || fraction.length() > 2 || !Character.isDigit(fraction.charAt(0))
+                || !Character.isDigit(fraction.charAt(fraction.length() - 1))) {
+            throw new NumberFormatException("Not an amount: " + theText);
+        }
+        final String whole = text.substring(0, dot);
+        final boolean negative = whole.startsWith("-");
+        final long dollars = whole.isEmpty() || "-".equals(whole) ? 0 : Long.parseLong(whole);
+        final int cents = Integer.parseInt(fraction.length() == 1 ? fraction + "0" : fraction);
+        final long amount = Math.addExact(ofDollars(Math.abs(dollars)), cents);
+        return negative ? -amount : amount;
+    }
+}
\ No newline at end of file
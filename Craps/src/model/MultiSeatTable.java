@@ -0,0 +1,353 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A table where up to {@link #MAX_SEATS} players bet on the same dice.
+ * Banks and bet totals are kept in arrays of {@link Money} cents indexed by seat and every bet of
+ * every seat sits in one {@link BetLayout}, so a roll settles the whole table
+ * in a single pass and then walks the occupied seats once to pay them.
+ * Each seat has a {@link SeatView} that publishes its bank and bet changes.
+ *
+ * <p>The table is not thread safe; confine it to one thread or lock around it.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class MultiSeatTable {
+    /**
+     * Number of seats at the table.
+     */
+    public static final int MAX_SEATS = 16;
+
+    /**
+     * Generates the dice.
+     */
+    private final DiceSource myDice;
+
+    /**
+     * Publishes the rolls of the table.
+     */
+    private final GameEventBus myBus;
+
+    /**
+     * Bets of every seat.
+     */
+    private final BetLayout myBets;
+
+    /**
+     * Bank of each seat, in cents.
+     */
+    private final long[] myBanks;
+
+    /**
+     * Sum of the bets on the table of each seat, in cents.
+     */
+    private final long[] myWagers;
+
+    /**
+     * Cents returned to each seat by the last settlement, reused every roll.
+     */
+    private final long[] myReturned;
+
+    /**
+     * Cents left on the table by each seat after the last settlement, reused every roll.
+     */
+    private final long[] myStakes;
+
+    /**
+     * View of each seat.
+     */
+    private final SeatView[] myViews;
+
+    /**
+     * Bit set of the occupied seats.
+     */
+    private int mySeated;
+
+    /**
+     * Table point, 0 on the come out roll.
+     */
+    private int myPoint;
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param theDice the source of the dice faces.
+     */
+    public MultiSeatTable(final DiceSource theDice) {
+        myDice = Objects.requireNonNull(theDice, "theDice");
+        myBus = new GameEventBus();
+        myBets = new BetLayout();
+        myBanks = new long[MAX_SEATS];
+        myWagers = new long[MAX_SEATS];
+        myReturned = new long[MAX_SEATS];
+        myStakes = new long[MAX_SEATS];
+        myViews = new SeatView[MAX_SEATS];
+        for (int seat = 0; seat < MAX_SEATS; seat++) {
+            myViews[seat] = new SeatView(this, seat);
+        }
+    }
+
+    /**
+     * Seats a player in the lowest free seat.
+     *
+     * @param theBank the whole dollars the player brings to the table.
+     * @return the seat of the player.
+     * @throws IllegalArgumentException if the bank is not positive.
+     * @throws IllegalStateException if every seat is taken.
+     */
+    public int sit(final int theBank) {
+        if (theBank <= 0) {
+            throw new IllegalArgumentException("The bank amount must be greater than 0, "
+                    + "current value is " + theBank);
+        }
+        final int seat = Integer.numberOfTrailingZeros(~mySeated);
+        if (seat >= MAX_SEATS) {
+            throw new IllegalStateException("All " + MAX_SEATS + " seats are taken");
+        }
+        mySeated |= 1 << seat;
+        myBanks[seat] = Money.ofDollars(theBank);
+        myWagers[seat] = 0;
+        myViews[seat].getEventBus().publish(GameEvent.BANK_SET, myBanks[seat]);
+        return seat;
+    }
+
+    /**
+     * Frees a seat and cashes out its bank.
+     *
+     * @param theSeat the seat.
+     * @return the bank the player leaves with, in cents.
+     * @throws IllegalArgumentException if nobody sits in the seat.
+     * @throws IllegalStateException if the seat still has bets on the table.
+     */
+    public long leave(final int theSeat) {
+        checkSeated(theSeat);
+        if (myWagers[theSeat] != 0) {
+            throw new IllegalStateException("Seat " + theSeat + " still has "
+                    + Money.format(myWagers[theSeat]) + " on the table");
+        }
+        final long bank = myBanks[theSeat];
+        myBanks[theSeat] = 0;
+        mySeated &= ~(1 << theSeat);
+        myViews[theSeat].getEventBus().publish(GameEvent.BANK_RESET, 0);
+        return bank;
+    }
+
+    /**
+     * Places a bet for a seat, taking its amount from the seat's bank.
+     *
+     * @param theSeat the seat.
+     * @param theType the type of the bet.
+     * @param theNumber the number of the bet, 0 for line and one roll bets.
+     * @param theAmount the whole dollars wagered.
+     * @throws IllegalArgumentException if nobody sits in the seat, the bet cannot
+     * be placed at this stage of the round, the number is not valid for the type,
+     * or the amount is not positive or exceeds the seat's bank.
+     */
+    public void placeBet(final int theSeat, final BetType theType, final int theNumber,
+                         final int theAmount) {
+        placeBetCents(theSeat, theType, theNumber, Money.ofDollars(theAmount));
+    }
+
+    /**
+     * Places a bet in cents for a seat, taking its amount from the seat's bank.
+     *
+     * @param theSeat the seat.
+     * @param theType the type of the bet.
+     * @param theNumber the number of the bet, 0 for line and one roll bets.
+     * @param theCents the amount wagered in cents.
+     * @throws IllegalArgumentException if nobody sits in the seat, the bet cannot
+     * be placed at this stage of the round, the number is not valid for the type,
+     * or the amount is not positive or exceeds the seat's bank.
+     */
+    public void placeBetCents(final int theSeat, final BetType theType, final int theNumber,
+                              final long theCents) {
+        checkSeated(theSeat);
+        if (!theType.canPlace(theNumber, myPoint)) {
+            throw new IllegalArgumentException("A " + theType + " bet on " + theNumber
+                    + " cannot be placed now, current point is " + myPoint);
+        }
+        if (theType.isOdds() && !myBets.hasLineBet(theSeat, theType, theNumber)) {
+            throw new IllegalArgumentException("A " + theType + " bet on " + theNumber
+                    + " needs a line bet on that number, current point is " + myPoint);
+        }
+        if (theCents > myBanks[theSeat]) {
+            throw new IllegalArgumentException("The bet amount exceeds the available bank balance, "
+                    + "current value is " + Money.format(theCents));
+        }
+        myBets.add(theSeat, theType, theNumber, theCents);
+        myBanks[theSeat] -= theCents;
+        myWagers[theSeat] = Money.add(myWagers[theSeat], theCents);
+        final GameEventBus bus = myViews[theSeat].getEventBus();
+        bus.publish(GameEvent.BANK_SET, myBanks[theSeat]);
+        bus.publish(GameEvent.BET, myWagers[theSeat]);
+    }
+
+    /**
+     * Rolls the dice, settles every bet at the table and moves the point.
+     *
+     * @return the encoded {@link RollKernel} result of the roll.
+     */
+    public int roll() {
+        final int die1 = myDice.nextDie();
+        final int die2 = myDice.nextDie();
+        final int total = die1 + die2;
+        final int result = RollKernel.resolve(myPoint, total);
+        if (!myBets.isEmpty()) {
+            settle(die1, die2);
+        }
+        myPoint = RollKernel.nextPoint(result);
+        myBus.publish(GameEvent.DICE_ROLL, GameEvent.packRoll(die1, die2, total, myPoint));
+        return result;
+    }
+
+    /**
+     * Settles the layout in one pass and pays every occupied seat whose amounts changed.
+     *
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     */
+    private void settle(final int theDie1, final int theDie2) {
+        Arrays.fill(myReturned, 0);
+        Arrays.fill(myStakes, 0);
+        BetSettlement.settle(myBets, theDie1, theDie2, myPoint, myReturned);
+        myBets.sumBySeat(myStakes);
+        for (int seats = mySeated; seats != 0; seats &= seats - 1) {
+            final int seat = Integer.numberOfTrailingZeros(seats);
+            final long wager = myStakes[seat];
+            if (myReturned[seat] == 0 && wager == myWagers[seat]) {
+                continue;
+            }
+            myBanks[seat] = Money.add(myBanks[seat], myReturned[seat]);
+            myWagers[seat] = wager;
+            final GameEventBus bus = myViews[seat].getEventBus();
+            bus.publish(GameEvent.BANK_SET, myBanks[seat]);
+            bus.publish(GameEvent.BET, wager);
+        }
+    }
+
+    /**
+     * Retrieves the view of a seat.
+     *
+     * @param theSeat the seat.
+     * @return the view of the seat's bank and bets.
+     * @throws IndexOutOfBoundsException if the seat is out of range.
+     */
+    public SeatView getSeat(final int theSeat) {
+        return myViews[Objects.checkIndex(theSeat, MAX_SEATS)];
+    }
+
+    /**
+     * Checks if a player sits in a seat.
+     *
+     * @param theSeat the seat.
+     * @return true if the seat is taken.
+     */
+    public boolean isSeated(final int theSeat) {
+        return theSeat >= 0 && theSeat < MAX_SEATS && (mySeated & 1 << theSeat) != 0;
+    }
+
+    /**
+     * Retrieves the number of players at the table.
+     *
+     * @return the number of occupied seats.
+     */
+    public int getSeatCount() {
+        return Integer.bitCount(mySeated);
+    }
+
+    /**
+     * Retrieves the bank of a seat.
+     *
+     * @param theSeat the seat.
+     * @return the bank amount in cents, 0 for an empty seat.
+     * @throws IndexOutOfBoundsException if the seat is out of range.
+     */
+    public long getBankCents(final int theSeat) {
+        return myBanks[Objects.checkIndex(theSeat, MAX_SEATS)];
+    }
+
+    /**
+     * Retrieves the sum of a seat's bets on the table.
+     *
+     * @param theSeat the seat.
+     * @return the bet amount in cents.
+     * @throws IndexOutOfBoundsException if the seat is out of range.
+     */
+    public long getBetCents(final int theSeat) {
+        return myWagers[Objects.checkIndex(theSeat, MAX_SEATS)];
+    }
+
+    /**
+     * Retrieves the bank of a seat in whole dollars.
+     *
+     * @param theSeat the seat.
+     * @return the bank amount, 0 for an empty seat.
+     * @throws IndexOutOfBoundsException if the seat is out of range.
+     */
+    public int getBankAmount(final int theSeat) {
+        return Money.toIntDollars(getBankCents(theSeat));
+    }
+
+    /**
+     * Retrieves the sum of a seat's bets on the table in whole dollars.
+     *
+     * @param theSeat the seat.
+     * @return the bet amount.
+     * @throws IndexOutOfBoundsException if the seat is out of range.
+     */
+    public int getBetAmount(final int theSeat) {
+        return Money.toIntDollars(getBetCents(theSeat));
+    }
+
+    /**
+     * Retrieves the number of bets on the table.
+     *
+     * @return the number of bets of all seats.
+     */
+    public int getBetCount() {
+        return myBets.size();
+    }
+
+    /**
+     * Retrieves the table point.
+     *
+     * @return the point, 0 on the come out roll.
+     */
+    public int getPoint() {
+        return myPoint;
+    }
+
+    /**
+     * Retrieves the bus the rolls of the table are published on.
+     *
+     * @return the event bus of the table.
+     */
+    public GameEventBus getEventBus() {
+        return myBus;
+    }
+
+    /**
+     * Checks that a player sits in a seat.
+     *
+     * @param theSeat the seat.
+     * @throws IllegalArgumentException if the seat is empty or out of range.
+     */
+    private void checkSeated(final int theSeat) {
+        if (!isSeated(theSeat)) {
+            throw new IllegalArgumentException("Nobody sits in the seat, current value is " + theSeat);
+        }
+    }
+
+    /**
+     * Generates a string of the occupied seats and the point.
+     *
+     * @return a string representing the table.
+     */
+    @Override
+    public String toString() {
+        return "Seats: " + getSeatCount() + ", bets: " + myBets.size() + ", point: " + myPoint;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package model;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs a headless Craps simulation across all cores with fork/join.
+ * The rounds budget is cut into fixed-size chunks, and every chunk is played
+ * by its own {@link CrapsSimulator} seeded from the master seed and the chunk
+ * index. Chunking never depends on the number of threads, so a given master
+ * seed yields the same result for any parallelism.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public class ParallelSimulator implements AutoCloseable {
+    /**
+     * Default number of rounds played by one chunk.
+     */
+    public static final long DEFAULT_CHUNK_ROUNDS = 1 << 20;
+
+    /**
+     * Pool that plays the chunks.
+     */
+    private final ForkJoinPool myPool;
+
+    /**
+     * Indicates if the pool was created by this simulator and must be shut down.
+     */
+    private final boolean myOwnsPool;
+
+    /**
+     * Number of rounds played by one chunk.
+     */
+    private final long myChunkRounds;
+
+    /**
+     * Constructs a simulator that uses the common fork/join pool.
+     */
+    public ParallelSimulator() {
+        this(DEFAULT_CHUNK_ROUNDS, ForkJoinPool.commonPool(), false);
+    }
+
+    /**
+     * Constructs a simulator with its own pool of the given size.
+     *
+     * @param theParallelism the number of worker threads.
+     * @throws IllegalArgumentException if the parallelism is less than 1.
+     */
+    public ParallelSimulator(final int theParallelism) {
+        this(theParallelism, DEFAULT_CHUNK_ROUNDS);
+    }
+
+    /**
+     * Constructs a simulator with its own pool and chunk size.
+     *
+     * @param theParallelism the number of worker threads.
+     * @param theChunkRounds the number of rounds played by one chunk.
+     * @throws IllegalArgumentException if the parallelism or the chunk size is less than 1.
+     */
+    public ParallelSimulator(final int theParallelism, final long theChunkRounds) {
+        this(checkChunkRounds(theChunkRounds), ChunkedRun.newPool(theParallelism), true);
+    }
+
+    /**
+     * Constructs a simulator on the given pool.
+     *
+     * @param theChunkRounds the number of rounds played by one chunk, already checked.
+     * @param thePool the pool that plays the chunks.
+     * @param theOwnsPool true if the pool is shut down on close.
+     */
+    private ParallelSimulator(final long theChunkRounds, final ForkJoinPool thePool,
+                              final boolean theOwnsPool) {
+        myChunkRounds = theChunkRounds;
+        myPool = thePool;
+        myOwnsPool = theOwnsPool;
+    }
+
+    /**
+     * Checks the chunk size, so a bad one is rejected before a pool is created for it.
+     *
+     * @param theChunkRounds the number of rounds played by one chunk.
+     * @return the chunk size.
+     * @throws IllegalArgumentException if the chunk size is less than 1.
+     */
+    private static long checkChunkRounds(final long theChunkRounds) {
+        if (theChunkRounds < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1, "
+                    + "current value is " + theChunkRounds);
+        }
+        return theChunkRounds;
+    }
+
+    /**
+     * Plays the given number of rounds across the pool.
+     *
+     * @param theRounds the number of rounds to play.
+     * @param theMasterSeed the seed every chunk seed is derived from.
+     * @return the merged results of all chunks.
+     * @throws IllegalArgumentException if the number of rounds is negative.
+     */
+    public SimulationResult run(final long theRounds, final long theMasterSeed) {
+        if (theRounds < 0) {
+            throw new IllegalArgumentException("The number of rounds must not be negative, "
+                    + "current value is " + theRounds);
+        }
+        return ChunkedRun.invoke(myPool, theRounds, myChunkRounds, theMasterSeed,
+                (theSeed, theCount) -> new CrapsSimulator(theSeed).run(theCount),
+                SimulationResult::merge, () -> new SimulationResult(0, 0, 0));
+    }
+
+    /**
+     * Derives the seed of one chunk from the master seed.
+     * Uses the SplitMix64 finalizer so neighbouring chunks get unrelated streams.
+     *
+     * @param theMasterSeed the master seed of the run.
+     * @param theIndex the index of the chunk.
+     * @return the seed for the chunk.
+     */
+    public static long chunkSeed(final long theMasterSeed, final long theIndex) {
+        return ChunkedRun.chunkSeed(theMasterSeed, theIndex);
+    }
+
+    /**
+     * Shuts down the pool if this simulator created it.
+     */
+    @Override
+    public void close() {
+        if (myOwnsPool) {
+            myPool.shutdown();
+        }
+    }
+}
\ No newline at end of file
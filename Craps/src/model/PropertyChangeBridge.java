@@ -0,0 +1,71 @@
+package model;
+
+import metrics.CrapsMetrics;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+
+/**
+ * Republishes typed events as the PropertyChangeEvents the models used to fire,
+ * with the same property names and values, for listeners that still use
+ * {@code addPropertyChangeListener}. It is only subscribed once such a
+ * listener exists, so models without one never box a value.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+final class PropertyChangeBridge implements GameEventListener {
+    /**
+     * Fires the legacy events.
+     */
+    private final PropertyChangeSupport myChanges;
+
+    /**
+     * Model passed as the value of events that used to carry the model itself.
+     */
+    private final Object mySource;
+
+    /**
+     * Constructs a bridge and subscribes it to the given event types.
+     *
+     * @param theSource the model publishing the events.
+     * @param theBus the bus of the model.
+     * @param theTypes the event types the model publishes.
+     */
+    PropertyChangeBridge(final Object theSource, final GameEventBus theBus, final GameEvent... theTypes) {
+        mySource = theSource;
+        myChanges = new PropertyChangeSupport(theSource);
+        theBus.subscribe(this, theTypes);
+    }
+
+    /**
+     * Adds a legacy listener.
+     *
+     * @param theL the PropertyChangeListener to be added.
+     */
+    void addPropertyChangeListener(final PropertyChangeListener theL) {
+        myChanges.addPropertyChangeListener(theL);
+    }
+
+    @Override
+    public void onEvent(final GameEvent theType, final long thePayload) {
+        final Object value;
+        switch (theType) {
+            case DICE_ROLL:
+            case DISPLAY_RESET:
+            case BANK_RESET:
+                value = mySource;
+                break;
+            case BANK_SET:
+            case BET:
+                value = (int) Money.toDollars(thePayload);
+                break;
+            default:
+                value = thePayload != 0;
+                break;
+        }
+        final long start = CrapsMetrics.start();
+        myChanges.firePropertyChange(theType.getPropertyName(), null, value);
+        CrapsMetrics.propertyChanged(start);
+    }
+}
\ No newline at end of file
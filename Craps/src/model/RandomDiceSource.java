@@ -0,0 +1,41 @@
+package model;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Dice source that draws faces from a {@link RandomGenerator}.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class RandomDiceSource implements DiceSource {
+    /**
+     * Generator the faces are drawn from.
+     */
+    private final RandomGenerator myGenerator;
+
+    /**
+     * Constructs a dice source for the given generator.
+     *
+     * @param theGenerator the generator to draw faces from.
+     */
+    public RandomDiceSource(final RandomGenerator theGenerator) {
+        myGenerator = Objects.requireNonNull(theGenerator, "theGenerator");
+    }
+
+    @Override
+    public int nextDie() {
+        return myGenerator.nextInt(1, 7);
+    }
+
+    /**
+     * Generates a string naming the backing generator.
+     *
+     * @return a string representing the dice source.
+     */
+    @Override
+    public String toString() {
+        return "Dice: " + myGenerator.getClass().getSimpleName();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded dice source that can be rewound to its first roll.
+ * Used to replay a recorded session or a disputed round exactly.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class ReplayDiceSource implements DiceSource {
+    /**
+     * Seed the rolls are generated from.
+     */
+    private final long mySeed;
+
+    /**
+     * Generator for the current pass over the rolls.
+     */
+    private SplittableRandom myRandom;
+
+    /**
+     * Number of dice rolled since the last rewind.
+     */
+    private long myPosition;
+
+    /**
+     * Constructs a replay source for the given seed.
+     *
+     * @param theSeed the seed the rolls are generated from.
+     */
+    public ReplayDiceSource(final long theSeed) {
+        mySeed = theSeed;
+        rewind();
+    }
+
+    @Override
+    public int nextDie() {
+        myPosition++;
+        return myRandom.nextInt(1, 7);
+    }
+
+    /**
+     * Restarts the rolls from the first die.
+     */
+    public void rewind() {
+        myRandom = new SplittableRandom(mySeed);
+        myPosition = 0;
+    }
+
+    /**
+     * Moves to the given die, replaying every die before it.
+     *
+     * @param thePosition the number of dice to skip from the start.
+     * @throws IllegalArgumentException if the position is negative.
+     */
+    public void seek(final long thePosition) {
+        if (thePosition < 0) {
+            throw new IllegalArgumentException("The position must not be negative, "
+                    + "current value is " + thePosition);
+        }
+        rewind();
+        while (myPosition < thePosition) {
+            nextDie();
+        }
+    }
+
+    /**
+     * Retrieves the seed the rolls are generated from.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Retrieves the number of dice rolled since the last rewind.
+     *
+     * @return the current position.
+     */
+    public long getPosition() {
+        return myPosition;
+    }
+}
\ No newline at end of file
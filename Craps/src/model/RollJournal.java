@@ -0,0 +1,560 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Append only audit journal of every roll, written through memory mapped
+ * segment files. Each roll is one fixed width record protected by a CRC32C.
+ * Records are forced to disk in groups, and a new segment is started when
+ * the current one is full.
+ * <p>
+ * A journal has a single writer and is not thread safe.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class RollJournal implements Closeable {
+    /**
+     * Size of one record in bytes.
+     */
+    public static final int RECORD_BYTES = 32;
+
+    /**
+     * Size of the segment header in bytes.
+     */
+    public static final int HEADER_BYTES = 32;
+
+    /**
+     * Default size of a segment file, 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_BYTES = 64 << 20;
+
+    /**
+     * Default number of records between forces to disk.
+     */
+    public static final int DEFAULT_SYNC_EVERY = 4096;
+
+    /**
+     * Outcome of a roll that did not decide the round.
+     */
+    public static final int NO_DECISION = 0;
+
+    /**
+     * Outcome of a roll the player won.
+     */
+    public static final int PLAYER_WIN = 1;
+
+    /**
+     * Outcome of a roll the house won.
+     */
+    public static final int HOUSE_WIN = 2;
+
+    /**
+     * Magic number at the start of every segment, "CRPJ".
+     */
+    private static final int MAGIC = 0x4352504A;
+
+    /**
+     * Version of the segment format.
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * Number of leading record bytes covered by the record CRC.
+     */
+    private static final int RECORD_CRC_OFFSET = RECORD_BYTES - Integer.BYTES;
+
+    /**
+     * Number of leading header bytes covered by the header CRC.
+     */
+    private static final int HEADER_CRC_OFFSET = HEADER_BYTES - Integer.BYTES;
+
+    /**
+     * File name prefix of a segment.
+     */
+    private static final String PREFIX = "rolls-";
+
+    /**
+     * File name suffix of a segment.
+     */
+    private static final String SUFFIX = ".journal";
+
+    /**
+     * Directory holding the segments.
+     */
+    private final Path myDirectory;
+
+    /**
+     * Size of a segment file in bytes.
+     */
+    private final int mySegmentBytes;
+
+    /**
+     * Number of records between forces to disk.
+     */
+    private final int mySyncEvery;
+
+    /**
+     * Scratch record, encoded and checksummed before it is copied to the segment.
+     */
+    private final byte[] myScratch = new byte[RECORD_BYTES];
+
+    /**
+     * View of the scratch record used for encoding.
+     */
+    private final ByteBuffer myRecord = ByteBuffer.wrap(myScratch).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Checksum of the current record.
+     */
+    private final CRC32C myCrc = new CRC32C();
+
+    /**
+     * Channel of the current segment.
+     */
+    private FileChannel myChannel;
+
+    /**
+     * Mapping of the current segment.
+     */
+    private MappedByteBuffer mySegment;
+
+    /**
+     * Offset of the next record in the current segment.
+     */
+    private int myOffset;
+
+    /**
+     * Offset up to which the current segment was forced to disk.
+     */
+    private int myForced;
+
+    /**
+     * Records appended since the last force.
+     */
+    private int myUnsynced;
+
+    /**
+     * Sequence number of the next record.
+     */
+    private long myNextSeq;
+
+    /**
+     * Opens a journal with the default segment size and group commit.
+     *
+     * @param theDirectory the directory holding the segments.
+     * @throws IOException if the directory cannot be read or written.
+     */
+    public RollJournal(final Path theDirectory) throws IOException {
+        this(theDirectory, DEFAULT_SEGMENT_BYTES, DEFAULT_SYNC_EVERY);
+    }
+
+    /**
+     * Opens a journal, continuing the sequence of any segments already in
+     * the directory. Appending always starts a new segment. A newest segment
+     * left without a valid record by a crash would collide with that new
+     * segment; it holds nothing that can be read back, so it is removed.
+     *
+     * @param theDirectory the directory holding the segments.
+     * @param theSegmentBytes the size of a segment file in bytes.
+     * @param theSyncEvery the number of records between forces to disk.
+     * @throws IOException if the directory cannot be read or written.
+     * @throws IllegalArgumentException if a segment cannot hold a record
+     * or the group commit size is not positive.
+     */
+    public RollJournal(final Path theDirectory, final int theSegmentBytes,
+                       final int theSyncEvery) throws IOException {
+        if (theSegmentBytes < HEADER_BYTES + RECORD_BYTES) {
+            throw new IllegalArgumentException("The segment size must be at least "
+                    + (HEADER_BYTES + RECORD_BYTES) + ", current value is " + theSegmentBytes);
+        }
+        if (theSyncEvery <= 0) {
+            throw new IllegalArgumentException("The group commit size must be greater than 0, "
+                    + "current value is " + theSyncEvery);
+        }
+        myDirectory = theDirectory;
+        mySegmentBytes = theSegmentBytes - (theSegmentBytes - HEADER_BYTES) % RECORD_BYTES;
+        mySyncEvery = theSyncEvery;
+        Files.createDirectories(theDirectory);
+        final long[] last = {0};
+        read(theDirectory, theEntry -> last[0] = theEntry.getSeq());
+        myNextSeq = last[0] + 1;
+        Files.deleteIfExists(segmentFile(myNextSeq));
+    }
+
+    /**
+     * Appends one roll.
+     *
+     * @param theDie1 the value of the first die.
+     * @param theDie2 the value of the second die.
+     * @param thePoint the point after the roll.
+     * @param theOutcome {@link #NO_DECISION}, {@link #PLAYER_WIN} or {@link #HOUSE_WIN}.
+     * @param theBetDelta the change of the bet caused by the roll.
+     * @param theBankDelta the change of the bank caused by the roll.
+     * @return the sequence number of the record.
+     * @throws IOException if a new segment cannot be created or forced.
+     */
+    public long append(final int theDie1, final int theDie2, final int thePoint, final int theOutcome,
+                       final int theBetDelta, final int theBankDelta) throws IOException {
+        if (mySegment == null || myOffset + RECORD_BYTES > mySegmentBytes) {
+            nextSegment();
+        }
+        final long seq = myNextSeq++;
+        myRecord.putLong(0, seq)
+                .putLong(8, System.currentTimeMillis())
+                .put(16, (byte) (theDie1 << 4 | theDie2))
+                .put(17, (byte) thePoint)
+                .put(18, (byte) theOutcome)
+                .put(19, (byte) 0)
+                .putInt(20, theBetDelta)
+                .putInt(24, theBankDelta);
+        myCrc.reset();
+        myCrc.update(myScratch, 0, RECORD_CRC_OFFSET);
+        myRecord.putInt(RECORD_CRC_OFFSET, (int) myCrc.getValue());
+        mySegment.put(myOffset, myScratch);
+        myOffset += RECORD_BYTES;
+        if (++myUnsynced >= mySyncEvery) {
+            sync();
+        }
+        return seq;
+    }
+
+    /**
+     * Forces the records appended since the last force to disk.
+     */
+    public void sync() {
+        if (mySegment != null && myOffset > myForced) {
+            mySegment.force(myForced, myOffset - myForced);
+            myForced = myOffset;
+        }
+        myUnsynced = 0;
+    }
+
+    /**
+     * Retrieves the sequence number the next record will get.
+     *
+     * @return the next sequence number.
+     */
+    public long getNextSeq() {
+        return myNextSeq;
+    }
+
+    /**
+     * Forces outstanding records to disk and closes the current segment.
+     *
+     * @throws IOException if the segment cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        sync();
+        if (myChannel != null) {
+            myChannel.close();
+            myChannel = null;
+            mySegment = null;
+        }
+    }
+
+    /**
+     * Seals the current segment and maps a new one starting at the next sequence number.
+     *
+     * @throws IOException if the segment cannot be created.
+     */
+    private void nextSegment() throws IOException {
+        close();
+        myChannel = FileChannel.open(segmentFile(myNextSeq), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mySegment = myChannel.map(FileChannel.MapMode.READ_WRITE, 0, mySegmentBytes);
+        mySegment.order(ByteOrder.LITTLE_ENDIAN);
+        mySegment.putInt(0, MAGIC)
+                .putShort(4, VERSION)
+                .putShort(6, (short) RECORD_BYTES)
+                .putLong(8, myNextSeq)
+                .putLong(16, System.currentTimeMillis())
+                .putInt(24, mySegmentBytes);
+        final CRC32C crc = new CRC32C();
+        crc.update(mySegment.slice(0, HEADER_CRC_OFFSET));
+        mySegment.putInt(HEADER_CRC_OFFSET, (int) crc.getValue());
+        mySegment.force(0, HEADER_BYTES);
+        myOffset = HEADER_BYTES;
+        myForced = HEADER_BYTES;
+    }
+
+    /**
+     * Resolves the file of the segment starting at a sequence number.
+     *
+     * @param theBase the sequence number of the first record in the segment.
+     * @return the segment file.
+     */
+    private Path segmentFile(final long theBase) {
+        return myDirectory.resolve(String.format("%s%016x%s", PREFIX, theBase, SUFFIX));
+    }
+
+    /**
+     * Reads every record of a journal in sequence order. The unwritten tail of
+     * a segment ends it, and so does a torn record left by a crash, as long as
+     * no valid record follows it and the next segment continues the sequence.
+     *
+     * @param theDirectory the directory holding the segments.
+     * @param theConsumer receives each record.
+     * @return the number of records read.
+     * @throws IOException if a segment cannot be read or is corrupt.
+     */
+    public static long read(final Path theDirectory, final Consumer<Entry> theConsumer) throws IOException {
+        final List<Path> segments = segments(theDirectory);
+        long count = 0;
+        long expected = -1;
+        for (final Path file : segments) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                final long base = checkHeader(file, buffer);
+                if (expected >= 0 && base != expected) {
+                    throw new IOException("Segment " + file + " starts at " + base
+                            + ", expected " + expected);
+                }
+                expected = base;
+                final CRC32C crc = new CRC32C();
+                for (int offset = HEADER_BYTES; offset + RECORD_BYTES <= buffer.limit();
+                     offset += RECORD_BYTES) {
+                    if (buffer.getLong(offset) == 0) {
+                        break;
+                    }
+                    if (!isValid(buffer, offset, crc) || buffer.getLong(offset) != expected) {
+                        for (int later = offset + RECORD_BYTES; later + RECORD_BYTES <= buffer.limit();
+                             later += RECORD_BYTES) {
+                            if (buffer.getLong(later) != 0 && isValid(buffer, later, crc)) {
+                                throw new IOException("Corrupt record at offset " + offset + " of " + file);
+                            }
+                        }
+                        break;
+                    }
+                    theConsumer.accept(new Entry(buffer, offset));
+                    expected++;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks the CRC of a record.
+     *
+     * @param theBuffer the segment holding the record.
+     * @param theOffset the offset of the record.
+     * @param theCrc the checksum to reuse.
+     * @return true if the record matches its CRC.
+     */
+    private static boolean isValid(final ByteBuffer theBuffer, final int theOffset, final CRC32C theCrc) {
+        theCrc.reset();
+        theCrc.update(theBuffer.slice(theOffset, RECORD_CRC_OFFSET));
+        return (int) theCrc.getValue() == theBuffer.getInt(theOffset + RECORD_CRC_OFFSET);
+    }
+
+    /**
+     * Lists the segments of a journal in sequence order.
+     *
+     * @param theDirectory the directory holding the segments.
+     * @return the segment files, oldest first.
+     * @throws IOException if the directory cannot be read.
+     */
+    private static List<Path> segments(final Path theDirectory) throws IOException {
+        final List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(theDirectory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(theDirectory, PREFIX + "*" + SUFFIX)) {
+            files.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    /**
+     * Validates a segment header.
+     *
+     * @param theFile the segment file, for error messages.
+     * @param theBuffer the mapped segment.
+     * @return the sequence number of the first record in the segment.
+     * @throws IOException if the header is missing or corrupt.
+     */
+    private static long checkHeader(final Path theFile, final ByteBuffer theBuffer) throws IOException {
+        if (theBuffer.limit() < HEADER_BYTES || theBuffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a roll journal segment: " + theFile);
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(theBuffer.slice(0, HEADER_CRC_OFFSET));
+        if ((int) crc.getValue() != theBuffer.getInt(HEADER_CRC_OFFSET)) {
+            throw new IOException("Corrupt segment header: " + theFile);
+        }
+        if (theBuffer.getShort(4) != VERSION || theBuffer.getShort(6) != RECORD_BYTES) {
+            throw new IOException("Unsupported segment version " + theBuffer.getShort(4) + ": " + theFile);
+        }
+        return theBuffer.getLong(8);
+    }
+
+    /**
+     * Appends a roll made by a game, pricing the decision against its bank.
+     * A decided roll resolves the whole bet, a win pays it back twice to the bank.
+     *
+     * @param theCraps the game that rolled.
+     * @param theOutcome {@link #NO_DECISION}, {@link #PLAYER_WIN} or {@link #HOUSE_WIN}.
+     */
+    void record(final CrapsLogic theCraps, final int theOutcome) {
+        final int bet = theOutcome == NO_DECISION ? 0 : theCraps.getBank().getBetAmount();
+        try {
+            append(theCraps.getDice1(), theCraps.getDice2(), theCraps.getPoint(), theOutcome,
+                    -bet, theOutcome == PLAYER_WIN ? 2 * bet : 0);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One journaled roll.
+     */
+    public static final class Entry {
+        /**
+         * Sequence number of the roll.
+         */
+        private final long mySeq;
+
+        /**
+         * Wall clock time of the roll in milliseconds.
+         */
+        private final long myTimeMillis;
+
+        /**
+         * Both dice, the first in the high four bits.
+         */
+        private final int myDice;
+
+        /**
+         * Point after the roll.
+         */
+        private final int myPoint;
+
+        /**
+         * Outcome of the roll.
+         */
+        private final int myOutcome;
+
+        /**
+         * Change of the bet caused by the roll.
+         */
+        private final int myBetDelta;
+
+        /**
+         * Change of the bank caused by the roll.
+         */
+        private final int myBankDelta;
+
+        /**
+         * Decodes a record.
+         *
+         * @param theBuffer the segment holding the record.
+         * @param theOffset the offset of the record.
+         */
+        private Entry(final ByteBuffer theBuffer, final int theOffset) {
+            mySeq = theBuffer.getLong(theOffset);
+            myTimeMillis = theBuffer.getLong(theOffset + 8);
+            myDice = theBuffer.get(theOffset + 16) & 0xFF;
+            myPoint = theBuffer.get(theOffset + 17);
+            myOutcome = theBuffer.get(theOffset + 18);
+            myBetDelta = theBuffer.getInt(theOffset + 20);
+            myBankDelta = theBuffer.getInt(theOffset + 24);
+        }
+
+        /**
+         * Retrieves the sequence number of the roll.
+         *
+         * @return the sequence number.
+         */
+        public long getSeq() {
+            return mySeq;
+        }
+
+        /**
+         * Retrieves the wall clock time of the roll.
+         *
+         * @return the time in milliseconds since the epoch.
+         */
+        public long getTimeMillis() {
+            return myTimeMillis;
+        }
+
+        /**
+         * Retrieves the value of the first die.
+         *
+         * @return the first die.
+         */
+        public int getDie1() {
+            return myDice >>> 4;
+        }
+
+        /**
+         * Retrieves the value of the second die.
+         *
+         * @return the second die.
+         */
+        public int getDie2() {
+            return myDice & 0xF;
+        }
+
+        /**
+         * Retrieves the point after the roll.
+         *
+         * @return the point.
+         */
+        public int getPoint() {
+            return myPoint;
+        }
+
+        /**
+         * Retrieves the outcome of the roll.
+         *
+         * @return {@link #NO_DECISION}, {@link #PLAYER_WIN} or {@link #HOUSE_WIN}.
+         */
+        public int getOutcome() {
+            return myOutcome;
+        }
+
+        /**
+         * Retrieves the change of the bet caused by the roll.
+         *
+         * @return the bet delta.
+         */
+        public int getBetDelta() {
+            return myBetDelta;
+        }
+
+        /**
+         * Retrieves the change of the bank caused by the roll.
+         *
+         * @return the bank delta.
+         */
+        public int getBankDelta() {
+            return myBankDelta;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + mySeq + " " + getDie1() + "+" + getDie2() + " point " + myPoint
+                    + " outcome " + myOutcome + " bet " + myBetDelta + " bank " + myBankDelta;
+        }
+    }
+}
\ No newline at end of file
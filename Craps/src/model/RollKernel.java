@@ -0,0 +1,187 @@
+package model;
+
+/**
+ * Table-driven resolution of a single pass-line roll.
+ * The come-out and point rules of Craps are precomputed into one
+ * transition table indexed by the current point and the dice total,
+ * so a roll is resolved with a single array lookup and no allocation.
+ *
+ * <p>A resolved roll is encoded in one int: the low byte holds the table row
+ * for the next roll, the next bits hold the point for the next roll,
+ * {@link #DECIDED} is set when the round is over and
+ * {@link #PLAYER_WIN} is set when the player won it. Bulk callers can chain
+ * {@link #resolveRow(int, int)} on the row to skip the multiply per roll.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class RollKernel {
+    /**
+     * Mask for the next table row in an encoded result.
+     */
+    public static final int ROW_MASK = 0xFF;
+
+    /**
+     * Shift that moves the next point to the lowest bits.
+     */
+    public static final int POINT_SHIFT = 8;
+
+    /**
+     * Mask for the next point once shifted by {@link #POINT_SHIFT}.
+     */
+    public static final int POINT_MASK = 0xF;
+
+    /**
+     * Shift that moves {@link #DECIDED} to the lowest bit.
+     */
+    public static final int DECIDED_SHIFT = 12;
+
+    /**
+     * Shift that moves {@link #PLAYER_WIN} to the lowest bit.
+     */
+    public static final int PLAYER_WIN_SHIFT = 13;
+
+    /**
+     * Flag set in an encoded result when the round is decided.
+     */
+    public static final int DECIDED = 1 << DECIDED_SHIFT;
+
+    /**
+     * Flag set in an encoded result when the player won the round.
+     */
+    public static final int PLAYER_WIN = 1 << PLAYER_WIN_SHIFT;
+
+    /**
+     * Table row of the come-out roll.
+     */
+    public static final int COME_OUT_ROW = 0;
+
+    /**
+     * Number of columns per point row, one for each total from 0 to 12.
+     */
+    private static final int TOTALS = 13;
+
+    /**
+     * Highest point value that can be established.
+     */
+    private static final int MAX_POINT = 10;
+
+    /**
+     * Encoded results indexed by {@code point * 13 + total}.
+     * Row 0 holds the come-out roll.
+     */
+    private static final int[] TRANSITIONS = buildTransitions();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RollKernel() {
+    }
+
+    /**
+     * Resolves a roll against the current point.
+     *
+     * @param thePoint the current point, 0 for a come-out roll.
+     * @param theTotal the total of both dice, from 2 to 12.
+     * @return the encoded result of the roll.
+     */
+    public static int resolve(final int thePoint, final int theTotal) {
+        return TRANSITIONS[thePoint * TOTALS + theTotal];
+    }
+
+    /**
+     * Resolves a roll against a table row taken from a previous result.
+     *
+     * @param theRow the row of the current point, see {@link #nextRow(int)}.
+     * @param theTotal the total of both dice, from 2 to 12.
+     * @return the encoded result of the roll.
+     */
+    public static int resolveRow(final int theRow, final int theTotal) {
+        return TRANSITIONS[theRow + theTotal];
+    }
+
+    /**
+     * Retrieves the point for the next roll from an encoded result.
+     *
+     * @param theResult the encoded result.
+     * @return the next point, 0 when the next roll is a come-out roll.
+     */
+    public static int nextPoint(final int theResult) {
+        return (theResult >>> POINT_SHIFT) & POINT_MASK;
+    }
+
+    /**
+     * Retrieves the table row for the next roll from an encoded result.
+     *
+     * @param theResult the encoded result.
+     * @return the row to pass to {@link #resolveRow(int, int)}.
+     */
+    public static int nextRow(final int theResult) {
+        return theResult & ROW_MASK;
+    }
+
+    /**
+     * Checks if an encoded result decided the round.
+     *
+     * @param theResult the encoded result.
+     * @return true if the round is over, false otherwise.
+     */
+    public static boolean isDecided(final int theResult) {
+        return (theResult & DECIDED) != 0;
+    }
+
+    /**
+     * Checks if an encoded result is a win for the player.
+     *
+     * @param theResult the encoded result.
+     * @return true if the player won the round, false otherwise.
+     */
+    public static boolean isPlayerWin(final int theResult) {
+        return (theResult & PLAYER_WIN) != 0;
+    }
+
+    /**
+     * Builds the transition table from the pass-line rules.
+     *
+     * @return the filled transition table.
+     */
+    private static int[] buildTransitions() {
+        final int[] table = new int[(MAX_POINT + 1) * TOTALS];
+        for (int total = 2; total < TOTALS; total++) {
+            if (total == 7 || total == 11) {
+                table[total] = DECIDED | PLAYER_WIN;
+            } else if (total == 2 || total == 3 || total == 12) {
+                table[total] = DECIDED;
+            } else {
+                table[total] = stay(total);
+            }
+        }
+        for (int point = 4; point <= MAX_POINT; point++) {
+            if (point == 7) {
+                continue;
+            }
+            for (int total = 2; total < TOTALS; total++) {
+                final int result;
+                if (total == point) {
+                    result = DECIDED | PLAYER_WIN;
+                } else if (total == 7) {
+                    result = DECIDED;
+                } else {
+                    result = stay(point);
+                }
+                table[point * TOTALS + total] = result;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Encodes an undecided result that keeps the given point.
+     *
+     * @param thePoint the point for the next roll.
+     * @return the encoded result.
+     */
+    private static int stay(final int thePoint) {
+        return thePoint * TOTALS | thePoint << POINT_SHIFT;
+    }
+}
\ No newline at end of file
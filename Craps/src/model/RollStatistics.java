@@ -0,0 +1,404 @@
+package model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Streaming statistics of the rolls of one game: a histogram of totals,
+ * how often each point is established and made, the distribution of rolls
+ * per decision and the player win rate with its Welford variance.
+ * <p>
+ * Recording is O(1) and allocation free. It has a single writer, the thread
+ * that rolls; any thread may take a consistent {@link Snapshot} at any time
+ * without stopping play, guarded by a sequence lock the writer never waits on.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class RollStatistics {
+    /**
+     * Longest decision tracked on its own; longer ones share the last bucket.
+     */
+    public static final int MAX_TRACKED_ROLLS = 50;
+
+    /**
+     * Two sided z score of a 95% confidence interval.
+     */
+    public static final double Z_95 = 1.959963984540054;
+
+    /**
+     * Handle for ordered access to {@link #mySequence}.
+     */
+    private static final VarHandle SEQUENCE;
+
+    static {
+        try {
+            SEQUENCE = MethodHandles.lookup().findVarHandle(RollStatistics.class, "mySequence", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Sequence lock, odd while the writer is updating.
+     */
+    private volatile long mySequence;
+
+    /**
+     * Number of rolls of each total, indexed by the total.
+     */
+    private final long[] myTotals = new long[13];
+
+    /**
+     * Number of times each point was established, indexed by the point.
+     */
+    private final long[] myEstablished = new long[11];
+
+    /**
+     * Number of times each point was made, indexed by the point.
+     */
+    private final long[] myMade = new long[11];
+
+    /**
+     * Number of decisions by their length in rolls, the last bucket holds longer ones.
+     */
+    private final long[] myDecisionRolls = new long[MAX_TRACKED_ROLLS + 1];
+
+    /**
+     * Number of rolls recorded.
+     */
+    private long myRolls;
+
+    /**
+     * Rolls since the last decision.
+     */
+    private int myRollsInRound;
+
+    /**
+     * Number of decisions recorded.
+     */
+    private long myDecisions;
+
+    /**
+     * Running mean of the player win indicator.
+     */
+    private double myWinMean;
+
+    /**
+     * Running sum of squared deviations of the player win indicator.
+     */
+    private double myWinM2;
+
+    /**
+     * Records one roll.
+     *
+     * @param theTotal the total of the dice.
+     * @param thePoint the point before the roll, 0 on the come out roll.
+     * @param theResult the {@link RollKernel} result of the roll.
+     */
+    public void record(final int theTotal, final int thePoint, final int theResult) {
+        final long sequence = mySequence;
+        SEQUENCE.setOpaque(this, sequence + 1);
+        VarHandle.storeStoreFence();
+
+        myRolls++;
+        myTotals[theTotal]++;
+        myRollsInRound++;
+        if (!RollKernel.isDecided(theResult)) {
+            if (thePoint == 0) {
+                myEstablished[RollKernel.nextPoint(theResult)]++;
+            }
+        } else {
+            final boolean won = RollKernel.isPlayerWin(theResult);
+            if (won && thePoint != 0) {
+                myMade[thePoint]++;
+            }
+            myDecisionRolls[Math.min(myRollsInRound, MAX_TRACKED_ROLLS)]++;
+            myRollsInRound = 0;
+
+            final double delta = (won ? 1 : 0) - myWinMean;
+            myDecisions++;
+            myWinMean += delta / myDecisions;
+            myWinM2 += delta * ((won ? 1 : 0) - myWinMean);
+        }
+
+        SEQUENCE.setRelease(this, sequence + 2);
+    }
+
+    /**
+     * Clears every statistic. Must be called by the writer.
+     */
+    public void reset() {
+        final long sequence = mySequence;
+        SEQUENCE.setOpaque(this, sequence + 1);
+        VarHandle.storeStoreFence();
+
+        Arrays.fill(myTotals, 0);
+        Arrays.fill(myEstablished, 0);
+        Arrays.fill(myMade, 0);
+        Arrays.fill(myDecisionRolls, 0);
+        myRolls = 0;
+        myRollsInRound = 0;
+        myDecisions = 0;
+        myWinMean = 0;
+        myWinM2 = 0;
+
+        SEQUENCE.setRelease(this, sequence + 2);
+    }
+
+    /**
+     * Takes a consistent copy of the statistics, retrying while the writer updates them.
+     *
+     * @return the current statistics.
+     */
+    public Snapshot snapshot() {
+        final long[] totals = new long[myTotals.length];
+        final long[] established = new long[myEstablished.length];
+        final long[] made = new long[myMade.length];
+        final long[] decisionRolls = new long[myDecisionRolls.length];
+        while (true) {
+            final long before = (long) SEQUENCE.getAcquire(this);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            System.arraycopy(myTotals, 0, totals, 0, totals.length);
+            System.arraycopy(myEstablished, 0, established, 0, established.length);
+            System.arraycopy(myMade, 0, made, 0, made.length);
+            System.arraycopy(myDecisionRolls, 0, decisionRolls, 0, decisionRolls.length);
+            final long rolls = myRolls;
+            final long decidedRolls = myRolls - myRollsInRound;
+            final long decisions = myDecisions;
+            final double winMean = myWinMean;
+            final double winM2 = myWinM2;
+            VarHandle.loadLoadFence();
+            if ((long) SEQUENCE.getOpaque(this) == before) {
+                return new Snapshot(totals, established, made, decisionRolls,
+                        rolls, decidedRolls, decisions, winMean, winM2);
+            }
+        }
+    }
+
+    /**
+     * Consistent copy of the statistics at one point in time.
+     */
+    public static final class Snapshot {
+        /**
+         * Number of rolls of each total.
+         */
+        private final long[] myTotals;
+
+        /**
+         * Number of times each point was established.
+         */
+        private final long[] myEstablished;
+
+        /**
+         * Number of times each point was made.
+         */
+        private final long[] myMade;
+
+        /**
+         * Number of decisions by their length in rolls.
+         */
+        private final long[] myDecisionRolls;
+
+        /**
+         * Number of rolls.
+         */
+        private final long myRolls;
+
+        /**
+         * Number of rolls of decided rounds.
+         */
+        private final long myDecidedRolls;
+
+        /**
+         * Number of decisions.
+         */
+        private final long myDecisions;
+
+        /**
+         * Mean of the player win indicator.
+         */
+        private final double myWinMean;
+
+        /**
+         * Sum of squared deviations of the player win indicator.
+         */
+        private final double myWinM2;
+
+        /**
+         * Constructs a snapshot from copies of the statistics.
+         *
+         * @param theTotals the histogram of totals.
+         * @param theEstablished the points established.
+         * @param theMade the points made.
+         * @param theDecisionRolls the histogram of rolls per decision.
+         * @param theRolls the number of rolls.
+         * @param theDecidedRolls the number of rolls of decided rounds.
+         * @param theDecisions the number of decisions.
+         * @param theWinMean the mean of the player win indicator.
+         * @param theWinM2 the sum of squared deviations of the player win indicator.
+         */
+        private Snapshot(final long[] theTotals, final long[] theEstablished, final long[] theMade,
+                         final long[] theDecisionRolls, final long theRolls,
+                         final long theDecidedRolls, final long theDecisions,
+                         final double theWinMean, final double theWinM2) {
+            myTotals = theTotals;
+            myEstablished = theEstablished;
+            myMade = theMade;
+            myDecisionRolls = theDecisionRolls;
+            myRolls = theRolls;
+            myDecidedRolls = theDecidedRolls;
+            myDecisions = theDecisions;
+            myWinMean = theWinMean;
+            myWinM2 = theWinM2;
+        }
+
+        /**
+         * Retrieves the number of rolls.
+         *
+         * @return the rolls recorded.
+         */
+        public long getRolls() {
+            return myRolls;
+        }
+
+        /**
+         * Retrieves the number of decided rounds.
+         *
+         * @return the decisions recorded.
+         */
+        public long getDecisions() {
+            return myDecisions;
+        }
+
+        /**
+         * Retrieves how often a total was rolled.
+         *
+         * @param theTotal the total, 2 to 12.
+         * @return the number of rolls of the total.
+         * @throws IllegalArgumentException if the total is not between 2 and 12.
+         */
+        public long getTotalCount(final int theTotal) {
+            if (theTotal < 2 || theTotal > 12) {
+                throw new IllegalArgumentException("The total must be between 2 and 12, "
+                        + "current value is " + theTotal);
+            }
+            return myTotals[theTotal];
+        }
+
+        /**
+         * Retrieves how often a point was established.
+         *
+         * @param thePoint the point, 4 to 10.
+         * @return the number of times the point was established.
+         */
+        public long getPointsEstablished(final int thePoint) {
+            return myEstablished[checkPoint(thePoint)];
+        }
+
+        /**
+         * Retrieves how often a point was made.
+         *
+         * @param thePoint the point, 4 to 10.
+         * @return the number of times the point was made.
+         */
+        public long getPointsMade(final int thePoint) {
+            return myMade[checkPoint(thePoint)];
+        }
+
+        /**
+         * Retrieves how many decisions took a number of rolls. The count for
+         * {@link #MAX_TRACKED_ROLLS} includes every longer decision.
+         *
+         * @param theRolls the length of the decision, 1 to {@link #MAX_TRACKED_ROLLS}.
+         * @return the number of decisions of that length.
+         * @throws IllegalArgumentException if the length is out of range.
+         */
+        public long getDecisionsWithRolls(final int theRolls) {
+            if (theRolls < 1 || theRolls > MAX_TRACKED_ROLLS) {
+                throw new IllegalArgumentException("The rolls must be between 1 and "
+                        + MAX_TRACKED_ROLLS + ", current value is " + theRolls);
+            }
+            return myDecisionRolls[theRolls];
+        }
+
+        /**
+         * Retrieves the fraction of decisions the player won.
+         *
+         * @return the player win rate, or 0 when nothing was decided.
+         */
+        public double getPlayerWinRate() {
+            return myWinMean;
+        }
+
+        /**
+         * Retrieves the sample variance of the player win indicator.
+         *
+         * @return the variance, or 0 with fewer than two decisions.
+         */
+        public double getWinRateVariance() {
+            return myDecisions < 2 ? 0 : myWinM2 / (myDecisions - 1);
+        }
+
+        /**
+         * Retrieves the half width of the 95% confidence interval of the player win rate.
+         *
+         * @return the margin of error of the win rate.
+         */
+        public double getWinRateMargin() {
+            return myDecisions == 0 ? 0 : Z_95 * Math.sqrt(getWinRateVariance() / myDecisions);
+        }
+
+        /**
+         * Retrieves the lower bound of the 95% confidence interval of the player win rate.
+         *
+         * @return the lower bound.
+         */
+        public double getWinRateLow() {
+            return myWinMean - getWinRateMargin();
+        }
+
+        /**
+         * Retrieves the upper bound of the 95% confidence interval of the player win rate.
+         *
+         * @return the upper bound.
+         */
+        public double getWinRateHigh() {
+            return myWinMean + getWinRateMargin();
+        }
+
+        /**
+         * Retrieves the mean number of rolls per decision.
+         *
+         * @return the rolls per decision, or 0 when nothing was decided.
+         */
+        public double getRollsPerDecision() {
+            return myDecisions == 0 ? 0 : (double) myDecidedRolls / myDecisions;
+        }
+
+        /**
+         * Checks that a point is one of 4, 5, 6, 8, 9 or 10.
+         *
+         * @param thePoint the point.
+         * @return the point.
+         * @throws IllegalArgumentException if the value is not a point.
+         */
+        private static int checkPoint(final int thePoint) {
+            if (thePoint < 4 || thePoint > 10 || thePoint == 7) {
+                throw new IllegalArgumentException("The point must be 4, 5, 6, 8, 9 or 10, "
+                        + "current value is " + thePoint);
+            }
+            return thePoint;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Rolls: %d, decisions: %d, win rate: %.4f (95%% CI %.4f-%.4f)",
+                    myRolls, myDecisions, myWinMean, getWinRateLow(), getWinRateHigh());
+        }
+    }
+}
\ No newline at end of file
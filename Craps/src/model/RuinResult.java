@@ -0,0 +1,120 @@
+package model;
+
+/**
+ * Risk of ruin of a flat pass line bet: the chance of losing the bank
+ * before reaching the target, and how many rounds a session lasts.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class RuinResult {
+    /**
+     * Bank the session starts with.
+     */
+    private final int myBank;
+
+    /**
+     * Flat bet of every round.
+     */
+    private final int myBet;
+
+    /**
+     * Bank at which the player walks away.
+     */
+    private final int myTarget;
+
+    /**
+     * Round limit, 0 if unlimited.
+     */
+    private final int myRounds;
+
+    /**
+     * Probability of ruin.
+     */
+    private final double myRuin;
+
+    /**
+     * Expected number of rounds played.
+     */
+    private final double myExpectedRounds;
+
+    /**
+     * Constructs a result.
+     *
+     * @param theBank the starting bank.
+     * @param theBet the flat bet.
+     * @param theTarget the bank at which the player walks away.
+     * @param theRounds the round limit, 0 if unlimited.
+     * @param theRuin the probability of ruin.
+     * @param theExpectedRounds the expected number of rounds played.
+     */
+    RuinResult(final int theBank, final int theBet, final int theTarget, final int theRounds,
+               final double theRuin, final double theExpectedRounds) {
+        myBank = theBank;
+        myBet = theBet;
+        myTarget = theTarget;
+        myRounds = theRounds;
+        myRuin = theRuin;
+        myExpectedRounds = theExpectedRounds;
+    }
+
+    /**
+     * Retrieves the starting bank.
+     *
+     * @return the bank.
+     */
+    public int getBank() {
+        return myBank;
+    }
+
+    /**
+     * Retrieves the flat bet.
+     *
+     * @return the bet.
+     */
+    public int getBet() {
+        return myBet;
+    }
+
+    /**
+     * Retrieves the bank at which the player walks away.
+     *
+     * @return the target.
+     */
+    public int getTarget() {
+        return myTarget;
+    }
+
+    /**
+     * Retrieves the round limit.
+     *
+     * @return the most rounds played, 0 if unlimited.
+     */
+    public int getRounds() {
+        return myRounds;
+    }
+
+    /**
+     * Retrieves the probability that the bank can no longer cover the bet.
+     *
+     * @return the ruin probability.
+     */
+    public double getRuinProbability() {
+        return myRuin;
+    }
+
+    /**
+     * Retrieves the expected number of rounds played.
+     *
+     * @return the expected session length.
+     */
+    public double getExpectedRounds() {
+        return myExpectedRounds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Bank %d, bet %d, target %d%s: ruin %.6f, rounds %.2f", myBank, myBet, myTarget,
+                myRounds == 0 ? "" : ", " + myRounds + " rounds", myRuin, myExpectedRounds);
+    }
+}
\ No newline at end of file
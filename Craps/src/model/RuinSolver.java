@@ -0,0 +1,191 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Exact risk of ruin of a flat pass line bet. The bank is counted in whole
+ * bets: from n bets a round moves to n + 1 with the pass line win probability
+ * p and to n - 1 otherwise, the session is ruined at 0 bets, when the bank can
+ * no longer cover the bet as {@link CrapsLogic#checkBankBalance()} would see it,
+ * and the player walks away at the target.
+ * <p>
+ * Without a round limit the dynamic program x(n) = p x(n + 1) + q x(n - 1) is a
+ * tridiagonal system, solved directly in O(N) with the Thomas algorithm instead
+ * of value iteration, which would need on the order of N squared sweeps to
+ * converge. With a round limit it is solved by value iteration, one sweep per
+ * round over only the states the limit can reach.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class RuinSolver {
+    /**
+     * Probability of winning a round.
+     */
+    private final double myWin;
+
+    /**
+     * Constructs a solver with the exact pass line win probability.
+     */
+    public RuinSolver() {
+        this(CrapsOdds.getInstance().getPlayerWinProbability().doubleValue());
+    }
+
+    /**
+     * Constructs a solver with the given round win probability.
+     *
+     * @param theWinProbability the probability of winning a round.
+     * @throws IllegalArgumentException if the probability is not strictly between 0 and 1.
+     */
+    public RuinSolver(final double theWinProbability) {
+        if (!(theWinProbability > 0 && theWinProbability < 1)) {
+            throw new IllegalArgumentException("The win probability must be between 0 and 1, "
+                    + "current value is " + theWinProbability);
+        }
+        myWin = theWinProbability;
+    }
+
+    /**
+     * Solves a session without a round limit.
+     *
+     * @param theBank the starting bank.
+     * @param theBet the flat bet.
+     * @param theTarget the bank at which the player walks away.
+     * @return the ruin probability and expected session length.
+     * @throws IllegalArgumentException if the bank, bet or target are inconsistent.
+     */
+    public RuinResult solve(final int theBank, final int theBet, final int theTarget) {
+        return solve(theBank, theBet, theTarget, 0);
+    }
+
+    /**
+     * Solves a session, optionally with a round limit.
+     *
+     * @param theBank the starting bank.
+     * @param theBet the flat bet.
+     * @param theTarget the bank at which the player walks away.
+     * @param theRounds the most rounds played, 0 for no limit.
+     * @return the ruin probability and expected session length.
+     * @throws IllegalArgumentException if the bank, bet, target or rounds are inconsistent.
+     */
+    public RuinResult solve(final int theBank, final int theBet, final int theTarget, final int theRounds) {
+        if (theBet <= 0) {
+            throw new IllegalArgumentException("The bet amount must be greater than 0, "
+                    + "current bet is " + theBet);
+        }
+        if (theBank < 0 || theTarget <= theBank) {
+            throw new IllegalArgumentException("The target must be greater than the bank " + theBank
+                    + ", current value is " + theTarget);
+        }
+        if (theRounds < 0) {
+            throw new IllegalArgumentException("The round limit must not be negative, "
+                    + "current value is " + theRounds);
+        }
+        final int start = theBank / theBet;
+        final int remainder = theBank % theBet;
+        final int target = (int) ((theTarget - remainder + (long) theBet - 1) / theBet);
+        final double[] solution = theRounds == 0 ? thomas(start, target) : iterate(start, target, theRounds);
+        return new RuinResult(theBank, theBet, theTarget, theRounds, solution[0], solution[1]);
+    }
+
+    /**
+     * Solves sessions for several bets at once, in parallel.
+     *
+     * @param theBank the starting bank.
+     * @param theTarget the bank at which the player walks away.
+     * @param theRounds the most rounds played, 0 for no limit.
+     * @param theBets the flat bets to solve for.
+     * @return one result per bet, in the order of the bets.
+     * @throws IllegalArgumentException if any configuration is inconsistent.
+     */
+    public RuinResult[] sweep(final int theBank, final int theTarget, final int theRounds, final int... theBets) {
+        return Arrays.stream(theBets).parallel()
+                .mapToObj(theBet -> solve(theBank, theBet, theTarget, theRounds))
+                .toArray(RuinResult[]::new);
+    }
+
+    /**
+     * Solves the unlimited session for both the ruin probability and the expected
+     * length with one forward elimination and two back substitutions.
+     *
+     * @param theStart the starting bank in bets.
+     * @param theTarget the target in bets.
+     * @return the ruin probability and the expected length from the start.
+     */
+    private double[] thomas(final int theStart, final int theTarget) {
+        if (theStart == 0) {
+            return new double[] {1, 0};
+        }
+        final double p = myWin;
+        final double q = 1 - myWin;
+        final int n = theTarget - 1;
+        // unknowns 1..n, row i: -q x(i - 1) + x(i) - p x(i + 1) = d(i), x(0) and x(n + 1) known
+        final double[] upper = new double[n + 1];
+        final double[] ruin = new double[n + 1];
+        final double[] rounds = new double[n + 1];
+        double prevUpper = 0;
+        double prevRuin = 0;
+        double prevRounds = 0;
+        for (int i = 1; i <= n; i++) {
+            final double denominator = 1 + q * prevUpper;
+            prevUpper = -p / denominator;
+            prevRuin = ((i == 1 ? q : 0) + q * prevRuin) / denominator;
+            prevRounds = (1 + q * prevRounds) / denominator;
+            upper[i] = prevUpper;
+            ruin[i] = prevRuin;
+            rounds[i] = prevRounds;
+        }
+        for (int i = n - 1; i >= theStart; i--) {
+            ruin[i] -= upper[i] * ruin[i + 1];
+            rounds[i] -= upper[i] * rounds[i + 1];
+        }
+        return new double[] {ruin[theStart], rounds[theStart]};
+    }
+
+    /**
+     * Solves the limited session by value iteration, one sweep per round over the
+     * states within the round limit of the start, as farther ones cannot matter.
+     *
+     * @param theStart the starting bank in bets.
+     * @param theTarget the target in bets.
+     * @param theRounds the most rounds played.
+     * @return the ruin probability and the expected length from the start.
+     */
+    private double[] iterate(final int theStart, final int theTarget, final int theRounds) {
+        if (theStart == 0) {
+            return new double[] {1, 0};
+        }
+        final double p = myWin;
+        final double q = 1 - myWin;
+        final int low = Math.max(0, theStart - theRounds);
+        final int high = Math.min(theTarget, theStart + theRounds);
+        final int size = high - low + 1;
+        double[] ruin = new double[size];
+        double[] rounds = new double[size];
+        double[] nextRuin = new double[size];
+        double[] nextRounds = new double[size];
+        if (low == 0) {
+            ruin[0] = 1;
+            nextRuin[0] = 1;
+        }
+        final int first = Math.max(1, low) - low;
+        final int last = Math.min(theTarget - 1, high) - low;
+        for (int round = 0; round < theRounds; round++) {
+            for (int i = first; i <= last; i++) {
+                final double up = i + 1 < size ? ruin[i + 1] : 0;
+                final double down = i > 0 ? ruin[i - 1] : 0;
+                nextRuin[i] = p * up + q * down;
+                final double upRounds = i + 1 < size ? rounds[i + 1] : 0;
+                final double downRounds = i > 0 ? rounds[i - 1] : 0;
+                nextRounds[i] = 1 + p * upRounds + q * downRounds;
+            }
+            double[] swap = ruin;
+            ruin = nextRuin;
+            nextRuin = swap;
+            swap = rounds;
+            rounds = nextRounds;
+            nextRounds = swap;
+        }
+        return new double[] {ruin[theStart - low], rounds[theStart - low]};
+    }
+}
\ No newline at end of file
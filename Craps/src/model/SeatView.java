@@ -0,0 +1,98 @@
+package model;
+
+/**
+ * Bank and bet of one seat at a {@link MultiSeatTable}, seen the way
+ * {@link BankBetLogic} shows a single player. The amounts live in the
+ * columns of the table; the view only reads them and carries the seat's bus.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class SeatView implements BankView {
+    /**
+     * Table the seat belongs to.
+     */
+    private final MultiSeatTable myTable;
+
+    /**
+     * Index of the seat.
+     */
+    private final int mySeat;
+
+    /**
+     * Publishes the bank events of the seat.
+     */
+    private final GameEventBus myBus;
+
+    /**
+     * Constructs the view of a seat.
+     *
+     * @param theTable the table the seat belongs to.
+     * @param theSeat the index of the seat.
+     */
+    SeatView(final MultiSeatTable theTable, final int theSeat) {
+        myTable = theTable;
+        mySeat = theSeat;
+        myBus = new GameEventBus();
+    }
+
+    /**
+     * Retrieves the index of the seat.
+     *
+     * @return the seat.
+     */
+    public int getSeat() {
+        return mySeat;
+    }
+
+    /**
+     * Checks if a player sits in the seat.
+     *
+     * @return true if the seat is taken.
+     */
+    public boolean isSeated() {
+        return myTable.isSeated(mySeat);
+    }
+
+    /**
+     * Retrieves the seat's bank.
+     *
+     * @return the bank amount in cents, 0 for an empty seat.
+     */
+    @Override
+    public long getBankCents() {
+        return myTable.getBankCents(mySeat);
+    }
+
+    /**
+     * Retrieves the sum of the seat's bets on the table.
+     *
+     * @return the bet amount in cents.
+     */
+    @Override
+    public long getBetCents() {
+        return myTable.getBetCents(mySeat);
+    }
+
+    /**
+     * Retrieves the bus the seat's bank and bet changes are published on.
+     *
+     * @return the event bus of the seat.
+     */
+    @Override
+    public GameEventBus getEventBus() {
+        return myBus;
+    }
+
+    /**
+     * Generates a string of the bank amount and the bet amount.
+     *
+     * @return a string representing the seat.
+     */
+    @Override
+    public String toString() {
+        return "Seat " + mySeat
+             + "\nBank: " + Money.format(getBankCents())
+             + "\nBet: " + Money.format(getBetCents());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package model;
+
+/**
+ * Immutable aggregate of a headless Craps simulation run.
+ * Holds the decision counts for the player and the house
+ * along with the number of dice rolls it took to reach them.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class SimulationResult {
+    /**
+     * Number of rounds won by the player.
+     */
+    private final long myPlayerWins;
+
+    /**
+     * Number of rounds won by the house.
+     */
+    private final long myHouseWins;
+
+    /**
+     * Number of dice rolls made across all rounds.
+     */
+    private final long myRolls;
+
+    /**
+     * Constructs a result from raw counts.
+     *
+     * @param thePlayerWins the number of rounds won by the player.
+     * @param theHouseWins the number of rounds won by the house.
+     * @param theRolls the number of dice rolls made.
+     * @throws IllegalArgumentException if any count is negative.
+     */
+    public SimulationResult(final long thePlayerWins, final long theHouseWins, final long theRolls) {
+        if (thePlayerWins < 0 || theHouseWins < 0 || theRolls < 0) {
+            throw new IllegalArgumentException("Simulation counts must not be negative, "
+                    + "current values are " + thePlayerWins + ", " + theHouseWins + ", " + theRolls);
+        }
+        myPlayerWins = thePlayerWins;
+        myHouseWins = theHouseWins;
+        myRolls = theRolls;
+    }
+
+    /**
+     * Retrieves the number of rounds won by the player.
+     *
+     * @return the number of player wins.
+     */
+    public long getPlayerWins() {
+        return myPlayerWins;
+    }
+
+    /**
+     * Retrieves the number of rounds won by the house.
+     *
+     * @return the number of house wins.
+     */
+    public long getHouseWins() {
+        return myHouseWins;
+    }
+
+    /**
+     * Retrieves the number of dice rolls made.
+     *
+     * @return the number of rolls.
+     */
+    public long getRolls() {
+        return myRolls;
+    }
+
+    /**
+     * Retrieves the number of decided rounds.
+     *
+     * @return the player wins plus the house wins.
+     */
+    public long getDecisions() {
+        return myPlayerWins + myHouseWins;
+    }
+
+    /**
+     * Retrieves the average number of rolls needed to decide a round.
+     *
+     * @return the rolls per decision, or 0 if no round was decided.
+     */
+    public double getRollsPerDecision() {
+        final long decisions = getDecisions();
+        return decisions == 0 ? 0 : (double) myRolls / decisions;
+    }
+
+    /**
+     * Retrieves the fraction of decided rounds won by the player.
+     *
+     * @return the player win rate, or 0 if no round was decided.
+     */
+    public double getPlayerWinRate() {
+        final long decisions = getDecisions();
+        return decisions == 0 ? 0 : (double) myPlayerWins / decisions;
+    }
+
+    /**
+     * Combines this result with another one.
+     *
+     * @param theOther the result to add to this one.
+     * @return a new result holding the sum of both.
+     */
+    public SimulationResult merge(final SimulationResult theOther) {
+        return new SimulationResult(myPlayerWins + theOther.myPlayerWins,
+                myHouseWins + theOther.myHouseWins,
+                myRolls + theOther.myRolls);
+    }
+
+    @Override
+    public boolean equals(final Object theOther) {
+        if (this == theOther) {
+            return true;
+        }
+        if (!(theOther instanceof SimulationResult)) {
+            return false;
+        }
+        final SimulationResult other = (SimulationResult) theOther;
+        return myPlayerWins == other.myPlayerWins
+                && myHouseWins == other.myHouseWins
+                && myRolls == other.myRolls;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(myPlayerWins) * 31 * 31
+                + Long.hashCode(myHouseWins) * 31
+                + Long.hashCode(myRolls);
+    }
+
+    /**
+     * Generates a string of the aggregated counts.
+     *
+     * @return a string representing the simulation result.
+     */
+    @Override
+    public String toString() {
+        return "Player Wins: " + myPlayerWins
+                + "\nHouse Wins: " + myHouseWins
+                + "\nRolls: " + myRolls
+                + "\nRolls Per Decision: " + getRollsPerDecision();
+    }
+}
\ No newline at end of file
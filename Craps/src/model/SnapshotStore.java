@@ -0,0 +1,254 @@
+package model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Directory of versioned binary snapshots of one or many tables.
+ * A snapshot file is a header, one fixed width record per table, the table
+ * bets of each table in the same order and a CRC32C of everything before it.
+ * Files are written to a temporary file and moved into place atomically,
+ * so a crash leaves either the old or the new snapshot.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class SnapshotStore {
+    /**
+     * Default number of snapshot files kept.
+     */
+    public static final int DEFAULT_KEEP = 3;
+
+    /**
+     * Magic number at the start of every snapshot, "CRPS".
+     */
+    private static final int MAGIC = 0x43525053;
+
+    /**
+     * Version of the snapshot format, 3 since the table bets are stored.
+     */
+    private static final short VERSION = 3;
+
+    /**
+     * Older version of the snapshot format that is still read, with amounts in cents and no table bets.
+     */
+    private static final short CENTS_VERSION = 2;
+
+    /**
+     * Oldest version of the snapshot format that is still read, with amounts in whole dollars.
+     */
+    private static final short LEGACY_VERSION = 1;
+
+    /**
+     * Size of the snapshot header in bytes.
+     */
+    private static final int HEADER_BYTES = 24;
+
+    /**
+     * File name prefix of a snapshot.
+     */
+    private static final String PREFIX = "snapshot-";
+
+    /**
+     * File name suffix of a snapshot.
+     */
+    private static final String SUFFIX = ".bin";
+
+    /**
+     * Directory holding the snapshots.
+     */
+    private final Path myDirectory;
+
+    /**
+     * Number of snapshot files kept.
+     */
+    private final int myKeep;
+
+    /**
+     * Number of the next snapshot file.
+     */
+    private long myNext;
+
+    /**
+     * Opens a store keeping the default number of snapshots.
+     *
+     * @param theDirectory the directory holding the snapshots.
+     * @throws IOException if the directory cannot be read or created.
+     */
+    public SnapshotStore(final Path theDirectory) throws IOException {
+        this(theDirectory, DEFAULT_KEEP);
+    }
+
+    /**
+     * Opens a store.
+     *
+     * @param theDirectory the directory holding the snapshots.
+     * @param theKeep the number of snapshot files kept.
+     * @throws IOException if the directory cannot be read or created.
+     * @throws IllegalArgumentException if fewer than one snapshot is kept.
+     */
+    public SnapshotStore(final Path theDirectory, final int theKeep) throws IOException {
+        if (theKeep <= 0) {
+            throw new IllegalArgumentException("The number of snapshots kept must be greater than 0, "
+                    + "current value is " + theKeep);
+        }
+        myDirectory = theDirectory;
+        myKeep = theKeep;
+        Files.createDirectories(theDirectory);
+        final List<Path> files = snapshots();
+        myNext = files.isEmpty() ? 1 : number(files.get(files.size() - 1)) + 1;
+    }
+
+    /**
+     * Writes a snapshot of the given tables and removes the oldest files beyond those kept.
+     *
+     * @param theSnapshots the state of each table.
+     * @return the snapshot file.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public synchronized Path write(final Collection<GameSnapshot> theSnapshots) throws IOException {
+        int size = HEADER_BYTES + theSnapshots.size() * GameSnapshot.RECORD_BYTES + Integer.BYTES;
+        for (final GameSnapshot snapshot : theSnapshots) {
+            size += snapshot.tableBetBytes();
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) GameSnapshot.RECORD_BYTES)
+                .putLong(System.currentTimeMillis())
+                .putInt(theSnapshots.size())
+                .putInt(0);
+        for (final GameSnapshot snapshot : theSnapshots) {
+            snapshot.writeTo(buffer);
+        }
+        for (final GameSnapshot snapshot : theSnapshots) {
+            snapshot.writeTableBetsTo(buffer);
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        final Path file = myDirectory.resolve(String.format("%s%016x%s", PREFIX, myNext++, SUFFIX));
+        final Path temp = myDirectory.resolve(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        final List<Path> files = snapshots();
+        for (int i = 0; i < files.size() - myKeep; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+        return file;
+    }
+
+    /**
+     * Reads the newest intact snapshot. A corrupt file is skipped in favor of an
+     * older one, but a file of another format version is never guessed at.
+     *
+     * @return the state of each table, empty if there is no snapshot.
+     * @throws IOException if a snapshot cannot be read or has an unsupported version.
+     */
+    public synchronized List<GameSnapshot> readLatest() throws IOException {
+        final List<Path> files = snapshots();
+        for (int i = files.size() - 1; i >= 0; i--) {
+            final List<GameSnapshot> snapshots = read(files.get(i));
+            if (snapshots != null) {
+                return snapshots;
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Reads one snapshot file.
+     *
+     * @param theFile the snapshot file.
+     * @return the state of each table, or null if the file is corrupt.
+     * @throws IOException if the file cannot be read or has an unsupported version.
+     */
+    static List<GameSnapshot> read(final Path theFile) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(theFile)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_BYTES + Integer.BYTES || buffer.getInt(0) != MAGIC) {
+            return null;
+        }
+        final short version = buffer.getShort(4);
+        if ((version != VERSION && version != CENTS_VERSION && version != LEGACY_VERSION)
+                || buffer.getShort(6) != GameSnapshot.RECORD_BYTES) {
+            throw new IOException("Unsupported snapshot version " + version + " in " + theFile
+                    + ", expected " + VERSION);
+        }
+        final int count = buffer.getInt(16);
+        final int end = buffer.limit() - Integer.BYTES;
+        final long records = HEADER_BYTES + (long) count * GameSnapshot.RECORD_BYTES;
+        if (count < 0 || (version == VERSION ? records > end : records != end)) {
+            return null;
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, end);
+        if ((int) crc.getValue() != buffer.getInt(end)) {
+            return null;
+        }
+        buffer.position(HEADER_BYTES).limit(end);
+        final List<GameSnapshot> snapshots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            snapshots.add(GameSnapshot.readFrom(buffer, version));
+        }
+        if (version == VERSION) {
+            try {
+                for (int i = 0; i < count; i++) {
+                    snapshots.set(i, snapshots.get(i).readTableBetsFrom(buffer));
+                }
+            } catch (final IllegalArgumentException | BufferUnderflowException e) {
+                return null;
+            }
+            if (buffer.hasRemaining()) {
+                return null;
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Lists the snapshot files, oldest first.
+     *
+     * @return the snapshot files.
+     * @throws IOException if the directory cannot be read.
+     */
+    private List<Path> snapshots() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(myDirectory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    /**
+     * Parses the number of a snapshot file.
+     *
+     * @param theFile the snapshot file.
+     * @return the number of the snapshot.
+     */
+    private static long number(final Path theFile) {
+        final String name = theFile.getFileName().toString();
+        return Long.parseUnsignedLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()), 16);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of many betting sessions: how many were ruined and the
+ * distributions of the final bank and of the session length.
+ * Both histograms have fixed width buckets whose last bucket is open ended.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class StrategyResult {
+    /**
+     * Number of buckets of each histogram, including the open ended one.
+     */
+    public static final int BUCKETS = 41;
+
+    /**
+     * Number of sessions played.
+     */
+    private long mySessions;
+
+    /**
+     * Number of sessions that ended with an empty bank.
+     */
+    private long myRuined;
+
+    /**
+     * Sum of the final banks.
+     */
+    private long myBankSum;
+
+    /**
+     * Sum of the session lengths in rounds.
+     */
+    private long myRoundSum;
+
+    /**
+     * Width of a final bank bucket.
+     */
+    private final long myBankWidth;
+
+    /**
+     * Width of a session length bucket in rounds.
+     */
+    private final long myLengthWidth;
+
+    /**
+     * Number of sessions by final bank.
+     */
+    private final long[] myBanks = new long[BUCKETS];
+
+    /**
+     * Number of sessions by length.
+     */
+    private final long[] myLengths = new long[BUCKETS];
+
+    /**
+     * Constructs an empty result.
+     *
+     * @param theBankWidth the width of a final bank bucket.
+     * @param theLengthWidth the width of a session length bucket.
+     */
+    StrategyResult(final long theBankWidth, final long theLengthWidth) {
+        myBankWidth = Math.max(1, theBankWidth);
+        myLengthWidth = Math.max(1, theLengthWidth);
+    }
+
+    /**
+     * Adds one session.
+     *
+     * @param theFinalBank the bank at the end of the session.
+     * @param theRounds the number of rounds played.
+     */
+    void add(final long theFinalBank, final long theRounds) {
+        mySessions++;
+        if (theFinalBank == 0) {
+            myRuined++;
+        }
+        myBankSum += theFinalBank;
+        myRoundSum += theRounds;
+        myBanks[(int) Math.min(BUCKETS - 1, theFinalBank / myBankWidth)]++;
+        myLengths[(int) Math.min(BUCKETS - 1, theRounds / myLengthWidth)]++;
+    }
+
+    /**
+     * Adds the sessions of another result with the same buckets.
+     *
+     * @param theOther the result to add.
+     * @return this result.
+     */
+    StrategyResult merge(final StrategyResult theOther) {
+        mySessions += theOther.mySessions;
+        myRuined += theOther.myRuined;
+        myBankSum += theOther.myBankSum;
+        myRoundSum += theOther.myRoundSum;
+        for (int i = 0; i < BUCKETS; i++) {
+            myBanks[i] += theOther.myBanks[i];
+            myLengths[i] += theOther.myLengths[i];
+        }
+        return this;
+    }
+
+    /**
+     * Retrieves the number of sessions played.
+     *
+     * @return the sessions.
+     */
+    public long getSessions() {
+        return mySessions;
+    }
+
+    /**
+     * Retrieves the number of sessions that ended with an empty bank.
+     *
+     * @return the ruined sessions.
+     */
+    public long getRuined() {
+        return myRuined;
+    }
+
+    /**
+     * Retrieves the fraction of sessions that ended with an empty bank.
+     *
+     * @return the ruin probability, or 0 if no session was played.
+     */
+    public double getRuinProbability() {
+        return mySessions == 0 ? 0 : (double) myRuined / mySessions;
+    }
+
+    /**
+     * Retrieves the mean bank at the end of a session.
+     *
+     * @return the mean final bank.
+     */
+    public double getMeanFinalBank() {
+        return mySessions == 0 ? 0 : (double) myBankSum / mySessions;
+    }
+
+    /**
+     * Retrieves the mean number of rounds per session.
+     *
+     * @return the mean session length.
+     */
+    public double getMeanRounds() {
+        return mySessions == 0 ? 0 : (double) myRoundSum / mySessions;
+    }
+
+    /**
+     * Retrieves the number of sessions per final bank bucket. Bucket i holds
+     * banks from i times the width, the last bucket holds every larger bank.
+     *
+     * @return a copy of the final bank histogram.
+     */
+    public long[] getBankHistogram() {
+        return myBanks.clone();
+    }
+
+    /**
+     * Retrieves the width of a final bank bucket.
+     *
+     * @return the bucket width.
+     */
+    public long getBankBucketWidth() {
+        return myBankWidth;
+    }
+
+    /**
+     * Retrieves the number of sessions per length bucket. Bucket i holds
+     * lengths from i times the width, the last bucket holds every longer session.
+     *
+     * @return a copy of the session length histogram.
+     */
+    public long[] getLengthHistogram() {
+        return myLengths.clone();
+    }
+
+    /**
+     * Retrieves the width of a session length bucket in rounds.
+     *
+     * @return the bucket width.
+     */
+    public long getLengthBucketWidth() {
+        return myLengthWidth;
+    }
+
+    @Override
+    public boolean equals(final Object theOther) {
+        if (this == theOther) {
+            return true;
+        }
+        if (!(theOther instanceof StrategyResult)) {
+            return false;
+        }
+        final StrategyResult other = (StrategyResult) theOther;
+        return mySessions == other.mySessions && myRuined == other.myRuined
+                && myBankSum == other.myBankSum && myRoundSum == other.myRoundSum
+                && Arrays.equals(myBanks, other.myBanks) && Arrays.equals(myLengths, other.myLengths);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(myBanks) + Arrays.hashCode(myLengths);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Sessions: %d, ruin: %.4f, mean final bank: %.2f, mean rounds: %.2f",
+                mySessions, getRuinProbability(), getMeanFinalBank(), getMeanRounds());
+    }
+}
\ No newline at end of file
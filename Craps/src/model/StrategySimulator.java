@@ -0,0 +1,205 @@
+package model;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plays many betting sessions of one strategy across all cores with fork/join.
+ * A session starts with a bank and plays pass line rounds until the bank is
+ * empty or a round limit is reached. Money moves as in {@link BankBetLogic}:
+ * placing a bet takes it from the bank, a win pays back twice the bet and a
+ * loss pays nothing. The sessions are cut into fixed-size chunks seeded with
+ * {@link ParallelSimulator#chunkSeed}, so a master seed gives the same result
+ * for any parallelism.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public class StrategySimulator implements AutoCloseable {
+    /**
+     * Number of sessions played by one chunk.
+     */
+    public static final long CHUNK_SESSIONS = 1 << 12;
+
+    /**
+     * Strategy deciding each bet.
+     */
+    private final BettingStrategy myStrategy;
+
+    /**
+     * Bank every session starts with.
+     */
+    private final int myStartBank;
+
+    /**
+     * Most rounds a session plays.
+     */
+    private final int myMaxRounds;
+
+    /**
+     * Pool that plays the chunks.
+     */
+    private final ForkJoinPool myPool;
+
+    /**
+     * Indicates if the pool was created by this simulator and must be shut down.
+     */
+    private final boolean myOwnsPool;
+
+    /**
+     * Constructs a simulator that uses the common fork/join pool.
+     *
+     * @param theStrategy the strategy deciding each bet.
+     * @param theStartBank the bank every session starts with.
+     * @param theMaxRounds the most rounds a session plays.
+     * @throws IllegalArgumentException if the bank or the round limit is not positive.
+     */
+    public StrategySimulator(final BettingStrategy theStrategy, final int theStartBank, final int theMaxRounds) {
+        this(checkSettings(theStrategy, theStartBank, theMaxRounds), theStartBank, theMaxRounds,
+                ForkJoinPool.commonPool(), false);
+    }
+
+    /**
+     * Constructs a simulator with its own pool of the given size.
+     *
+     * @param theStrategy the strategy deciding each bet.
+     * @param theStartBank the bank every session starts with.
+     * @param theMaxRounds the most rounds a session plays.
+     * @param theParallelism the number of worker threads.
+     * @throws IllegalArgumentException if the bank, the round limit or the parallelism is not positive.
+     */
+    public StrategySimulator(final BettingStrategy theStrategy, final int theStartBank, final int theMaxRounds,
+                             final int theParallelism) {
+        this(checkSettings(theStrategy, theStartBank, theMaxRounds), theStartBank, theMaxRounds,
+                ChunkedRun.newPool(theParallelism), true);
+    }
+
+    /**
+     * Constructs a simulator on the given pool.
+     *
+     * @param theStrategy the strategy deciding each bet, already checked.
+     * @param theStartBank the bank every session starts with, already checked.
+     * @param theMaxRounds the most rounds a session plays, already checked.
+     * @param thePool the pool that plays the chunks.
+     * @param theOwnsPool true if the pool is shut down on close.
+     */
+    private StrategySimulator(final BettingStrategy theStrategy, final int theStartBank, final int theMaxRounds,
+                              final ForkJoinPool thePool, final boolean theOwnsPool) {
+        myStrategy = theStrategy;
+        myStartBank = theStartBank;
+        myMaxRounds = theMaxRounds;
+        myPool = thePool;
+        myOwnsPool = theOwnsPool;
+    }
+
+    /**
+     * Checks the settings of a simulator, so bad ones are rejected before a pool is created for them.
+     *
+     * @param theStrategy the strategy deciding each bet.
+     * @param theStartBank the bank every session starts with.
+     * @param theMaxRounds the most rounds a session plays.
+     * @return the strategy.
+     * @throws IllegalArgumentException if the bank or the round limit is not positive.
+     */
+    private static BettingStrategy checkSettings(final BettingStrategy theStrategy, final int theStartBank,
+                                                 final int theMaxRounds) {
+        if (theStartBank <= 0) {
+            throw new IllegalArgumentException("The bank amount must be greater than 0, "
+                    + "current value is " + theStartBank);
+        }
+        if (theMaxRounds <= 0) {
+            throw new IllegalArgumentException("The round limit must be greater than 0, "
+                    + "current value is " + theMaxRounds);
+        }
+        return Objects.requireNonNull(theStrategy, "theStrategy");
+    }
+
+    /**
+     * Plays the given number of sessions across the pool.
+     *
+     * @param theSessions the number of sessions to play.
+     * @param theMasterSeed the seed every chunk seed is derived from.
+     * @return the merged results of all sessions.
+     * @throws IllegalArgumentException if the number of sessions is negative.
+     */
+    public StrategyResult run(final long theSessions, final long theMasterSeed) {
+        if (theSessions < 0) {
+            throw new IllegalArgumentException("The number of sessions must not be negative, "
+                    + "current value is " + theSessions);
+        }
+        return ChunkedRun.invoke(myPool, theSessions, CHUNK_SESSIONS, theMasterSeed,
+                this::playChunk, StrategyResult::merge, this::newResult);
+    }
+
+    /**
+     * Plays the sessions of one chunk on one dice stream.
+     *
+     * @param theSeed the seed of the chunk.
+     * @param theSessions the number of sessions in the chunk.
+     * @return the results of the chunk.
+     */
+    private StrategyResult playChunk(final long theSeed, final long theSessions) {
+        final DiceSource dice = DiceSource.bulk(theSeed);
+        final StrategyResult result = newResult();
+        for (long i = 0; i < theSessions; i++) {
+            playSession(dice, result);
+        }
+        return result;
+    }
+
+    /**
+     * Plays one session.
+     *
+     * @param theDice the dice of the session.
+     * @param theResult the result the session is added to.
+     */
+    void playSession(final DiceSource theDice, final StrategyResult theResult) {
+        long bank = myStartBank;
+        int lastBet = 0;
+        int streak = 0;
+        int rounds = 0;
+        while (bank > 0 && rounds < myMaxRounds) {
+            final int available = (int) Math.min(Integer.MAX_VALUE, bank);
+            final int bet = Math.max(1, Math.min(available, myStrategy.nextBet(available, lastBet, streak)));
+            bank -= bet;
+
+            int result;
+            int row = RollKernel.COME_OUT_ROW;
+            do {
+                result = RollKernel.resolveRow(row, theDice.nextTotal());
+                row = result & RollKernel.ROW_MASK;
+            } while (!RollKernel.isDecided(result));
+
+            if (RollKernel.isPlayerWin(result)) {
+                bank += 2L * bet;
+                streak = streak > 0 ? streak + 1 : 1;
+            } else {
+                streak = streak < 0 ? streak - 1 : -1;
+            }
+            lastBet = bet;
+            rounds++;
+        }
+        theResult.add(bank, rounds);
+    }
+
+    /**
+     * Creates an empty result with buckets scaled to the start bank and the round limit.
+     *
+     * @return the empty result.
+     */
+    private StrategyResult newResult() {
+        final int buckets = StrategyResult.BUCKETS - 1;
+        return new StrategyResult(Math.max(1, myStartBank / (buckets / 4)),
+                (myMaxRounds + buckets - 1) / buckets);
+    }
+
+    /**
+     * Shuts down the pool if this simulator created it.
+     */
+    @Override
+    public void close() {
+        if (myOwnsPool) {
+            myPool.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Creates, looks up and retires independent Craps tables.
+ * By default every table rolls with the shared stateless
+ * {@link DiceSource#threadLocal()} source, so a table costs no more
+ * than its game and bank state.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public class TableRegistry {
+    /**
+     * Open tables by identifier.
+     */
+    private final ConcurrentHashMap<Long, CrapsTable> myTables = new ConcurrentHashMap<>();
+
+    /**
+     * Identifier handed to the next table.
+     */
+    private final AtomicLong myNextId = new AtomicLong(1);
+
+    /**
+     * Supplies the dice source of each new table.
+     */
+    private final Supplier<DiceSource> myDice;
+
+    /**
+     * Constructs a registry whose tables share the thread local dice source.
+     */
+    public TableRegistry() {
+        this(DiceSource::threadLocal);
+    }
+
+    /**
+     * Constructs a registry with a dice source supplier.
+     *
+     * @param theDice supplies the dice source of each new table.
+     */
+    public TableRegistry(final Supplier<DiceSource> theDice) {
+        myDice = Objects.requireNonNull(theDice, "theDice");
+    }
+
+    /**
+     * Opens a new table.
+     *
+     * @return the new table.
+     */
+    public CrapsTable create() {
+        final CrapsTable table = new CrapsTable(myNextId.getAndIncrement(), myDice.get());
+        myTables.put(table.getId(), table);
+        return table;
+    }
+
+    /**
+     * Looks up an open table.
+     *
+     * @param theId the identifier of the table.
+     * @return the table, or null if no open table has the identifier.
+     */
+    public CrapsTable get(final long theId) {
+        return myTables.get(theId);
+    }
+
+    /**
+     * Retires a table so it can no longer be looked up.
+     *
+     * @param theId the identifier of the table.
+     * @return true if the table was open, false otherwise.
+     */
+    public boolean retire(final long theId) {
+        return myTables.remove(theId) != null;
+    }
+
+    /**
+     * Retrieves the number of open tables.
+     *
+     * @return the table count.
+     */
+    public int size() {
+        return myTables.size();
+    }
+
+    /**
+     * Retrieves a live view of the open tables.
+     *
+     * @return the open tables.
+     */
+    public Collection<CrapsTable> getTables() {
+        return Collections.unmodifiableCollection(myTables.values());
+    }
+
+    /**
+     * Captures the state of every open table.
+     * Tables must not be played while they are captured.
+     *
+     * @return one snapshot per open table.
+     */
+    public List<GameSnapshot> snapshot() {
+        final List<GameSnapshot> snapshots = new ArrayList<>(myTables.size());
+        for (final CrapsTable table : myTables.values()) {
+            snapshots.add(GameSnapshot.capture(table));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Opens a table for each snapshot under its original identifier,
+     * replacing any open table with the same identifier.
+     * New tables get identifiers after the restored ones.
+     *
+     * @param theSnapshots the tables to restore.
+     */
+    public void restore(final Collection<GameSnapshot> theSnapshots) {
+        for (final GameSnapshot snapshot : theSnapshots) {
+            final CrapsTable table = new CrapsTable(snapshot.getTableId(), myDice.get());
+            snapshot.restore(table.getCraps(), table.getBank());
+            myTables.put(table.getId(), table);
+            myNextId.accumulateAndGet(snapshot.getTableId() + 1, Math::max);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,349 @@
+package model;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Open wagers of many banks, possibly on many tables, settled together by a
+ * {@link BatchSettlement}. Like a {@link BetLayout} the wagers are kept as
+ * parallel columns, here of owners, table points, types, numbers and amounts
+ * in {@link Money} cents.
+ *
+ * <p>As with the bets of a {@link BetLayout}, a wager's stake is taken out of
+ * its owner's bank when it is added and paid back with any winnings when the
+ * wager is decided, so a bank never pays for a stake it no longer holds.
+ * The batch is not thread safe and the owners' banks must not change while
+ * it is settled.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class WagerBatch {
+    /**
+     * Number of wagers the columns hold before they first grow.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Index of each bank in the owner columns.
+     */
+    private final Map<BankBetLogic, Integer> myOwnerIndex;
+
+    /**
+     * Banks that own wagers, in the order they joined the batch.
+     */
+    private BankBetLogic[] myOwners;
+
+    /**
+     * Sum of the open wagers of each owner, in cents.
+     */
+    private long[] myStakes;
+
+    /**
+     * Number of owners.
+     */
+    private int myOwnerCount;
+
+    /**
+     * Index of the owner of each wager.
+     */
+    private int[] myWagerOwners;
+
+    /**
+     * Point of the table of each wager, 0 on the come out roll.
+     */
+    private byte[] myPoints;
+
+    /**
+     * Ordinal of the {@link BetType} of each wager.
+     */
+    private byte[] myTypes;
+
+    /**
+     * Number of each wager.
+     */
+    private byte[] myNumbers;
+
+    /**
+     * Amount of each wager, in cents.
+     */
+    private long[] myAmounts;
+
+    /**
+     * Number of open wagers.
+     */
+    private int mySize;
+
+    /**
+     * Constructs an empty batch.
+     */
+    public WagerBatch() {
+        myOwnerIndex = new IdentityHashMap<>();
+        myOwners = new BankBetLogic[INITIAL_CAPACITY];
+        myStakes = new long[INITIAL_CAPACITY];
+        myWagerOwners = new int[INITIAL_CAPACITY];
+        myPoints = new byte[INITIAL_CAPACITY];
+        myTypes = new byte[INITIAL_CAPACITY];
+        myNumbers = new byte[INITIAL_CAPACITY];
+        myAmounts = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds an open wager to the batch, taking its amount from the owner's bank.
+     *
+     * @param theOwner the bank the wager is settled against.
+     * @param theTablePoint the point of the wager's table, 0 on the come out roll.
+     * @param theType the type of the wager.
+     * @param theNumber the number of the wager, 0 for line and one roll bets.
+     * @param theCents the amount wagered in cents.
+     * @return the index of the new wager.
+     * @throws IllegalArgumentException if the table point is not a point number,
+     * the wager cannot be placed at this stage of the round, the number is not
+     * valid for the type, or the amount is not positive or the owner's bank
+     * cannot cover it.
+     */
+    public int add(final BankBetLogic theOwner, final int theTablePoint, final BetType theType,
+                   final int theNumber, final long theCents) {
+        Objects.requireNonNull(theOwner, "theOwner");
+        Objects.requireNonNull(theType, "theType");
+        if (theTablePoint != 0 && !BetType.PLACE.isValidNumber(theTablePoint)) {
+            throw new IllegalArgumentException("The table point must be 0 or a point number, "
+                    + "current value is " + theTablePoint);
+        }
+        if (!theType.isValidNumber(theNumber) || !theType.canPlace(theNumber, theTablePoint)) {
+            throw new IllegalArgumentException("A " + theType + " bet on " + theNumber
+                    + " cannot be placed now, current point is " + theTablePoint);
+        }
+        if (theCents <= 0) {
+            throw new IllegalArgumentException("The bet amount must be greater than 0, "
+                    + "current value is " + Money.format(theCents));
+        }
+        theOwner.takeStake(theCents);
+        final int owner = ownerOf(theOwner);
+        if (mySize == myAmounts.length) {
+            final int capacity = mySize * 2;
+            myWagerOwners = Arrays.copyOf(myWagerOwners, capacity);
+            myPoints = Arrays.copyOf(myPoints, capacity);
+            myTypes = Arrays.copyOf(myTypes, capacity);
+            myNumbers = Arrays.copyOf(myNumbers, capacity);
+            myAmounts = Arrays.copyOf(myAmounts, capacity);
+        }
+        myStakes[owner] = Money.add(myStakes[owner], theCents);
+        myWagerOwners[mySize] = owner;
+        myPoints[mySize] = (byte) theTablePoint;
+        myTypes[mySize] = (byte) theType.ordinal();
+        myNumbers[mySize] = (byte) theNumber;
+        myAmounts[mySize] = theCents;
+        return mySize++;
+    }
+
+    /**
+     * Retrieves the index of a bank in the owner columns, adding it if it is new.
+     *
+     * @param theOwner the bank.
+     * @return the owner index.
+     */
+    private int ownerOf(final BankBetLogic theOwner) {
+        final Integer index = myOwnerIndex.get(theOwner);
+        if (index != null) {
+            return index;
+        }
+        if (myOwnerCount == myOwners.length) {
+            myOwners = Arrays.copyOf(myOwners, myOwnerCount * 2);
+            myStakes = Arrays.copyOf(myStakes, myOwnerCount * 2);
+        }
+        myOwners[myOwnerCount] = theOwner;
+        myStakes[myOwnerCount] = 0;
+        myOwnerIndex.put(theOwner, myOwnerCount);
+        return myOwnerCount++;
+    }
+
+    /**
+     * Retrieves the number of open wagers.
+     *
+     * @return the number of wagers.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Checks if there are no open wagers.
+     *
+     * @return true if the batch is empty.
+     */
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /**
+     * Retrieves the owner of a wager.
+     *
+     * @param theIndex the index of the wager.
+     * @return the bank the wager is settled against.
+     */
+    public BankBetLogic getOwner(final int theIndex) {
+        return myOwners[myWagerOwners[Objects.checkIndex(theIndex, mySize)]];
+    }
+
+    /**
+     * Retrieves the table point of a wager.
+     *
+     * @param theIndex the index of the wager.
+     * @return the point of the wager's table, 0 on the come out roll.
+     */
+    public int getTablePoint(final int theIndex) {
+        return myPoints[Objects.checkIndex(theIndex, mySize)];
+    }
+
+    /**
+     * Retrieves the type of a wager.
+     *
+     * @param theIndex the index of the wager.
+     * @return the type of the wager.
+     */
+    public BetType getType(final int theIndex) {
+        return BetType.of(myTypes[Objects.checkIndex(theIndex, mySize)]);
+    }
+
+    /**
+     * Retrieves the number of a wager.
+     *
+     * @param theIndex the index of the wager.
+     * @return the number of the wager, 0 for a line bet without a point.
+     */
+    public int getNumber(final int theIndex) {
+        return myNumbers[Objects.checkIndex(theIndex, mySize)];
+    }
+
+    /**
+     * Retrieves the amount of a wager.
+     *
+     * @param theIndex the index of the wager.
+     * @return the amount wagered in cents.
+     */
+    public long getAmount(final int theIndex) {
+        return myAmounts[Objects.checkIndex(theIndex, mySize)];
+    }
+
+    /**
+     * Retrieves the sum of the open wagers of a bank.
+     *
+     * @param theOwner the bank.
+     * @return the amount wagered in cents, 0 if the bank has no wagers in the batch.
+     */
+    public long getStake(final BankBetLogic theOwner) {
+        final Integer index = myOwnerIndex.get(theOwner);
+        return index == null ? 0 : myStakes[index];
+    }
+
+    /**
+     * Takes every wager out of the batch, pays the open stakes back to their
+     * owners and forgets the owners.
+     */
+    public void clear() {
+        for (int owner = 0; owner < myOwnerCount; owner++) {
+            if (myStakes[owner] != 0) {
+                myOwners[owner].applySettlement(myStakes[owner]);
+            }
+        }
+        Arrays.fill(myOwners, 0, myOwnerCount, null);
+        myOwnerIndex.clear();
+        myOwnerCount = 0;
+        mySize = 0;
+    }
+
+    /**
+     * Retrieves the number of owners for the settlement engine.
+     *
+     * @return the number of owners.
+     */
+    int ownerCount() {
+        return myOwnerCount;
+    }
+
+    /**
+     * Retrieves an owner for the settlement engine.
+     *
+     * @param theOwner the owner index.
+     * @return the bank.
+     */
+    BankBetLogic owner(final int theOwner) {
+        return myOwners[theOwner];
+    }
+
+    /**
+     * Retrieves the stake column of the owners for the settlement engine.
+     *
+     * @return the stakes, valid up to {@link #ownerCount()}.
+     */
+    long[] stakes() {
+        return myStakes;
+    }
+
+    /**
+     * Retrieves the owner column for the settlement engine.
+     *
+     * @return the owner indices, valid up to {@link #size()}.
+     */
+    int[] owners() {
+        return myWagerOwners;
+    }
+
+    /**
+     * Retrieves the table point column for the settlement engine.
+     *
+     * @return the table points, valid up to {@link #size()}.
+     */
+    byte[] points() {
+        return myPoints;
+    }
+
+    /**
+     * Retrieves the type column for the settlement engine.
+     *
+     * @return the type ordinals, valid up to {@link #size()}.
+     */
+    byte[] types() {
+        return myTypes;
+    }
+
+    /**
+     * Retrieves the number column for the settlement engine.
+     *
+     * @return the numbers, valid up to {@link #size()}.
+     */
+    byte[] numbers() {
+        return myNumbers;
+    }
+
+    /**
+     * Retrieves the amount column for the settlement engine.
+     *
+     * @return the amounts, valid up to {@link #size()}.
+     */
+    long[] amounts() {
+        return myAmounts;
+    }
+
+    /**
+     * Shrinks the batch after the settlement engine compacted the columns.
+     *
+     * @param theSize the number of wagers left.
+     */
+    void truncate(final int theSize) {
+        mySize = theSize;
+    }
+
+    /**
+     * Generates a string of the size of the batch.
+     *
+     * @return a string representing the batch.
+     */
+    @Override
+    public String toString() {
+        return "Wagers: " + mySize + " of " + myOwnerCount + " banks";
+    }
+}
\ No newline at end of file
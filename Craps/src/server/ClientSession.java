@@ -0,0 +1,318 @@
+package server;
+
+import model.BankBetLogic;
+import model.CrapsLogic;
+import model.CrapsTable;
+import model.GameEvent;
+import model.GameEventListener;
+import model.Money;
+import model.TableRegistry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One connection to the {@link CrapsServer}, reading commands a line at a time
+ * and answering each with one line that starts with {@code OK} or {@code ERR}.
+ * The commands mirror the flows of the bank and roll panels:
+ * <ul>
+ * <li>{@code JOIN} opens a new table and {@code JOIN <id>} joins an existing one.</li>
+ * <li>{@code BANK <amount>} sets the bank, as the Set Bank button does.</li>
+ * <li>{@code BET <amount>} places the bet, as the bet field does.</li>
+ * <li>{@code ROLL} rolls the dice and answers with the dice, total, point,
+ * {@code ROLLING}, {@code WON} or {@code LOST} and the bank.</li>
+ * <li>{@code PLAYAGAIN} starts the next round, as the Play Again button does.</li>
+ * <li>{@code STATE} answers with the point, the wins, the bank, the bet and
+ * {@code ACTIVE} or {@code IDLE}.</li>
+ * <li>{@code SUBSCRIBE} streams every event of the table as
+ * {@code EVENT <type> <payload>} lines and {@code UNSUBSCRIBE} stops it.
+ * The payload of a dice roll is the dice, total and point, that of a bank or
+ * bet change is the amount, and any other payload is sent as is.</li>
+ * <li>{@code QUIT} answers {@code BYE} and closes the connection.</li>
+ * </ul>
+ * Amounts are answered as dollars, with cents only when there are any.
+ * <p>
+ * A table may be shared by several connections, so every operation on it
+ * holds the table's lock. Events are written by the thread that caused them,
+ * while it holds that lock, so a subscriber that stops reading slows the table.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+final class ClientSession implements Runnable, GameEventListener {
+    /**
+     * Connection to the client.
+     */
+    private final Socket mySocket;
+
+    /**
+     * Tables the client may open or join.
+     */
+    private final TableRegistry myRegistry;
+
+    /**
+     * Open connections of the server, which this one leaves when it closes.
+     */
+    private final Set<ClientSession> mySessions;
+
+    /**
+     * Writer of the answers and events, guarded by its own lock.
+     */
+    private Writer myOut;
+
+    /**
+     * Table joined by the client, null before the first join.
+     */
+    private CrapsTable myTable;
+
+    /**
+     * Indicates if the events of the table are streamed to the client.
+     */
+    private boolean mySubscribed;
+
+    /**
+     * Constructs a session for an accepted connection.
+     *
+     * @param theSocket the connection to the client.
+     * @param theRegistry the tables the client may open or join.
+     * @param theSessions the open connections of the server.
+     */
+    ClientSession(final Socket theSocket, final TableRegistry theRegistry, final Set<ClientSession> theSessions) {
+        mySocket = theSocket;
+        myRegistry = theRegistry;
+        mySessions = theSessions;
+    }
+
+    /**
+     * Serves commands until the client quits or the connection drops.
+     */
+    @Override
+    public void run() {
+        try (Socket socket = mySocket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            final Writer out = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            synchronized (this) {
+                myOut = out;
+            }
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                final String answer = handle(line);
+                send(answer == null ? "BYE" : answer);
+                if (answer == null) {
+                    break;
+                }
+            }
+        } catch (final IOException e) {
+            // the client went away; the session just ends
+        } finally {
+            unsubscribe();
+            mySessions.remove(this);
+        }
+    }
+
+    /**
+     * Carries out one command.
+     *
+     * @param theLine the command line.
+     * @return the answer, or null when the client quits.
+     */
+    String handle(final String theLine) {
+        final String[] words = theLine.trim().split("\\s+");
+        final String verb = words[0].toUpperCase(Locale.ROOT);
+        try {
+            switch (verb) {
+                case "JOIN":
+                    return join(words);
+                case "QUIT":
+                    return null;
+                default:
+                    break;
+            }
+            if (myTable == null) {
+                return "ERR Join a table first";
+            }
+            synchronized (myTable) {
+                return play(verb, words);
+            }
+        } catch (final IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    /**
+     * Opens a new table or joins an existing one, leaving the previous table.
+     *
+     * @param theWords the words of the command.
+     * @return the answer with the table identifier.
+     */
+    private String join(final String[] theWords) {
+        final CrapsTable table;
+        if (theWords.length == 1) {
+            table = myRegistry.create();
+        } else {
+            final long id = Long.parseLong(theWords[1]);
+            table = myRegistry.get(id);
+            if (table == null) {
+                return "ERR No table " + id;
+            }
+        }
+        unsubscribe();
+        myTable = table;
+        return "OK " + table.getId();
+    }
+
+    /**
+     * Carries out a command on the joined table, holding its lock.
+     *
+     * @param theVerb the command.
+     * @param theWords the words of the command.
+     * @return the answer.
+     */
+    private String play(final String theVerb, final String[] theWords) {
+        final CrapsLogic craps = myTable.getCraps();
+        final BankBetLogic bank = myTable.getBank();
+        switch (theVerb) {
+            case "BANK":
+                myTable.setBank(amount(theWords));
+                return "OK " + Money.format(bank.getBankCents());
+            case "BET":
+                myTable.placeBet(amount(theWords));
+                return "OK " + Money.format(bank.getBetCents());
+            case "ROLL":
+                if (!myTable.roll()) {
+                    return "ERR Set a bank and a bet during a round before rolling";
+                }
+                return "OK " + craps.getDice1() + " " + craps.getDice2() + " " + craps.getTotal()
+                        + " " + craps.getPoint() + " "
+                        + (craps.isGameActive() ? "ROLLING" : craps.getGameWon() ? "WON" : "LOST")
+                        + " " + Money.format(bank.getBankCents());
+            case "PLAYAGAIN":
+                return myTable.playAgain() ? "OK" : "ERR The round is in play or the bank is empty";
+            case "STATE":
+                return "OK " + craps.getPoint() + " " + craps.getPlayerWins() + " " + craps.getHouseWins()
+                        + " " + Money.format(bank.getBankCents()) + " " + Money.format(bank.getBetCents())
+                        + (craps.isGameActive() ? " ACTIVE" : " IDLE");
+            case "SUBSCRIBE":
+                if (!mySubscribed) {
+                    craps.getEventBus().subscribe(this, GameEvent.values());
+                    bank.getEventBus().subscribe(this, GameEvent.values());
+                    mySubscribed = true;
+                }
+                return "OK";
+            case "UNSUBSCRIBE":
+                unsubscribe();
+                return "OK";
+            default:
+                return "ERR Unknown command " + theWords[0];
+        }
+    }
+
+    /**
+     * Parses the amount of a bank or bet command.
+     *
+     * @param theWords the words of the command.
+     * @return the amount in whole dollars.
+     * @throws IllegalArgumentException if the amount is missing or not a number.
+     */
+    private static int amount(final String[] theWords) {
+        if (theWords.length != 2) {
+            throw new IllegalArgumentException("The command needs one amount, current value is "
+                    + (theWords.length - 1) + " arguments");
+        }
+        return Integer.parseInt(theWords[1]);
+    }
+
+    /**
+     * Stops streaming the events of the joined table.
+     */
+    private void unsubscribe() {
+        if (mySubscribed) {
+            myTable.getCraps().getEventBus().unsubscribe(this);
+            myTable.getBank().getEventBus().unsubscribe(this);
+            mySubscribed = false;
+        }
+    }
+
+    /**
+     * Streams an event of the joined table to the client.
+     * A failed write closes the connection instead of disturbing the table.
+     *
+     * @param theType the type of the event.
+     * @param thePayload the payload of the event.
+     */
+    @Override
+    public void onEvent(final GameEvent theType, final long thePayload) {
+        try {
+            send("EVENT " + theType + " " + payload(theType, thePayload));
+        } catch (final IOException e) {
+            close();
+        }
+    }
+
+    /**
+     * Formats the payload of an event the way the answers are formatted.
+     *
+     * @param theType the type of the event.
+     * @param thePayload the payload of the event.
+     * @return the payload as sent to the client.
+     */
+    static String payload(final GameEvent theType, final long thePayload) {
+        switch (theType) {
+            case DICE_ROLL:
+                return GameEvent.rollDie1(thePayload) + " " + GameEvent.rollDie2(thePayload) + " "
+                        + GameEvent.rollTotal(thePayload) + " " + GameEvent.rollPoint(thePayload);
+            case BANK_SET:
+            case BET:
+                return Money.format(thePayload);
+            default:
+                return Long.toString(thePayload);
+        }
+    }
+
+    /**
+     * Writes one line to the client.
+     *
+     * @param theLine the line without its terminator.
+     * @throws IOException if the line cannot be written.
+     */
+    private synchronized void send(final String theLine) throws IOException {
+        myOut.write(theLine);
+        myOut.write('\n');
+        myOut.flush();
+    }
+
+    /**
+     * Closes the connection, which ends the session.
+     */
+    void close() {
+        try {
+            mySocket.close();
+        } catch (final IOException e) {
+            // already closed
+        }
+    }
+
+    /**
+     * Generates a string of the remote address and the joined table.
+     *
+     * @return a string representing the session.
+     */
+    @Override
+    public String toString() {
+        return "Session " + mySocket.getRemoteSocketAddress()
+                + (myTable == null ? "" : ", table " + myTable.getId());
+    }
+}
\ No newline at end of file
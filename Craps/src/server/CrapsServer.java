@@ -0,0 +1,245 @@
+package server;
+
+import model.TableRegistry;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless Craps server that plays the tables of a {@link TableRegistry}
+ * over a line protocol on a TCP socket, without the Swing frame.
+ * <p>
+ * Each connection is served by its own thread. When the runtime offers
+ * virtual threads they are used, so one process can hold tens of thousands
+ * of idle and active players; otherwise the server falls back to a cached
+ * pool of platform threads. The commands are listed in {@link ClientSession}.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class CrapsServer implements AutoCloseable {
+    /**
+     * Port the server listens on when none is given.
+     */
+    public static final int DEFAULT_PORT = 7777;
+
+    /**
+     * Number of pending connections the socket queues before refusing more.
+     */
+    private static final int BACKLOG = 4096;
+
+    /**
+     * Milliseconds the accept loop waits after its first failed accept.
+     */
+    private static final long MIN_ACCEPT_BACKOFF_MS = 10;
+
+    /**
+     * Longest the accept loop waits between failed accepts, in milliseconds.
+     */
+    private static final long MAX_ACCEPT_BACKOFF_MS = 1_000;
+
+    /**
+     * Tables played by the connections.
+     */
+    private final TableRegistry myRegistry;
+
+    /**
+     * Connections being served.
+     */
+    private final Set<ClientSession> mySessions;
+
+    /**
+     * Threads serving the connections.
+     */
+    private final ExecutorService myExecutor;
+
+    /**
+     * Socket accepting connections.
+     */
+    private final ServerSocket myServerSocket;
+
+    /**
+     * Thread running the accept loop.
+     */
+    private final Thread myAcceptor;
+
+    /**
+     * Constructs a server for the given tables and starts listening on the
+     * loopback address.
+     *
+     * @param theRegistry the tables to play.
+     * @param thePort the port to listen on, 0 for any free port.
+     * @throws IOException if the socket cannot be bound.
+     */
+    public CrapsServer(final TableRegistry theRegistry, final int thePort) throws IOException {
+        this(theRegistry, new InetSocketAddress(InetAddress.getLoopbackAddress(), thePort));
+    }
+
+    /**
+     * Constructs a server for the given tables and starts listening.
+     *
+     * @param theRegistry the tables to play.
+     * @param theAddress the address to listen on.
+     * @throws IOException if the socket cannot be bound.
+     */
+    public CrapsServer(final TableRegistry theRegistry, final InetSocketAddress theAddress) throws IOException {
+        myRegistry = Objects.requireNonNull(theRegistry, "theRegistry");
+        mySessions = ConcurrentHashMap.newKeySet();
+        myServerSocket = new ServerSocket();
+        myServerSocket.setReuseAddress(true);
+        myServerSocket.bind(theAddress, BACKLOG);
+        myExecutor = newConnectionExecutor();
+        myAcceptor = new Thread(this::acceptLoop, "craps-accept-" + getPort());
+        myAcceptor.setDaemon(true);
+        myAcceptor.start();
+    }
+
+    /**
+     * Creates the executor that serves connections: one virtual thread per
+     * connection when the runtime has them, looked up reflectively so the
+     * server also runs on older runtimes, or a cached pool of daemon threads.
+     *
+     * @return the executor.
+     */
+    static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool(theTask -> {
+                final Thread thread = new Thread(theTask, "craps-session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Accepts connections until the server socket is closed.
+     * A failed accept, such as one caused by running out of file descriptors,
+     * is retried after a wait that doubles with every failure in a row, so a
+     * lasting error does not spin the thread.
+     */
+    private void acceptLoop() {
+        long backoff = 0;
+        while (!myServerSocket.isClosed()) {
+            final Socket socket;
+            try {
+                socket = myServerSocket.accept();
+            } catch (final IOException e) {
+                if (myServerSocket.isClosed()) {
+                    return;
+                }
+                backoff = Math.min(Math.max(backoff * 2, MIN_ACCEPT_BACKOFF_MS), MAX_ACCEPT_BACKOFF_MS);
+                try {
+                    Thread.sleep(backoff);
+                } catch (final InterruptedException ie) {
+                    return;
+                }
+                continue;
+            }
+            backoff = 0;
+            try {
+                socket.setTcpNoDelay(true);
+            } catch (final SocketException e) {
+                closeQuietly(socket);
+                continue;
+            }
+            final ClientSession session = new ClientSession(socket, myRegistry, mySessions);
+            mySessions.add(session);
+            myExecutor.execute(session);
+        }
+    }
+
+    /**
+     * Closes a connection that could not be served.
+     *
+     * @param theSocket the connection.
+     */
+    private static void closeQuietly(final Socket theSocket) {
+        try {
+            theSocket.close();
+        } catch (final IOException e) {
+            // already closed
+        }
+    }
+
+    /**
+     * Retrieves the port the server listens on.
+     *
+     * @return the local port.
+     */
+    public int getPort() {
+        return myServerSocket.getLocalPort();
+    }
+
+    /**
+     * Retrieves the tables played by the connections.
+     *
+     * @return the table registry.
+     */
+    public TableRegistry getRegistry() {
+        return myRegistry;
+    }
+
+    /**
+     * Retrieves the number of connections being served.
+     *
+     * @return the number of open connections.
+     */
+    public int getConnectionCount() {
+        return mySessions.size();
+    }
+
+    /**
+     * Stops accepting connections and closes every open one.
+     *
+     * @throws IOException if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        myServerSocket.close();
+        for (final ClientSession session : mySessions) {
+            session.close();
+        }
+        myExecutor.shutdown();
+        try {
+            myExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the server until the process is stopped.
+     *
+     * @param theArgs the port to listen on, {@link #DEFAULT_PORT} if none is given.
+     * @throws IOException if the socket cannot be bound.
+     * @throws InterruptedException if the main thread is interrupted.
+     */
+    public static void main(final String[] theArgs) throws IOException, InterruptedException {
+        final int port = theArgs.length > 0 ? Integer.parseInt(theArgs[0]) : DEFAULT_PORT;
+        final CrapsServer server = new CrapsServer(new TableRegistry(), port);
+        System.out.println("Craps server listening on port " + server.getPort());
+        server.myAcceptor.join();
+    }
+
+    /**
+     * Generates a string of the port and the open connections.
+     *
+     * @return a string representing the server.
+     */
+    @Override
+    public String toString() {
+        return "Craps server: port " + getPort() + ", " + getConnectionCount() + " connections";
+    }
+}
\ No newline at end of file
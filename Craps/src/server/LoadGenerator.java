@@ -0,0 +1,218 @@
+package server;
+
+import metrics.LatencyHistogram;
+import model.CrapsTable;
+import model.TableRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded load generator that plays many simulated players at once against
+ * in-process tables, to size hardware for a multi-player deployment.
+ * <p>
+ * Every player runs on its own thread, a virtual thread when the runtime has
+ * them, and sits at its own table of a shared {@link TableRegistry}. A player
+ * sets a bank, bets and rolls until the round is decided, then plays again,
+ * which places the same bet, refilling the bank whenever it runs short, with a
+ * random think time between actions. Placing a bet and each roll, which
+ * settles the bet when it decides the round, are timed into {@link LatencyHistogram}s.
+ * A player that fails stops, and the report counts it and keeps the first failure.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class LoadGenerator {
+    /**
+     * Bank each player sets, in dollars.
+     */
+    public static final int BANK = 1000;
+
+    /**
+     * Bet each player places, in dollars.
+     */
+    public static final int BET = 10;
+
+    /**
+     * Number of simulated players.
+     */
+    private final int myPlayers;
+
+    /**
+     * Number of rolls each player makes.
+     */
+    private final int myRolls;
+
+    /**
+     * Mean think time between actions, in nanoseconds.
+     */
+    private final long myThinkNanos;
+
+    /**
+     * Tables the players sit at.
+     */
+    private final TableRegistry myRegistry;
+
+    /**
+     * Constructs a load generator with its own tables.
+     *
+     * @param thePlayers the number of simulated players.
+     * @param theRolls the number of rolls each player makes.
+     * @param theThinkNanos the mean think time between actions in nanoseconds,
+     * drawn uniformly between 0 and twice the mean; 0 for none.
+     * @throws IllegalArgumentException if the players or rolls are not positive
+     * or the think time is negative.
+     */
+    public LoadGenerator(final int thePlayers, final int theRolls, final long theThinkNanos) {
+        this(thePlayers, theRolls, theThinkNanos, new TableRegistry());
+    }
+
+    /**
+     * Constructs a load generator.
+     *
+     * @param thePlayers the number of simulated players.
+     * @param theRolls the number of rolls each player makes.
+     * @param theThinkNanos the mean think time between actions in nanoseconds,
+     * drawn uniformly between 0 and twice the mean; 0 for none.
+     * @param theRegistry the registry the players' tables are created in.
+     * @throws IllegalArgumentException if the players or rolls are not positive
+     * or the think time is negative.
+     */
+    public LoadGenerator(final int thePlayers, final int theRolls, final long theThinkNanos,
+                         final TableRegistry theRegistry) {
+        if (thePlayers <= 0) {
+            throw new IllegalArgumentException("The number of players must be greater than 0, "
+                    + "current value is " + thePlayers);
+        }
+        if (theRolls <= 0) {
+            throw new IllegalArgumentException("The number of rolls must be greater than 0, "
+                    + "current value is " + theRolls);
+        }
+        if (theThinkNanos < 0) {
+            throw new IllegalArgumentException("The think time must not be negative, "
+                    + "current value is " + theThinkNanos);
+        }
+        myPlayers = thePlayers;
+        myRolls = theRolls;
+        myThinkNanos = theThinkNanos;
+        myRegistry = theRegistry;
+    }
+
+    /**
+     * Plays every player to the end and reports the throughput and latencies.
+     *
+     * @return the report of the run.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public LoadReport run() throws InterruptedException {
+        final LatencyHistogram bets = new LatencyHistogram();
+        final LatencyHistogram rolls = new LatencyHistogram();
+        final LongAdder failures = new LongAdder();
+        final AtomicReference<Exception> firstFailure = new AtomicReference<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(myPlayers);
+        final ExecutorService executor = CrapsServer.newConnectionExecutor();
+        try {
+            for (int i = 0; i < myPlayers; i++) {
+                final CrapsTable table = myRegistry.create();
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        play(table, bets, rolls);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failures.increment();
+                        firstFailure.compareAndSet(null, e);
+                    } catch (final RuntimeException e) {
+                        failures.increment();
+                        firstFailure.compareAndSet(null, e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            final long began = System.nanoTime();
+            start.countDown();
+            done.await();
+            return new LoadReport(myPlayers, failures.intValue(), firstFailure.get(),
+                    System.nanoTime() - began, bets, rolls);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays one player's rolls at its table.
+     *
+     * @param theTable the player's table.
+     * @param theBets the histogram of bet placements.
+     * @param theRolls the histogram of rolls.
+     * @throws InterruptedException if the player is interrupted while thinking.
+     */
+    private void play(final CrapsTable theTable, final LatencyHistogram theBets,
+                      final LatencyHistogram theRolls) throws InterruptedException {
+        theTable.setBank(BANK);
+        think();
+        long began = System.nanoTime();
+        theTable.placeBet(BET);
+        theBets.record(System.nanoTime() - began);
+        for (int roll = 0; roll < myRolls; roll++) {
+            if (!theTable.getCraps().isGameActive()) {
+                think();
+                began = System.nanoTime();
+                if (theTable.getBank().getBankAmount() < BET) {
+                    theTable.getCraps().softReset();
+                    theTable.setBank(BANK);
+                    theTable.placeBet(BET);
+                } else {
+                    theTable.playAgain();
+                }
+                theBets.record(System.nanoTime() - began);
+            }
+            think();
+            began = System.nanoTime();
+            theTable.roll();
+            theRolls.record(System.nanoTime() - began);
+        }
+    }
+
+    /**
+     * Waits a random think time.
+     *
+     * @throws InterruptedException if the player is interrupted.
+     */
+    private void think() throws InterruptedException {
+        if (myThinkNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(2 * myThinkNanos + 1));
+        }
+    }
+
+    /**
+     * Runs the load generator and prints its report.
+     *
+     * @param theArgs the number of players, the rolls per player and the mean
+     * think time in milliseconds, defaulting to 10000, 100 and 5.
+     * @throws InterruptedException if the main thread is interrupted.
+     */
+    public static void main(final String[] theArgs) throws InterruptedException {
+        final int players = theArgs.length > 0 ? Integer.parseInt(theArgs[0]) : 10_000;
+        final int rolls = theArgs.length > 1 ? Integer.parseInt(theArgs[1]) : 100;
+        final long think = TimeUnit.MILLISECONDS.toNanos(theArgs.length > 2 ? Long.parseLong(theArgs[2]) : 5);
+        System.out.println(new LoadGenerator(players, rolls, think).run());
+    }
+
+    /**
+     * Generates a string of the load configuration.
+     *
+     * @return a string representing the load generator.
+     */
+    @Override
+    public String toString() {
+        return "Load: " + myPlayers + " players, " + myRolls + " rolls, think "
+                + TimeUnit.NANOSECONDS.toMillis(myThinkNanos) + " ms";
+    }
+}
\ No newline at end of file
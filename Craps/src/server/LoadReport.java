@@ -0,0 +1,148 @@
+package server;
+
+import metrics.LatencyHistogram;
+
+/**
+ * Throughput and latencies measured by one run of the {@link LoadGenerator}.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class LoadReport {
+    /**
+     * Number of simulated players.
+     */
+    private final int myPlayers;
+
+    /**
+     * Number of players that stopped on an error.
+     */
+    private final int myFailures;
+
+    /**
+     * Error that stopped the first failed player, null if none failed.
+     */
+    private final Exception myFirstFailure;
+
+    /**
+     * Wall clock time of the run in nanoseconds.
+     */
+    private final long myElapsedNanos;
+
+    /**
+     * Latencies of placing a bet.
+     */
+    private final LatencyHistogram myBets;
+
+    /**
+     * Latencies of rolling and settling.
+     */
+    private final LatencyHistogram myRolls;
+
+    /**
+     * Constructs a report.
+     *
+     * @param thePlayers the number of simulated players.
+     * @param theFailures the number of players that stopped on an error.
+     * @param theFirstFailure the error that stopped the first failed player, null if none failed.
+     * @param theElapsedNanos the wall clock time of the run in nanoseconds.
+     * @param theBets the latencies of placing a bet.
+     * @param theRolls the latencies of rolling and settling.
+     */
+    LoadReport(final int thePlayers, final int theFailures, final Exception theFirstFailure,
+               final long theElapsedNanos, final LatencyHistogram theBets, final LatencyHistogram theRolls) {
+        myPlayers = thePlayers;
+        myFailures = theFailures;
+        myFirstFailure = theFirstFailure;
+        myElapsedNanos = theElapsedNanos;
+        myBets = theBets;
+        myRolls = theRolls;
+    }
+
+    /**
+     * Retrieves the number of simulated players.
+     *
+     * @return the number of players.
+     */
+    public int getPlayers() {
+        return myPlayers;
+    }
+
+    /**
+     * Retrieves the number of players that stopped on an error.
+     *
+     * @return the number of failed players.
+     */
+    public int getFailures() {
+        return myFailures;
+    }
+
+    /**
+     * Retrieves the error that stopped the first player to fail.
+     *
+     * @return the first failure, null if every player finished.
+     */
+    public Exception getFirstFailure() {
+        return myFirstFailure;
+    }
+
+    /**
+     * Retrieves the wall clock time of the run.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return myElapsedNanos;
+    }
+
+    /**
+     * Retrieves the latencies of placing a bet.
+     *
+     * @return the bet histogram.
+     */
+    public LatencyHistogram getBetLatency() {
+        return myBets;
+    }
+
+    /**
+     * Retrieves the latencies of rolling, including settling the bet when the roll decides the round.
+     *
+     * @return the roll histogram.
+     */
+    public LatencyHistogram getRollLatency() {
+        return myRolls;
+    }
+
+    /**
+     * Computes the number of rolls made per second over the run.
+     *
+     * @return the roll throughput.
+     */
+    public double getRollsPerSecond() {
+        return myElapsedNanos == 0 ? 0 : myRolls.getCount() * 1e9 / myElapsedNanos;
+    }
+
+    /**
+     * Computes the number of bets and rolls made per second over the run.
+     *
+     * @return the operation throughput.
+     */
+    public double getOperationsPerSecond() {
+        return myElapsedNanos == 0 ? 0 : (myBets.getCount() + myRolls.getCount()) * 1e9 / myElapsedNanos;
+    }
+
+    /**
+     * Generates a string of the throughput, the latency percentiles and the first failure.
+     *
+     * @return a string representing the report.
+     */
+    @Override
+    public String toString() {
+        final String report = String.format(
+                "%d players (%d failed) in %.2f s: %.0f rolls/s, %.0f ops/s%nbet:  %s%nroll: %s",
+                myPlayers, myFailures, myElapsedNanos / 1e9, getRollsPerSecond(), getOperationsPerSecond(),
+                myBets, myRolls);
+        return myFirstFailure == null ? report
+                : report + String.format("%nfirst failure: %s", myFirstFailure);
+    }
+}
\ No newline at end of file
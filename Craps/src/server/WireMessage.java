@@ -0,0 +1,206 @@
+package server;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable view of one message of the {@link WireProtocol}.
+ * Decoding overwrites the fields in place, so a client reads a whole stream
+ * into one instance without allocating. The message remembers the sequence
+ * number it expects next and reports how many messages were skipped.
+ * A message is not thread safe.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class WireMessage {
+    /**
+     * Sequence number expected of the next message.
+     */
+    private long myExpected;
+
+    /**
+     * Sequence number of the message.
+     */
+    private long mySequence;
+
+    /**
+     * Identifier of the table.
+     */
+    private long myTableId;
+
+    /**
+     * Kind of the message.
+     */
+    private int myKind;
+
+    /**
+     * First die of a roll.
+     */
+    private int myDie1;
+
+    /**
+     * Second die of a roll.
+     */
+    private int myDie2;
+
+    /**
+     * Point after a roll.
+     */
+    private int myPoint;
+
+    /**
+     * Outcome of a roll or 1 for an accepted bet.
+     */
+    private int myOutcome;
+
+    /**
+     * Bank or bet in cents.
+     */
+    private long myCents;
+
+    /**
+     * Decodes the message at the position of the buffer and advances it.
+     *
+     * @param theBuffer the buffer to read from.
+     * @return the number of messages missed since the last one decoded, 0 when
+     * none are missing.
+     * @throws BufferUnderflowException if the buffer has less than
+     * {@link WireProtocol#MESSAGE_BYTES} bytes left.
+     * @throws IllegalArgumentException if the buffer is not in network byte
+     * order, the kind is unknown or the sequence number goes backwards; the
+     * buffer is not advanced.
+     */
+    public long decode(final ByteBuffer theBuffer) {
+        WireProtocol.checkOrder(theBuffer);
+        if (theBuffer.remaining() < WireProtocol.MESSAGE_BYTES) {
+            throw new BufferUnderflowException();
+        }
+        final int at = theBuffer.position();
+        final long sequence = theBuffer.getLong(at);
+        final int header = theBuffer.getInt(at + 16);
+        final int kind = header >>> 24;
+        if (kind < WireProtocol.ROLL || kind > WireProtocol.BANK) {
+            throw new IllegalArgumentException("The message kind must be between " + WireProtocol.ROLL
+                    + " and " + WireProtocol.BANK + ", current value is " + kind);
+        }
+        if (sequence < myExpected) {
+            throw new IllegalArgumentException("The sequence number must be at least " + myExpected
+                    + ", current value is " + sequence);
+        }
+        mySequence = sequence;
+        myTableId = theBuffer.getLong(at + 8);
+        myKind = kind;
+        myDie1 = header >>> 16 & 0xFF;
+        myDie2 = header >>> 8 & 0xFF;
+        myPoint = header & 0xFF;
+        myOutcome = theBuffer.get(at + 20) & 0xFF;
+        myCents = theBuffer.getLong(at + 24);
+        theBuffer.position(at + WireProtocol.MESSAGE_BYTES);
+        final long missed = sequence - myExpected;
+        myExpected = sequence + 1;
+        return missed;
+    }
+
+    /**
+     * Retrieves the sequence number of the message.
+     *
+     * @return the sequence number.
+     */
+    public long getSequence() {
+        return mySequence;
+    }
+
+    /**
+     * Retrieves the identifier of the table.
+     *
+     * @return the table identifier.
+     */
+    public long getTableId() {
+        return myTableId;
+    }
+
+    /**
+     * Retrieves the kind of the message.
+     *
+     * @return {@link WireProtocol#ROLL}, {@link WireProtocol#BET} or {@link WireProtocol#BANK}.
+     */
+    public int getKind() {
+        return myKind;
+    }
+
+    /**
+     * Retrieves the first die of a roll.
+     *
+     * @return the first die, 0 unless a roll.
+     */
+    public int getDie1() {
+        return myDie1;
+    }
+
+    /**
+     * Retrieves the second die of a roll.
+     *
+     * @return the second die, 0 unless a roll.
+     */
+    public int getDie2() {
+        return myDie2;
+    }
+
+    /**
+     * Retrieves the total of a roll.
+     *
+     * @return the total of the dice, 0 unless a roll.
+     */
+    public int getTotal() {
+        return myDie1 + myDie2;
+    }
+
+    /**
+     * Retrieves the point after a roll.
+     *
+     * @return the point, 0 unless a roll.
+     */
+    public int getPoint() {
+        return myPoint;
+    }
+
+    /**
+     * Retrieves the outcome of a roll.
+     *
+     * @return {@link WireProtocol#ROLLING}, {@link WireProtocol#WON} or {@link WireProtocol#LOST}.
+     */
+    public int getOutcome() {
+        return myOutcome;
+    }
+
+    /**
+     * Checks if a bet was accepted.
+     *
+     * @return true if the bet acknowledgement accepted the bet.
+     */
+    public boolean isAccepted() {
+        return myKind == WireProtocol.BET && myOutcome == 1;
+    }
+
+    /**
+     * Retrieves the bank after a roll or bank update, or the bet of an acknowledgement.
+     *
+     * @return the amount in cents.
+     */
+    public long getCents() {
+        return myCents;
+    }
+
+    /**
+     * Generates a string of the decoded fields.
+     *
+     * @return a string representing the message.
+     */
+    @Override
+    public String toString() {
+        return "Message " + mySequence + ": kind " + myKind + ", table " + myTableId
+                + ", dice " + myDie1 + "/" + myDie2 + ", point " + myPoint
+                + ", outcome " + myOutcome + ", cents " + myCents;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package server;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Encoder of the compact binary protocol for table events leaving the JVM.
+ * <p>
+ * Every message is a fixed {@link #MESSAGE_BYTES} byte record in network
+ * byte order, written at the position of a caller's buffer so a connection can
+ * reuse one buffer for every message and nothing is allocated per message:
+ * <pre>
+ *  0  long  sequence number
+ *  8  long  table identifier
+ * 16  byte  kind: {@link #ROLL}, {@link #BET} or {@link #BANK}
+ * 17  byte  first die, 0 unless a roll
+ * 18  byte  second die, 0 unless a roll
+ * 19  byte  point after the roll, 0 unless a roll
+ * 20  byte  outcome of a roll or 1 if a bet was accepted
+ * 21  3 bytes reserved, 0
+ * 24  long  bank after a roll or bank update, or the bet, in cents
+ * </pre>
+ * Each encoder numbers its messages from 0 without gaps, so a {@link WireMessage}
+ * decoding the stream can tell how many messages it missed.
+ * The buffer must be in {@link ByteOrder#BIG_ENDIAN} order, the default of a
+ * {@link ByteBuffer}; a buffer in another order is rejected rather than changed.
+ * An encoder is not thread safe.
+ * <p>
+ * The protocol stands on its own for now; the line protocol of
+ * {@link ClientSession} does not use it.
+ *
+ * @author Peter Madin
+ * @version 0.0.1  October 18, 2026
+ */
+public final class WireProtocol {
+    /**
+     * Size of every message in bytes.
+     */
+    public static final int MESSAGE_BYTES = 32;
+
+    /**
+     * Kind of a roll result.
+     */
+    public static final int ROLL = 1;
+
+    /**
+     * Kind of a bet acknowledgement.
+     */
+    public static final int BET = 2;
+
+    /**
+     * Kind of a bankroll update.
+     */
+    public static final int BANK = 3;
+
+    /**
+     * Outcome of a roll that leaves the round in play.
+     */
+    public static final int ROLLING = 0;
+
+    /**
+     * Outcome of a roll that wins the round.
+     */
+    public static final int WON = 1;
+
+    /**
+     * Outcome of a roll that loses the round.
+     */
+    public static final int LOST = 2;
+
+    /**
+     * Sequence number of the next message.
+     */
+    private long myNextSequence;
+
+    /**
+     * Encodes a roll result.
+     *
+     * @param theBuffer the buffer to write to, at its position.
+     * @param theTableId the identifier of the table.
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     * @param thePoint the point after the roll.
+     * @param theOutcome {@link #ROLLING}, {@link #WON} or {@link #LOST}.
+     * @param theBankCents the bank after the roll, in cents.
+     * @throws BufferOverflowException if the buffer has less than
+     * {@link #MESSAGE_BYTES} bytes left.
+     * @throws IllegalArgumentException if the buffer is not in network byte order.
+     */
+    public void encodeRoll(final ByteBuffer theBuffer, final long theTableId, final int theDie1,
+                           final int theDie2, final int thePoint, final int theOutcome,
+                           final long theBankCents) {
+        write(theBuffer, theTableId, ROLL, theDie1, theDie2, thePoint, theOutcome, theBankCents);
+    }
+
+    /**
+     * Encodes a bet acknowledgement.
+     *
+     * @param theBuffer the buffer to write to, at its position.
+     * @param theTableId the identifier of the table.
+     * @param theAccepted true if the bet was placed.
+     * @param theBetCents the bet on the table, in cents.
+     * @throws BufferOverflowException if the buffer has less than
+     * {@link #MESSAGE_BYTES} bytes left.
+     * @throws IllegalArgumentException if the buffer is not in network byte order.
+     */
+    public void encodeBet(final ByteBuffer theBuffer, final long theTableId, final boolean theAccepted,
+                          final long theBetCents) {
+        write(theBuffer, theTableId, BET, 0, 0, 0, theAccepted ? 1 : 0, theBetCents);
+    }
+
+    /**
+     * Encodes a bankroll update.
+     *
+     * @param theBuffer the buffer to write to, at its position.
+     * @param theTableId the identifier of the table.
+     * @param theBankCents the bank, in cents.
+     * @throws BufferOverflowException if the buffer has less than
+     * {@link #MESSAGE_BYTES} bytes left.
+     * @throws IllegalArgumentException if the buffer is not in network byte order.
+     */
+    public void encodeBank(final ByteBuffer theBuffer, final long theTableId, final long theBankCents) {
+        write(theBuffer, theTableId, BANK, 0, 0, 0, 0, theBankCents);
+    }
+
+    /**
+     * Writes one message and advances the sequence.
+     *
+     * @param theBuffer the buffer to write to.
+     * @param theTableId the identifier of the table.
+     * @param theKind the kind of the message.
+     * @param theDie1 the first die.
+     * @param theDie2 the second die.
+     * @param thePoint the point.
+     * @param theOutcome the outcome.
+     * @param theCents the amount in cents.
+     */
+    private void write(final ByteBuffer theBuffer, final long theTableId, final int theKind,
+                       final int theDie1, final int theDie2, final int thePoint, final int theOutcome,
+                       final long theCents) {
+        checkOrder(theBuffer);
+        if (theBuffer.remaining() < MESSAGE_BYTES) {
+            throw new BufferOverflowException();
+        }
+        final int at = theBuffer.position();
+        theBuffer.putLong(at, myNextSequence)
+                .putLong(at + 8, theTableId)
+                .putInt(at + 16, theKind << 24 | (theDie1 & 0xFF) << 16 | (theDie2 & 0xFF) << 8
+                        | thePoint & 0xFF)
+                .putInt(at + 20, (theOutcome & 0xFF) << 24)
+                .putLong(at + 24, theCents)
+                .position(at + MESSAGE_BYTES);
+        myNextSequence++;
+    }
+
+    /**
+     * Checks that a buffer reads and writes in network byte order.
+     *
+     * @param theBuffer the buffer.
+     * @throws IllegalArgumentException if the buffer is not in big endian order.
+     */
+    static void checkOrder(final ByteBuffer theBuffer) {
+        if (theBuffer.order() != ByteOrder.BIG_ENDIAN) {
+            throw new IllegalArgumentException("The buffer must be in network byte order, "
+                    + "current value is " + theBuffer.order());
+        }
+    }
+
+    /**
+     * Retrieves the sequence number the next message will carry.
+     *
+     * @return the next sequence number.
+     */
+    public long getNextSequence() {
+        return myNextSequence;
+    }
+
+    /**
+     * Generates a string of the number of messages encoded.
+     *
+     * @return a string representing the encoder.
+     */
+    @Override
+    public String toString() {
+        return "Wire protocol: " + myNextSequence + " messages";
+    }
+}
\ No newline at end of file
@@ -28,6 +28,24 @@ class BankBetLogicTest {
         assertEquals(8000, myBank.getBankAmount());
     }
 
+    @Test
+    void adjustKeepsCents() {
+        myBank.setBankCents(1050);
+        myBank.adjustBet(5);
+        assertEquals(500, myBank.getBetCents());
+        assertEquals(550, myBank.getBankCents());
+        myBank.adjustBank(2);
+        assertEquals(350, myBank.getBankCents());
+    }
+
+    @Test
+    void allInKeepsCents() {
+        myBank.setBankCents(1050);
+        myBank.allIn();
+        assertEquals(0, myBank.getBankCents());
+        assertEquals(1050, myBank.getBetCents());
+    }
+
     @Test
     void resetBankAndBet() {
         myBank.resetBankAndBet();
@@ -0,0 +1,140 @@
+package tests;
+
+import model.BankBetLogic;
+import model.BatchSettlement;
+import model.BetType;
+import model.GameEvent;
+import model.Money;
+import model.WagerBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSettlementTest {
+    private BankBetLogic myAlice;
+    private BankBetLogic myBob;
+    private WagerBatch myBatch;
+    private BatchSettlement mySettlement;
+    private List<String> myEvents;
+
+    @BeforeEach
+    void setup() {
+        myAlice = new BankBetLogic();
+        myAlice.setBankAmount(100);
+        myBob = new BankBetLogic();
+        myBob.setBankAmount(200);
+        myBatch = new WagerBatch();
+        mySettlement = new BatchSettlement();
+        myEvents = new ArrayList<>();
+        myAlice.getEventBus().subscribe((type, payload) -> myEvents.add("alice " + type + "=" + payload),
+                GameEvent.BANK_SET);
+        myBob.getEventBus().subscribe((type, payload) -> myEvents.add("bob " + type + "=" + payload),
+                GameEvent.BANK_SET);
+    }
+
+    @Test
+    void testSettlesAcrossTablesWithOneEventPerOwner() {
+        myBatch.add(myAlice, 0, BetType.PASS, 0, Money.ofDollars(10));
+        myBatch.add(myAlice, 0, BetType.FIELD, 0, Money.ofDollars(5));
+        myBatch.add(myAlice, 6, BetType.PLACE, 6, Money.ofDollars(12));
+        myBatch.add(myBob, 8, BetType.ODDS, 8, Money.ofDollars(20));
+        myBatch.add(myBob, 4, BetType.LAY, 4, Money.ofDollars(40));
+        assertEquals(Money.ofDollars(73), myAlice.getBankCents());
+        assertEquals(Money.ofDollars(140), myBob.getBankCents());
+        myEvents.clear();
+
+        final long[] deltas = mySettlement.settle(myBatch, 3, 4);
+        assertEquals(5, mySettlement.getCount());
+        assertEquals(Money.ofDollars(10), deltas[0]);
+        assertEquals(Money.ofDollars(-5), deltas[1]);
+        assertEquals(Money.ofDollars(-12), deltas[2]);
+        assertEquals(Money.ofDollars(-20), deltas[3]);
+        assertEquals(Money.ofDollars(19), deltas[4]);
+
+        assertEquals(Money.ofDollars(93), myAlice.getBankCents());
+        assertEquals(Money.ofDollars(199), myBob.getBankCents());
+        assertEquals(List.of("alice BANK_SET=9300", "bob BANK_SET=19900"), myEvents);
+    }
+
+    @Test
+    void testStayingWagersMoveWithTheRoll() {
+        myBatch.add(myAlice, 0, BetType.PASS, 0, Money.ofDollars(10));
+        myBatch.add(myBob, 5, BetType.HARDWAY, 8, Money.ofDollars(1));
+        myEvents.clear();
+        mySettlement.settle(myBatch, 3, 3);
+        assertEquals(2, myBatch.size());
+        assertEquals(6, myBatch.getNumber(0));
+        assertEquals(6, myBatch.getTablePoint(0));
+        assertEquals(5, myBatch.getTablePoint(1));
+        assertEquals(Money.ofDollars(10), myBatch.getStake(myAlice));
+        assertTrue(myEvents.isEmpty());
+
+        final long[] deltas = mySettlement.settle(myBatch, 4, 4);
+        assertEquals(0, deltas[0]);
+        assertEquals(Money.ofDollars(9), deltas[1]);
+        assertEquals(1, myBatch.size());
+        assertEquals(List.of("bob BANK_SET=20900"), myEvents);
+    }
+
+    @Test
+    void testBufferIsReused() {
+        myBatch.add(myAlice, 0, BetType.ANY_SEVEN, 0, Money.ofDollars(1));
+        final long[] first = mySettlement.settle(myBatch, 1, 1);
+        myBatch.add(myAlice, 0, BetType.ANY_SEVEN, 0, Money.ofDollars(1));
+        assertSame(first, mySettlement.settle(myBatch, 2, 5));
+        assertEquals(Money.ofDollars(4), mySettlement.getDelta(0));
+        assertTrue(myBatch.isEmpty());
+        assertEquals(0, myBatch.getStake(myAlice));
+    }
+
+    @Test
+    void testCommissionInCents() {
+        myBatch.add(myBob, 5, BetType.BUY, 4, Money.ofDollars(10));
+        mySettlement.settle(myBatch, 2, 2);
+        assertEquals(Money.of(19, 50), mySettlement.getDelta(0));
+    }
+
+    @Test
+    void testStakesLeaveTheBank() {
+        myBatch.add(myAlice, 0, BetType.FIELD, 0, Money.ofDollars(60));
+        assertEquals(Money.ofDollars(40), myAlice.getBankCents());
+        assertThrows(IllegalArgumentException.class, () -> myAlice.setBetAmount(100));
+        mySettlement.settle(myBatch, 3, 4);
+        assertEquals(Money.ofDollars(40), myAlice.getBankCents());
+
+        myBatch.add(myAlice, 0, BetType.DONT_PASS, 0, Money.ofDollars(10));
+        mySettlement.settle(myBatch, 6, 6);
+        assertEquals(Money.ofDollars(40), myAlice.getBankCents());
+        assertEquals(Money.ofDollars(0), mySettlement.getDelta(0));
+    }
+
+    @Test
+    void testClearReturnsOpenStakes() {
+        myBatch.add(myAlice, 0, BetType.PASS, 0, Money.ofDollars(10));
+        myBatch.add(myBob, 6, BetType.PLACE, 6, Money.ofDollars(12));
+        myBatch.clear();
+        assertEquals(Money.ofDollars(100), myAlice.getBankCents());
+        assertEquals(Money.ofDollars(200), myBob.getBankCents());
+        assertTrue(myBatch.isEmpty());
+        assertEquals(0, myBatch.getStake(myAlice));
+    }
+
+    @Test
+    void testRejectsInvalidWagers() {
+        assertThrows(IllegalArgumentException.class,
+                () -> myBatch.add(myAlice, 7, BetType.FIELD, 0, Money.ofDollars(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> myBatch.add(myAlice, 0, BetType.COME, 0, Money.ofDollars(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> myBatch.add(myAlice, 0, BetType.FIELD, 0, 0));
+        myBatch.add(myAlice, 0, BetType.FIELD, 0, Money.ofDollars(60));
+        assertThrows(IllegalArgumentException.class,
+                () -> myBatch.add(myAlice, 0, BetType.FIELD, 0, Money.ofDollars(41)));
+        assertEquals(Money.ofDollars(40), myAlice.getBankCents());
+        assertThrows(IllegalArgumentException.class, () -> mySettlement.settle(myBatch, 0, 3));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,254 @@
+package tests;
+
+import model.BetLayout;
+import model.BetSettlement;
+import model.BetType;
+import model.CrapsTable;
+import model.Money;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BetSettlementTest {
+
+    /**
+     * Sums what a one roll bet of 36 returns over every pair of dice.
+     */
+    private static long returnOverAllRolls(BetType theType) {
+        long returned = 0;
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                BetLayout layout = new BetLayout();
+                layout.add(theType, 0, 36);
+                returned += BetSettlement.settle(layout, die1, die2, 0);
+                assertTrue(layout.isEmpty());
+            }
+        }
+        return returned;
+    }
+
+    @Test
+    void testOneRollHouseEdges() {
+        // 36 bets of 36 each; the shortfall from 1296 is 36 times the house edge in units
+        assertEquals(1296 - 36, returnOverAllRolls(BetType.FIELD));
+        assertEquals(1296 - 216, returnOverAllRolls(BetType.ANY_SEVEN));
+        assertEquals(1296 - 144, returnOverAllRolls(BetType.ANY_CRAPS));
+        assertEquals(1296 - 180, returnOverAllRolls(BetType.ACES));
+        assertEquals(1296 - 144, returnOverAllRolls(BetType.ACE_DEUCE));
+        assertEquals(1296 - 144, returnOverAllRolls(BetType.YO));
+        assertEquals(1296 - 180, returnOverAllRolls(BetType.BOXCARS));
+    }
+
+    @Test
+    void testLineBets() {
+        BetLayout layout = new BetLayout();
+        layout.add(BetType.PASS, 0, 10);
+        layout.add(BetType.DONT_PASS, 0, 10);
+        // boxcars loses the pass line and pushes the don't pass
+        assertEquals(10, BetSettlement.settle(layout, 6, 6, 0));
+        assertTrue(layout.isEmpty());
+
+        layout.add(BetType.PASS, 0, 10);
+        layout.add(BetType.DONT_PASS, 0, 10);
+        assertEquals(0, BetSettlement.settle(layout, 2, 3, 0));
+        assertEquals(5, layout.getNumber(0));
+        assertEquals(5, layout.getNumber(1));
+        assertEquals(20, BetSettlement.settle(layout, 1, 4, 5));
+        assertTrue(layout.isEmpty());
+
+        layout.add(BetType.DONT_COME, 0, 10);
+        assertEquals(20, BetSettlement.settle(layout, 1, 2, 6));
+    }
+
+    @Test
+    void testComeBetTravelsToItsPoint() {
+        BetLayout layout = new BetLayout();
+        layout.add(BetType.COME, 0, 10);
+        assertEquals(0, BetSettlement.settle(layout, 4, 5, 6));
+        assertEquals(9, layout.getNumber(0));
+        layout.add(BetType.COME_ODDS, 9, 20);
+        assertEquals(0, BetSettlement.settle(layout, 2, 2, 6));
+        assertEquals(2, layout.size());
+        // 10 back with 10 won, odds of 20 paid 3:2
+        assertEquals(20 + 50, BetSettlement.settle(layout, 5, 4, 6));
+        assertTrue(layout.isEmpty());
+    }
+
+    @Test
+    void testComeOddsAreOffOnTheComeOut() {
+        BetLayout layout = new BetLayout();
+        layout.add(BetType.COME, 0, 10);
+        BetSettlement.settle(layout, 2, 2, 8);
+        layout.add(BetType.COME_ODDS, 4, 10);
+        assertEquals(10, BetSettlement.settle(layout, 3, 4, 0));
+        assertTrue(layout.isEmpty());
+    }
+
+    @Test
+    void testPlaceAndBuy() {
+        BetLayout layout = new BetLayout();
+        layout.add(BetType.PLACE, 6, 6);
+        layout.add(BetType.BUY, 4, 20);
+        assertEquals(0, BetSettlement.settle(layout, 3, 3, 0));
+        assertEquals(2, layout.size());
+        assertEquals(6 + 7, BetSettlement.settle(layout, 2, 4, 5));
+        // 2:1 on 20 less a 1 commission
+        assertEquals(20 + 39, BetSettlement.settle(layout, 1, 3, 5));
+        assertTrue(layout.isEmpty());
+    }
+
+    @Test
+    void testLayAndLayOdds() {
+        BetLayout layout = new BetLayout();
+        layout.add(BetType.LAY, 4, 40);
+        layout.add(BetType.LAY_ODDS, 6, 12);
+        // 1:2 on 40 less 5% of the win, and 5:6 on 12
+        assertEquals(40 + 19 + 12 + 10, BetSettlement.settle(layout, 3, 4, 6));
+        layout.add(BetType.LAY, 10, 40);
+        assertEquals(0, BetSettlement.settle(layout, 5, 5, 6));
+        assertTrue(layout.isEmpty());
+    }
+
+    @Test
+    void testHardways() {
+        BetLayout layout = new BetLayout();
+        layout.add(BetType.HARDWAY, 8, 10);
+        layout.add(BetType.HARDWAY, 6, 10);
+        layout.add(BetType.HARDWAY, 4, 10);
+        assertEquals(0, BetSettlement.settle(layout, 4, 4, 0));
+        assertEquals(3, layout.size());
+        assertEquals(100, BetSettlement.settle(layout, 4, 4, 5));
+        assertEquals(0, BetSettlement.settle(layout, 2, 4, 5));
+        assertEquals(80, BetSettlement.settle(layout, 2, 2, 5));
+        assertTrue(layout.isEmpty());
+    }
+
+    @Test
+    void testSettlementKeepsOrder() {
+        BetLayout layout = new BetLayout();
+        for (int i = 0; i < 40; i++) {
+            layout.add(i % 2 == 0 ? BetType.FIELD : BetType.PLACE, i % 2 == 0 ? 0 : 8, i + 1);
+        }
+        assertEquals(820, layout.getTotalAmount());
+        BetSettlement.settle(layout, 3, 3, 4);
+        assertEquals(20, layout.size());
+        for (int i = 0; i < layout.size(); i++) {
+            assertEquals(2 * i + 2, layout.getAmount(i));
+        }
+    }
+
+    @Test
+    void testPayoutsKeepCents() {
+        BetLayout layout = new BetLayout();
+        layout.add(BetType.PLACE, 6, Money.ofDollars(5));
+        layout.add(BetType.PLACE, 5, Money.of(2, 50));
+        // place 6 pays 7:6 on $5, $5.83; place 5 is not decided
+        assertEquals(500 + 583, BetSettlement.settle(layout, 3, 3, 4));
+        assertEquals("Bets: PLACE 5 $2.50", layout.toString());
+    }
+
+    @Test
+    void testInvalidBets() {
+        BetLayout layout = new BetLayout();
+        assertThrows(IllegalArgumentException.class, () -> layout.add(BetType.PLACE, 7, 10));
+        assertThrows(IllegalArgumentException.class, () -> layout.add(BetType.HARDWAY, 5, 10));
+        assertThrows(IllegalArgumentException.class, () -> layout.add(BetType.FIELD, 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> layout.add(BetType.PASS, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> BetSettlement.settle(layout, 0, 3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> layout.getAmount(0));
+        assertThrows(IllegalArgumentException.class,
+            () -> layout.add(BetLayout.MAX_SEAT + 1, BetType.FIELD, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> BetSettlement.settle(layout, 1, 2, 0, new long[BetLayout.MAX_SEAT]));
+    }
+
+    @Test
+    void testBankSettlesTableBets() {
+        int[] faces = {1, 1, 3, 3};
+        int[] next = {0};
+        CrapsTable table = new CrapsTable(1, () -> faces[next[0]++]);
+        table.setBank(100);
+        table.getBank().placeTableBet(BetType.FIELD, 0, 10);
+        table.getBank().placeTableBet(BetType.PLACE, 6, 6);
+        assertEquals(84, table.getBank().getBankAmount());
+        assertThrows(IllegalArgumentException.class,
+            () -> table.getBank().placeTableBet(BetType.COME, 0, 5));
+        assertThrows(IllegalArgumentException.class,
+            () -> table.getBank().placeTableBet(BetType.ANY_SEVEN, 0, 85));
+
+        // aces: field pays 2:1, place 6 is off on the come out
+        table.getCraps().roll();
+        assertEquals(84 + 30, table.getBank().getBankAmount());
+        assertEquals(1, table.getBank().getTableBets().size());
+
+        table.getCraps().softReset();
+        table.getCraps().roll();
+        assertEquals(6, table.getCraps().getPoint());
+        assertEquals(1, table.getBank().getTableBets().size());
+    }
+
+    @Test
+    void testBrokeBankTakesDownOpenBets() {
+        int[] faces = {1, 1, 2, 2};
+        int[] next = {0};
+        CrapsTable table = new CrapsTable(1, () -> faces[next[0]++]);
+        table.setBank(100);
+        table.placeBet(40);
+        table.getBank().placeTableBet(BetType.PLACE, 6, 60);
+        assertEquals(0, table.getBank().getBankCents());
+
+        // craps on the come out loses the bet and leaves the place bet on the table
+        assertTrue(table.roll());
+        assertFalse(table.getCraps().isGameActive());
+        assertTrue(table.getBank().getTableBets().isEmpty());
+        assertEquals(Money.ofDollars(60), table.getBank().getBankCents());
+        assertTrue(table.playAgain());
+        assertTrue(table.roll());
+        assertEquals(4, table.getCraps().getPoint());
+    }
+
+    @Test
+    void testBankUnderOneDollarIsNotBroke() {
+        int[] faces = {1, 1};
+        int[] next = {0};
+        CrapsTable table = new CrapsTable(1, () -> faces[next[0]++]);
+        table.getBank().setBankCents(1050);
+        table.placeBet(10);
+        assertTrue(table.roll());
+        assertFalse(table.getCraps().isGameActive());
+        assertEquals(50, table.getBank().getBankCents());
+        assertFalse(table.getCraps().checkBankBalance());
+        assertEquals(50, table.getBank().getBankCents());
+    }
+
+    @Test
+    void testOddsNeedLineBetAndOpenRound() {
+        int[] faces = {3, 3, 3, 3, 2, 2};
+        int[] next = {0};
+        CrapsTable table = new CrapsTable(1, () -> faces[next[0]++]);
+        table.setBank(100);
+        table.getCraps().roll();
+        assertEquals(6, table.getCraps().getPoint());
+        assertThrows(IllegalArgumentException.class,
+            () -> table.getBank().placeTableBet(BetType.ODDS, 6, 10));
+        table.getBank().placeTableBet(BetType.COME, 0, 10);
+
+        // the point is made, the round is over and nothing is taken until the next one
+        table.getCraps().roll();
+        assertFalse(table.getCraps().isGameActive());
+        assertThrows(IllegalArgumentException.class,
+            () -> table.getBank().placeTableBet(BetType.FIELD, 0, 10));
+
+        table.getCraps().softReset();
+        table.getCraps().roll();
+        assertEquals(4, table.getCraps().getPoint());
+        assertThrows(IllegalArgumentException.class,
+            () -> table.getBank().placeTableBet(BetType.ODDS, 4, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> table.getBank().placeTableBet(BetType.LAY_ODDS, 4, 10));
+        table.getBank().placeTableBet(BetType.COME_ODDS, 6, 10);
+        table.getBank().setBetAmount(10);
+        table.getBank().placeTableBet(BetType.ODDS, 4, 10);
+        assertEquals(3, table.getBank().getTableBets().size());
+    }
+}
\ No newline at end of file
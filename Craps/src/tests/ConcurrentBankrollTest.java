@@ -0,0 +1,114 @@
+package tests;
+
+import model.ConcurrentBankroll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentBankrollTest {
+    private ConcurrentBankroll myBank;
+
+    @BeforeEach
+    void setup() {
+        myBank = new ConcurrentBankroll();
+        myBank.setBankAmount(10000);
+    }
+
+    @Test
+    void adjustBet() {
+        myBank.adjustBet(100);
+        assertEquals(100, myBank.getBetAmount());
+        assertEquals(9900, myBank.getBankAmount());
+    }
+
+    @Test
+    void adjustBetMoreThanBank() {
+        assertThrows(IllegalArgumentException.class, () -> myBank.adjustBet(10001));
+        assertThrows(IllegalArgumentException.class, () -> myBank.adjustBet(0));
+        assertEquals(10000, myBank.getBankAmount());
+    }
+
+    @Test
+    void settleWin() {
+        myBank.adjustBet(100);
+        assertEquals(100, myBank.settle(true));
+        assertEquals(10100, myBank.getBankAmount());
+        assertEquals(0, myBank.getBetAmount());
+    }
+
+    @Test
+    void settleLoss() {
+        myBank.adjustBet(100);
+        assertEquals(100, myBank.settle(false));
+        assertEquals(9900, myBank.getBankAmount());
+    }
+
+    @Test
+    void allInAndCancel() {
+        myBank.adjustBet(100);
+        assertEquals(9900, myBank.allIn());
+        assertEquals(0, myBank.getBankAmount());
+        assertEquals(10000, myBank.getBetAmount());
+        assertEquals(10000, myBank.cancelBet());
+        assertEquals(10000, myBank.getBankAmount());
+    }
+
+    @Test
+    void setBankAmountNegativeOrZero() {
+        assertThrows(IllegalArgumentException.class, () -> myBank.setBankAmount(0));
+        assertThrows(IllegalArgumentException.class, () -> myBank.setBankAmount(-5));
+    }
+
+    @Test
+    void concurrentWritersConserveMoney() throws Exception {
+        final int threads = 8;
+        final int operations = 200000;
+        final ConcurrentBankroll bank = new ConcurrentBankroll();
+        bank.setBankAmount(1_000_000);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Future<?>[] flows = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            final long seed = t;
+            flows[t] = pool.submit(() -> {
+                // money paid in by the house minus money lost to it
+                long houseFlow = 0;
+                final SplittableRandom random = new SplittableRandom(seed);
+                start.await();
+                for (int i = 0; i < operations; i++) {
+                    final int op = random.nextInt(10);
+                    try {
+                        if (op < 6) {
+                            bank.adjustBet(1 + random.nextInt(20));
+                        } else if (op < 9) {
+                            final boolean won = random.nextBoolean();
+                            final int settled = bank.settle(won);
+                            houseFlow += won ? settled : -settled;
+                        } else {
+                            bank.cancelBet();
+                        }
+                    } catch (final IllegalArgumentException e) {
+                        // not enough in the bank for this bet
+                    }
+                }
+                return houseFlow;
+            });
+        }
+        start.countDown();
+        long houseFlow = 0;
+        for (Future<?> flow : flows) {
+            houseFlow += (Long) flow.get();
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1_000_000 + houseFlow, bank.getTotal());
+    }
+}
\ No newline at end of file
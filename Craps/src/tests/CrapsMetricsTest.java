@@ -0,0 +1,76 @@
+package tests;
+
+import metrics.CrapsMetrics;
+import model.CrapsTable;
+import model.TableRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class CrapsMetricsTest {
+    @Test
+    void testRecordsCountsAndLatencies() {
+        final CrapsMetrics metrics = new CrapsMetrics();
+        metrics.recordRoll();
+        metrics.recordRoll();
+        metrics.recordDecision();
+        metrics.recordBet();
+        metrics.recordSettlement();
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordEvent();
+            metrics.recordDispatch(i);
+            metrics.recordHandler(1000 * i);
+        }
+        metrics.recordPropertyChange(250);
+        assertEquals(2, metrics.getRolls());
+        assertEquals(1, metrics.getDecisions());
+        assertEquals(1, metrics.getBets());
+        assertEquals(1, metrics.getSettlements());
+        assertEquals(100, metrics.getEvents());
+        assertEquals(50, metrics.getDispatchP50Nanos());
+        assertEquals(99, metrics.getDispatchP99Nanos());
+        assertEquals(100, metrics.getDispatchP999Nanos());
+        assertEquals(99_000, metrics.getHandlerP99Nanos(), 99_000 / 64.0);
+        assertEquals(250, metrics.getPropertyChangeP50Nanos(), 250 / 64.0);
+        assertTrue(metrics.getRollsPerSecond() > 0);
+
+        metrics.reset();
+        assertEquals(0, metrics.getRolls());
+        assertEquals(0, metrics.getEvents());
+        assertEquals(0, metrics.getHandlerP999Nanos());
+    }
+
+    @Test
+    void testDisabledHotPathsRecordNothing() {
+        assumeFalse(CrapsMetrics.ENABLED, "metrics are enabled by craps.metrics");
+        final CrapsTable table = new TableRegistry().create();
+        table.setBank(100);
+        table.placeBet(10);
+        table.roll();
+        assertEquals(0, CrapsMetrics.start());
+        assertEquals(0, CrapsMetrics.getGlobal().getRolls());
+        assertEquals(0, CrapsMetrics.getGlobal().getBets());
+        assertEquals(0, CrapsMetrics.getGlobal().getEvents());
+    }
+
+    @Test
+    void testPublishedOverJmx() throws Exception {
+        assertTrue(CrapsMetrics.register());
+        assertTrue(CrapsMetrics.register());
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(CrapsMetrics.OBJECT_NAME);
+        try {
+            assertEquals(CrapsMetrics.ENABLED, server.getAttribute(name, "Enabled"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "Rolls"));
+            assertEquals(0L, server.getAttribute(name, "DispatchP999Nanos"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package tests;
+
+import model.CrapsOdds;
+import model.Fraction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrapsOddsTest {
+    private final CrapsOdds myOdds = CrapsOdds.getInstance();
+
+    @Test
+    void passLineOdds() {
+        assertEquals(Fraction.of(244, 495), myOdds.getPlayerWinProbability());
+        assertEquals(Fraction.of(251, 495), myOdds.getHouseWinProbability());
+        assertEquals(Fraction.of(7, 495), myOdds.getHouseEdge());
+        assertEquals(Fraction.of(557, 165), myOdds.getExpectedRolls());
+    }
+
+    @Test
+    void pointOdds() {
+        final int[] points = {4, 5, 6, 8, 9, 10};
+        final int[] ways = {3, 4, 5, 5, 4, 3};
+        for (int i = 0; i < points.length; i++) {
+            assertEquals(Fraction.of(ways[i], ways[i] + 6), myOdds.getPointConversion(points[i]));
+            assertEquals(Fraction.of(ways[i], 36), myOdds.getPointEstablished(points[i]));
+            assertEquals(Fraction.of(36, ways[i] + 6), myOdds.getExpectedRolls(points[i]));
+        }
+        assertThrows(IllegalArgumentException.class, () -> myOdds.getPointConversion(7));
+        assertThrows(IllegalArgumentException.class, () -> myOdds.getPointConversion(0));
+    }
+
+    @Test
+    void memoized() {
+        assertSame(myOdds, CrapsOdds.getInstance());
+        assertSame(myOdds.getPlayerWinProbability(), CrapsOdds.getInstance().getPlayerWinProbability());
+    }
+
+    @Test
+    void fractionArithmetic() {
+        final Fraction half = Fraction.of(2, 4);
+        assertEquals(Fraction.of(1, 2), half);
+        assertEquals("1/2", half.toString());
+        assertEquals(Fraction.of(-1, 3), Fraction.of(1, -3));
+        assertEquals(Fraction.ONE, half.add(half));
+        assertEquals(Fraction.of(1, 6), half.multiply(Fraction.of(1, 3)));
+        assertEquals(Fraction.of(3, 2), half.divide(Fraction.of(1, 3)));
+        assertEquals(Fraction.of(1, 6), half.subtract(Fraction.of(1, 3)));
+        assertTrue(Fraction.of(1, 3).compareTo(half) < 0);
+        assertEquals(0.5, half.doubleValue());
+        assertThrows(ArithmeticException.class, () -> Fraction.of(1, 0));
+    }
+}
\ No newline at end of file
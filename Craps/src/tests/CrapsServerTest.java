@@ -0,0 +1,137 @@
+package tests;
+
+import model.TableRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import server.CrapsServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrapsServerTest {
+    private CrapsServer myServer;
+
+    @AfterEach
+    void cleanup() throws IOException {
+        if (myServer != null) {
+            myServer.close();
+        }
+    }
+
+    private static final class Client implements AutoCloseable {
+        private final Socket mySocket;
+        private final BufferedReader myIn;
+        private final PrintWriter myOut;
+
+        Client(final int thePort) throws IOException {
+            mySocket = new Socket(InetAddress.getLoopbackAddress(), thePort);
+            mySocket.setSoTimeout(10_000);
+            myIn = new BufferedReader(new InputStreamReader(mySocket.getInputStream(), StandardCharsets.UTF_8));
+            myOut = new PrintWriter(new OutputStreamWriter(mySocket.getOutputStream(), StandardCharsets.UTF_8), true);
+        }
+
+        String send(final String theLine) throws IOException {
+            myOut.println(theLine);
+            return myIn.readLine();
+        }
+
+        String read() throws IOException {
+            return myIn.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            mySocket.close();
+        }
+    }
+
+    @Test
+    void testPlayRoundOverLoopback() throws IOException {
+        final int[] faces = {3, 4};
+        final int[] next = {0};
+        myServer = new CrapsServer(new TableRegistry(() -> () -> faces[next[0]++ % 2]), 0);
+        try (Client client = new Client(myServer.getPort())) {
+            assertEquals("OK 1", client.send("JOIN"));
+            assertEquals("OK 100", client.send("BANK 100"));
+            assertEquals("OK 10", client.send("bet 10"));
+            assertEquals("OK 3 4 7 0 WON 110", client.send("ROLL"));
+            assertTrue(client.send("ROLL").startsWith("ERR"));
+            assertEquals("OK", client.send("PLAYAGAIN"));
+            assertEquals("OK 0 1 0 100 10 ACTIVE", client.send("STATE"));
+            assertEquals("BYE", client.send("QUIT"));
+            assertNull(client.read());
+        }
+    }
+
+    @Test
+    void testSubscriberSeesOtherPlayer() throws IOException {
+        myServer = new CrapsServer(new TableRegistry(), 0);
+        try (Client player = new Client(myServer.getPort());
+             Client watcher = new Client(myServer.getPort())) {
+            final String joined = player.send("JOIN");
+            assertEquals("OK", watcher.send("JOIN " + joined.substring(3)).substring(0, 2));
+            assertEquals("OK", watcher.send("SUBSCRIBE"));
+            assertEquals("OK 250", player.send("BANK 250"));
+            assertEquals("EVENT BANK_SET 250", watcher.read());
+            assertEquals("OK 5", player.send("BET 5"));
+            assertEquals("EVENT BET 5", watcher.read());
+            assertEquals("OK", watcher.send("UNSUBSCRIBE"));
+            assertEquals("OK 0 0 0 245 5 ACTIVE", watcher.send("STATE"));
+        }
+    }
+
+    @Test
+    void testErrors() throws IOException {
+        myServer = new CrapsServer(new TableRegistry(), 0);
+        try (Client client = new Client(myServer.getPort())) {
+            assertEquals("ERR Join a table first", client.send("BET 5"));
+            assertEquals("ERR No table 42", client.send("JOIN 42"));
+            client.send("JOIN");
+            assertTrue(client.send("BANK -5").startsWith("ERR"));
+            assertTrue(client.send("BANK five").startsWith("ERR"));
+            assertTrue(client.send("BANK").startsWith("ERR"));
+            assertEquals("ERR Unknown command DANCE", client.send("DANCE"));
+            assertEquals("OK 20", client.send("BANK 20"));
+            assertTrue(client.send("BET 30").startsWith("ERR"));
+        }
+    }
+
+    @Test
+    void testManyConcurrentPlayers() throws Exception {
+        myServer = new CrapsServer(new TableRegistry(), 0);
+        final int players = 200;
+        final ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < players; i++) {
+                results.add(pool.submit(() -> {
+                    try (Client client = new Client(myServer.getPort())) {
+                        client.send("JOIN");
+                        client.send("BANK 100");
+                        client.send("BET 10");
+                        return client.send("ROLL");
+                    }
+                }));
+            }
+            for (final Future<String> result : results) {
+                assertTrue(result.get().startsWith("OK "));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(players, myServer.getRegistry().size());
+    }
+}
\ No newline at end of file
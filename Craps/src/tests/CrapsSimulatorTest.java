@@ -0,0 +1,50 @@
+package tests;
+
+import model.CrapsOdds;
+import model.CrapsSimulator;
+import model.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrapsSimulatorTest {
+
+    @Test
+    void testRunCountsEveryRound() {
+        SimulationResult result = new CrapsSimulator(42).run(100000);
+        assertEquals(100000, result.getDecisions());
+        assertTrue(result.getRolls() >= result.getDecisions());
+    }
+
+    @Test
+    void testRunZeroRounds() {
+        SimulationResult result = new CrapsSimulator(42).run(0);
+        assertEquals(0, result.getDecisions());
+        assertEquals(0, result.getRollsPerDecision(), 0);
+    }
+
+    @Test
+    void testRunNegativeRounds() {
+        assertThrows(IllegalArgumentException.class, () -> new CrapsSimulator(42).run(-1));
+    }
+
+    @Test
+    void testRunIsReproducible() {
+        assertEquals(new CrapsSimulator(7).run(50000), new CrapsSimulator(7).run(50000));
+    }
+
+    @Test
+    void testRunMatchesPassLineOdds() {
+        // pass line wins 244/495 of rounds and takes 557/165 rolls on average
+        SimulationResult result = new CrapsSimulator(2023).run(2000000);
+        final CrapsOdds odds = CrapsOdds.getInstance();
+        assertEquals(odds.getPlayerWinProbability().doubleValue(), result.getPlayerWinRate(), 0.002);
+        assertEquals(odds.getExpectedRolls().doubleValue(), result.getRollsPerDecision(), 0.01);
+    }
+
+    @Test
+    void testMerge() {
+        SimulationResult merged = new SimulationResult(1, 2, 3).merge(new SimulationResult(4, 5, 6));
+        assertEquals(new SimulationResult(5, 7, 9), merged);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package tests;
+
+import model.BulkDiceSource;
+import model.CrapsLogic;
+import model.DiceSource;
+import model.ReplayDiceSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiceSourceTest {
+
+    @Test
+    void testFacesInRange() {
+        DiceSource[] sources = {DiceSource.l64x128(), DiceSource.l64x128(1), DiceSource.splittable(1),
+            DiceSource.threadLocal(), DiceSource.replay(1), DiceSource.secure(), DiceSource.of(new Random(1)),
+            DiceSource.bulk(1), new BulkDiceSource(new Random(1), 2)};
+        for (DiceSource source : sources) {
+            for (int i = 0; i < 1000; i++) {
+                int die = source.nextDie();
+                assertTrue(die >= 1 && die <= 6);
+            }
+        }
+    }
+
+    @Test
+    void testSeededSourcesRepeat() {
+        DiceSource first = DiceSource.l64x128(77);
+        DiceSource second = DiceSource.l64x128(77);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextDie(), second.nextDie());
+        }
+    }
+
+    @Test
+    void testReplayRewind() {
+        ReplayDiceSource replay = DiceSource.replay(2023);
+        int[] first = new int[50];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = replay.nextDie();
+        }
+        assertEquals(50, replay.getPosition());
+        replay.rewind();
+        for (int face : first) {
+            assertEquals(face, replay.nextDie());
+        }
+    }
+
+    @Test
+    void testReplaySeek() {
+        ReplayDiceSource replay = DiceSource.replay(5);
+        for (int i = 0; i < 10; i++) {
+            replay.nextDie();
+        }
+        int eleventh = replay.nextDie();
+        replay.seek(10);
+        assertEquals(eleventh, replay.nextDie());
+        assertThrows(IllegalArgumentException.class, () -> replay.seek(-1));
+    }
+
+    @Test
+    void testBulkFacesUniform() {
+        // chi-square with 5 degrees of freedom, 20.5 is the 0.1% critical value
+        byte[] faces = new byte[600000];
+        BulkDiceSource.fill(new SplittableRandom(3), faces, 0, faces.length);
+        long[] counts = new long[7];
+        for (byte face : faces) {
+            counts[face]++;
+        }
+        assertEquals(0, counts[0]);
+        double chiSquare = 0;
+        for (int face = 1; face <= 6; face++) {
+            double difference = counts[face] - 100000.0;
+            chiSquare += difference * difference / 100000.0;
+        }
+        assertTrue(chiSquare < 20.5, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void testBulkTotals() {
+        DiceSource bulk = new BulkDiceSource(new SplittableRandom(9), 5);
+        long[] counts = new long[13];
+        for (int i = 0; i < 360000; i++) {
+            counts[bulk.nextTotal()]++;
+        }
+        for (int total = 2; total <= 12; total++) {
+            double expected = 360000.0 * (6 - Math.abs(total - 7)) / 36;
+            assertEquals(expected, counts[total], 5 * Math.sqrt(expected));
+        }
+    }
+
+    @Test
+    void testBulkFillRange() {
+        byte[] first = new byte[100];
+        byte[] second = new byte[100];
+        BulkDiceSource.fill(new SplittableRandom(4), first, 10, 57);
+        new BulkDiceSource(new SplittableRandom(4)).fill(second, 10, 57);
+        assertArrayEquals(first, second);
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(i >= 10 && i < 57, first[i] != 0);
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> BulkDiceSource.fill(new SplittableRandom(4), first, 90, 101));
+        assertThrows(IllegalArgumentException.class, () -> new BulkDiceSource(new SplittableRandom(4), 1));
+    }
+
+    @Test
+    void testCrapsLogicUsesSource() {
+        // 3 + 4 on the come-out roll is a natural
+        int[] faces = {3, 4};
+        int[] next = {0};
+        CrapsLogic craps = new CrapsLogic(() -> faces[next[0]++]);
+        craps.roll();
+        assertEquals(7, craps.getTotal());
+        assertTrue(craps.getGameWon());
+        assertEquals(1, craps.getPlayerWins());
+    }
+}
\ No newline at end of file
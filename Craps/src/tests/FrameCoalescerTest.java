@@ -0,0 +1,76 @@
+package tests;
+
+import controller.FrameCoalescer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameCoalescerTest {
+    private List<Long> myRendered;
+    private FrameCoalescer myFrames;
+
+    @BeforeEach
+    void setup() {
+        myRendered = new ArrayList<>();
+        myFrames = new FrameCoalescer(myRendered::add);
+    }
+
+    @AfterEach
+    void teardown() {
+        myFrames.stop();
+    }
+
+    /**
+     * Waits on the event dispatch thread until the given number of frames were rendered.
+     */
+    private void awaitRendered(final long theCount) throws Exception {
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (myFrames.getRendered() < theCount && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    @Test
+    void latestStateWinsOncePerFrame() throws Exception {
+        // the timer also fires on the event dispatch thread, so no frame runs between these submits
+        SwingUtilities.invokeAndWait(() -> {
+            myFrames.submit(1);
+            myFrames.submit(2);
+            myFrames.submit(3);
+        });
+        awaitRendered(1);
+        assertEquals(List.of(3L), myRendered);
+        assertEquals(1, myFrames.getRendered());
+        assertEquals(2, myFrames.getDropped());
+    }
+
+    @Test
+    void nothingIsRenderedWithoutNewState() throws Exception {
+        SwingUtilities.invokeAndWait(() -> myFrames.submit(7));
+        awaitRendered(1);
+        Thread.sleep(100);
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(List.of(7L), myRendered);
+        assertEquals(0, myFrames.getDropped());
+
+        SwingUtilities.invokeAndWait(() -> {
+            myFrames.submit(8);
+            myFrames.submit(9);
+        });
+        awaitRendered(2);
+        assertEquals(List.of(7L, 9L), myRendered);
+        assertEquals(1, myFrames.getDropped());
+    }
+
+    @Test
+    void rejectsNonPositiveFrameRate() {
+        assertThrows(IllegalArgumentException.class, () -> new FrameCoalescer(theState -> { }, 0));
+    }
+}
\ No newline at end of file
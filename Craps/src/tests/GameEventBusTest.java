@@ -0,0 +1,117 @@
+package tests;
+
+import model.BankBetLogic;
+import model.CrapsLogic;
+import model.GameEvent;
+import model.GameEventBus;
+import model.GameEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+    private GameEventBus myBus;
+
+    private List<String> myReceived;
+
+    @BeforeEach
+    void setup() {
+        myBus = new GameEventBus();
+        myReceived = new ArrayList<>();
+    }
+
+    @Test
+    void testDeliversOnlySubscribedTypes() {
+        myBus.subscribe((type, payload) -> myReceived.add(type + "=" + payload), GameEvent.BET);
+        myBus.publish(GameEvent.BANK_SET, 100);
+        myBus.publish(GameEvent.BET, 10);
+        assertEquals(List.of("BET=10"), myReceived);
+        assertTrue(myBus.hasSubscribers(GameEvent.BET));
+        assertFalse(myBus.hasSubscribers(GameEvent.BANK_SET));
+    }
+
+    @Test
+    void testUnsubscribe() {
+        GameEventListener listener = (type, payload) -> myReceived.add(type.name());
+        myBus.subscribe(listener, GameEvent.BET, GameEvent.BANK_SET);
+        assertTrue(myBus.unsubscribe(listener));
+        assertFalse(myBus.unsubscribe(listener));
+        myBus.publish(GameEvent.BET, 1);
+        assertTrue(myReceived.isEmpty());
+    }
+
+    @Test
+    void testRingDispatchesOnDrain() {
+        myBus.enableRing(4);
+        myBus.subscribe((type, payload) -> myReceived.add(type + "=" + payload), GameEvent.BET);
+        myBus.publish(GameEvent.BET, 1);
+        myBus.publish(GameEvent.BET, 2);
+        assertTrue(myReceived.isEmpty());
+        assertEquals(2, myBus.drain());
+        assertEquals(List.of("BET=1", "BET=2"), myReceived);
+        assertEquals(0, myBus.drain());
+    }
+
+    @Test
+    void testRingCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> myBus.enableRing(3));
+        assertThrows(IllegalArgumentException.class, () -> myBus.enableRing(0));
+    }
+
+    @Test
+    void testRingKeepsOrderAcrossThreads() throws InterruptedException {
+        final int events = 100000;
+        myBus.enableRing(64);
+        final long[] expected = {0};
+        final boolean[] inOrder = {true};
+        myBus.subscribe((type, payload) -> {
+            inOrder[0] &= payload == expected[0];
+            expected[0]++;
+        }, GameEvent.BET);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < events; i++) {
+                myBus.publish(GameEvent.BET, i);
+            }
+        });
+        producer.start();
+        while (expected[0] < events) {
+            myBus.drain();
+        }
+        producer.join();
+        assertTrue(inOrder[0]);
+    }
+
+    @Test
+    void testRollPayload() {
+        long payload = GameEvent.packRoll(3, 5, 8, 8);
+        assertEquals(3, GameEvent.rollDie1(payload));
+        assertEquals(5, GameEvent.rollDie2(payload));
+        assertEquals(8, GameEvent.rollTotal(payload));
+        assertEquals(8, GameEvent.rollPoint(payload));
+    }
+
+    @Test
+    void testCrapsLogicPublishesDecision() {
+        // 5 + 6 on the come-out roll is a natural
+        int[] faces = {5, 6};
+        int[] next = {0};
+        CrapsLogic craps = new CrapsLogic(() -> faces[next[0]++]);
+        craps.getEventBus().subscribe((type, payload) -> myReceived.add(type + "=" + payload),
+                GameEvent.WIN_DISPLAY, GameEvent.ACTIVE);
+        craps.roll();
+        assertEquals(List.of("WIN_DISPLAY=1", "ACTIVE=0"), myReceived);
+    }
+
+    @Test
+    void testPropertyChangeListenersStillReceiveEvents() {
+        BankBetLogic bank = new BankBetLogic();
+        bank.addPropertyChangeListener(theEvt -> myReceived.add(theEvt.getPropertyName() + "=" + theEvt.getNewValue()));
+        bank.setBankAmount(100);
+        bank.setBetAmount(10);
+        assertEquals(List.of("bankSet=100", "bet=10"), myReceived);
+    }
+}
\ No newline at end of file
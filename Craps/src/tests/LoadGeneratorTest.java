@@ -0,0 +1,96 @@
+package tests;
+
+import metrics.LatencyHistogram;
+import model.CrapsTable;
+import model.TableRegistry;
+import org.junit.jupiter.api.Test;
+import server.LoadGenerator;
+import server.LoadReport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+    @Test
+    void testHistogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500.0, histogram.getMean(), 1e-9);
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / 64.0);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / 64.0);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(99.9), 1_000_000 / 64.0);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+        assertTrue(histogram.getValueAtPercentile(50) >= 500_000);
+    }
+
+    @Test
+    void testHistogramSmallValuesAreExact() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(127);
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(127, histogram.getValueAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    void testHistogramMergeAndReset() {
+        final LatencyHistogram first = new LatencyHistogram();
+        final LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(Long.MAX_VALUE);
+        first.add(second);
+        assertEquals(2, first.getCount());
+        assertEquals(Long.MAX_VALUE, first.getMax());
+        assertEquals(LatencyHistogram.MAX_VALUE, first.getValueAtPercentile(100), LatencyHistogram.MAX_VALUE / 64.0);
+        first.reset();
+        assertEquals(0, first.getCount());
+        assertEquals(0, first.getValueAtPercentile(99));
+    }
+
+    @Test
+    void testEveryPlayerBetsAndRolls() throws InterruptedException {
+        final TableRegistry registry = new TableRegistry();
+        final LoadReport report = new LoadGenerator(200, 50, 0, registry).run();
+        assertEquals(0, report.getFailures());
+        assertEquals(200, registry.size());
+        assertEquals(200 * 50, report.getRollLatency().getCount());
+        assertTrue(report.getBetLatency().getCount() >= 200);
+        assertTrue(report.getRollsPerSecond() > 0);
+        long rounds = 0;
+        for (final CrapsTable table : registry.getTables()) {
+            assertTrue(table.getBank().getBankCents() >= 0);
+            rounds += table.getCraps().getPlayerWins() + table.getCraps().getHouseWins();
+        }
+        assertEquals(report.getBetLatency().getCount() - 200, rounds, 200);
+        assertTrue(rounds > 0);
+    }
+
+    @Test
+    void testFirstFailureIsKept() throws InterruptedException {
+        final TableRegistry registry = new TableRegistry(() -> () -> {
+            throw new IllegalStateException("dice jammed");
+        });
+        final LoadReport report = new LoadGenerator(5, 3, 0, registry).run();
+        assertEquals(5, report.getFailures());
+        assertEquals(IllegalStateException.class, report.getFirstFailure().getClass());
+        assertEquals("dice jammed", report.getFirstFailure().getMessage());
+        assertTrue(report.toString().contains("dice jammed"));
+    }
+
+    @Test
+    void testThinkTimeAndValidation() throws InterruptedException {
+        final LoadReport report = new LoadGenerator(20, 5, 100_000).run();
+        assertEquals(0, report.getFailures());
+        assertNull(report.getFirstFailure());
+        assertTrue(report.toString().contains("p999"));
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(1, 1, -1));
+    }
+}
\ No newline at end of file
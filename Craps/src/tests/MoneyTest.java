@@ -0,0 +1,71 @@
+package tests;
+
+import model.BankBetLogic;
+import model.GameEvent;
+import model.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+    @Test
+    void testConversions() {
+        assertEquals(2500, Money.ofDollars(25));
+        assertEquals(-305, Money.of(-3, 5));
+        assertEquals(-4, Money.toDollars(-305));
+        assertEquals(25, Money.toIntDollars(2599));
+        assertTrue(Money.isWholeDollars(-300));
+        assertFalse(Money.isWholeDollars(50));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(1, 100));
+    }
+
+    @Test
+    void testFormatAndParse() {
+        assertEquals("25", Money.format(2500));
+        assertEquals("-3.05", Money.format(-305));
+        assertEquals("0.50", Money.format(50));
+        assertEquals(-305, Money.parse("-3.05"));
+        assertEquals(50, Money.parse("0.5"));
+        assertEquals(-50, Money.parse("-.50"));
+        for (final long cents : new long[] {0, 1, -1, 99, 12345, -987654321L, Long.MAX_VALUE}) {
+            assertEquals(cents, Money.parse(Money.format(cents)));
+        }
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.234"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("1."));
+    }
+
+    @Test
+    void testOverflowThrows() {
+        assertThrows(ArithmeticException.class, () -> Money.ofDollars(Long.MAX_VALUE / 10));
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.times(Long.MAX_VALUE / 2, 3));
+        assertThrows(ArithmeticException.class, () -> Money.toIntDollars(Money.ofDollars(3_000_000_000L)));
+    }
+
+    @Test
+    void testRatioRoundsDown() {
+        assertEquals(700, Money.ratio(500, 7, 5));
+        assertEquals(583, Money.ratio(500, 7, 6));
+        assertEquals(-584, Money.ratio(-500, 7, 6));
+        assertThrows(IllegalArgumentException.class, () -> Money.ratio(500, 1, 0));
+    }
+
+    @Test
+    void testBankBeyondIntDollars() {
+        final BankBetLogic bank = new BankBetLogic();
+        final List<String> events = new ArrayList<>();
+        bank.getEventBus().subscribe((type, payload) -> events.add(type + "=" + payload),
+                GameEvent.BANK_SET, GameEvent.BET);
+        final long cents = Money.ofDollars(5_000_000_000L);
+        bank.setBankCents(cents);
+        assertEquals(cents, bank.getBankCents());
+        assertThrows(ArithmeticException.class, bank::getBankAmount);
+        bank.setBetAmount(25);
+        assertEquals(2500, bank.getBetCents());
+        assertEquals(List.of("BANK_SET=" + cents, "BET=2500"), events);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package tests;
+
+import model.BetType;
+import model.GameEvent;
+import model.Money;
+import model.MultiSeatTable;
+import model.SeatView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiSeatTableTest {
+
+    /**
+     * Creates a table that rolls the given faces in order.
+     */
+    private static MultiSeatTable scripted(int... theFaces) {
+        int[] next = {0};
+        return new MultiSeatTable(() -> theFaces[next[0]++]);
+    }
+
+    @Test
+    void testSeatsFillUp() {
+        MultiSeatTable table = scripted();
+        for (int i = 0; i < MultiSeatTable.MAX_SEATS; i++) {
+            assertEquals(i, table.sit(100 + i));
+        }
+        assertEquals(MultiSeatTable.MAX_SEATS, table.getSeatCount());
+        assertThrows(IllegalStateException.class, () -> table.sit(100));
+        assertEquals(Money.ofDollars(105), table.leave(5));
+        assertFalse(table.isSeated(5));
+        assertEquals(5, table.sit(50));
+        assertThrows(IllegalArgumentException.class, () -> table.sit(0));
+    }
+
+    @Test
+    void testRollSettlesEverySeat() {
+        // come out 3+4, then 2+2 sets the point, then 4+4 and 2+5
+        MultiSeatTable table = scripted(3, 4, 2, 2, 4, 4, 2, 5);
+        int pass = table.sit(100);
+        int dontPass = table.sit(100);
+        int field = table.sit(100);
+        table.placeBet(pass, BetType.PASS, 0, 10);
+        table.placeBet(dontPass, BetType.DONT_PASS, 0, 10);
+        table.placeBet(field, BetType.FIELD, 0, 10);
+        table.placeBet(field, BetType.PLACE, 8, 12);
+        assertEquals(4, table.getBetCount());
+
+        table.roll();
+        assertEquals(110, table.getBankAmount(pass));
+        assertEquals(90, table.getBankAmount(dontPass));
+        assertEquals(78, table.getBankAmount(field));
+        assertEquals(0, table.getBetAmount(pass));
+        assertEquals(12, table.getBetAmount(field));
+
+        table.placeBet(pass, BetType.PASS, 0, 10);
+        table.placeBet(field, BetType.FIELD, 0, 10);
+        table.roll();
+        assertEquals(4, table.getPoint());
+        // field wins 1:1 on 4, place 8 stays
+        assertEquals(88, table.getBankAmount(field));
+        assertEquals(12, table.getBetAmount(field));
+
+        assertThrows(IllegalArgumentException.class, () -> table.placeBet(field, BetType.ODDS, 4, 20));
+        table.placeBet(pass, BetType.ODDS, 4, 20);
+        table.roll();
+        // place 8 pays 7:6
+        assertEquals(88 + 26, table.getBankAmount(field));
+        assertEquals(0, table.getBetAmount(field));
+
+        table.roll();
+        assertEquals(0, table.getPoint());
+        assertEquals(80, table.getBankAmount(pass));
+        assertEquals(0, table.getBetAmount(pass));
+        assertEquals(0, table.getBetCount());
+    }
+
+    @Test
+    void testSeatViewPublishesChanges() {
+        MultiSeatTable table = scripted(1, 1);
+        int seat = table.sit(100);
+        SeatView view = table.getSeat(seat);
+        List<String> events = new ArrayList<>();
+        view.getEventBus().subscribe((type, payload) -> events.add(type + "=" + payload),
+            GameEvent.BANK_SET, GameEvent.BET);
+
+        table.placeBet(seat, BetType.ACES, 0, 5);
+        assertEquals(95, view.getBankAmount());
+        assertEquals(5, view.getBetAmount());
+        table.roll();
+        assertEquals(95 + 155, view.getBankAmount());
+        assertEquals(0, view.getBetAmount());
+        assertEquals(List.of("BANK_SET=9500", "BET=500", "BANK_SET=25000", "BET=0"), events);
+    }
+
+    @Test
+    void testInvalidBets() {
+        MultiSeatTable table = scripted();
+        int seat = table.sit(20);
+        assertThrows(IllegalArgumentException.class, () -> table.placeBet(3, BetType.FIELD, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> table.placeBet(seat, BetType.FIELD, 0, 21));
+        assertThrows(IllegalArgumentException.class, () -> table.placeBet(seat, BetType.COME, 0, 5));
+        table.placeBet(seat, BetType.PLACE, 6, 6);
+        assertThrows(IllegalStateException.class, () -> table.leave(seat));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getSeat(MultiSeatTable.MAX_SEATS));
+    }
+}
\ No newline at end of file
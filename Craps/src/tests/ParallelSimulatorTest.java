@@ -0,0 +1,54 @@
+package tests;
+
+import model.CrapsSimulator;
+import model.ParallelSimulator;
+import model.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSimulatorTest {
+
+    @Test
+    void testRunCountsEveryRound() {
+        try (ParallelSimulator sim = new ParallelSimulator(4, 1000)) {
+            assertEquals(123457, sim.run(123457, 1).getDecisions());
+        }
+    }
+
+    @Test
+    void testRunIsReproducibleForAnyParallelism() {
+        SimulationResult expected;
+        try (ParallelSimulator sim = new ParallelSimulator(1, 4096)) {
+            expected = sim.run(200000, 99);
+        }
+        for (int threads : new int[] {2, 3, 8}) {
+            try (ParallelSimulator sim = new ParallelSimulator(threads, 4096)) {
+                assertEquals(expected, sim.run(200000, 99));
+            }
+        }
+    }
+
+    @Test
+    void testRunMatchesSequentialChunks() {
+        // chunk i is a CrapsSimulator seeded with chunkSeed(master, i)
+        SimulationResult expected = new CrapsSimulator(ParallelSimulator.chunkSeed(5, 0)).run(1000)
+                .merge(new CrapsSimulator(ParallelSimulator.chunkSeed(5, 1)).run(1000))
+                .merge(new CrapsSimulator(ParallelSimulator.chunkSeed(5, 2)).run(500));
+        try (ParallelSimulator sim = new ParallelSimulator(2, 1000)) {
+            assertEquals(expected, sim.run(2500, 5));
+        }
+    }
+
+    @Test
+    void testRunZeroRounds() {
+        assertEquals(0, new ParallelSimulator().run(0, 1).getDecisions());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSimulator(0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSimulator(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSimulator().run(-1, 1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package tests;
+
+import model.BankBetLogic;
+import model.CrapsLogic;
+import model.DiceSource;
+import model.RollJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollJournalTest {
+    private static final int SEGMENT = RollJournal.HEADER_BYTES + 10 * RollJournal.RECORD_BYTES;
+
+    private Path myDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        myDir = Files.createTempDirectory("journal");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(myDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(thePath -> thePath.toFile().delete());
+        }
+    }
+
+    @Test
+    void appendAndRead() throws IOException {
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 4)) {
+            assertEquals(1, journal.append(3, 4, 0, RollJournal.PLAYER_WIN, -10, 20));
+            assertEquals(2, journal.append(6, 5, 0, RollJournal.NO_DECISION, 0, 0));
+        }
+        final List<RollJournal.Entry> entries = new ArrayList<>();
+        assertEquals(2, RollJournal.read(myDir, entries::add));
+        final RollJournal.Entry first = entries.get(0);
+        assertEquals(1, first.getSeq());
+        assertEquals(3, first.getDie1());
+        assertEquals(4, first.getDie2());
+        assertEquals(RollJournal.PLAYER_WIN, first.getOutcome());
+        assertEquals(-10, first.getBetDelta());
+        assertEquals(20, first.getBankDelta());
+        assertEquals(6, entries.get(1).getDie1());
+        assertEquals(5, entries.get(1).getDie2());
+    }
+
+    @Test
+    void segmentsRollOver() throws IOException {
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 3)) {
+            for (int i = 0; i < 25; i++) {
+                journal.append(1 + i % 6, 1 + i % 5, 4, RollJournal.NO_DECISION, 0, 0);
+            }
+        }
+        try (Stream<Path> files = Files.list(myDir)) {
+            assertEquals(3, files.count());
+        }
+        final long[] seq = {0};
+        assertEquals(25, RollJournal.read(myDir, theEntry -> assertEquals(++seq[0], theEntry.getSeq())));
+    }
+
+    @Test
+    void reopenContinuesSequence() throws IOException {
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            journal.append(1, 1, 0, RollJournal.HOUSE_WIN, -5, 0);
+        }
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            assertEquals(2, journal.getNextSeq());
+            journal.append(2, 2, 4, RollJournal.NO_DECISION, 0, 0);
+        }
+        assertEquals(2, RollJournal.read(myDir, theEntry -> { }));
+    }
+
+    @Test
+    void tornTailIsIgnored() throws IOException {
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            journal.append(1, 2, 0, RollJournal.HOUSE_WIN, -5, 0);
+            journal.append(2, 3, 5, RollJournal.NO_DECISION, 0, 0);
+        }
+        corrupt(onlySegment(), RollJournal.HEADER_BYTES + RollJournal.RECORD_BYTES + 20);
+        assertEquals(1, RollJournal.read(myDir, theEntry -> { }));
+    }
+
+    @Test
+    void reopenAfterTornFirstRecord() throws IOException {
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            journal.append(1, 2, 0, RollJournal.HOUSE_WIN, -5, 0);
+        }
+        corrupt(onlySegment(), RollJournal.HEADER_BYTES + 20);
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            assertEquals(1, journal.getNextSeq());
+            assertEquals(1, journal.append(3, 3, 6, RollJournal.NO_DECISION, 0, 0));
+        }
+        final List<RollJournal.Entry> entries = new ArrayList<>();
+        assertEquals(1, RollJournal.read(myDir, entries::add));
+        assertEquals(3, entries.get(0).getDie1());
+    }
+
+    @Test
+    void reopenAfterTornRolloverSegment() throws IOException {
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            for (int i = 0; i < 11; i++) {
+                journal.append(1 + i % 6, 1, 0, RollJournal.NO_DECISION, 0, 0);
+            }
+        }
+        final Path tail;
+        try (Stream<Path> files = Files.list(myDir)) {
+            tail = files.max(Comparator.naturalOrder()).orElseThrow();
+        }
+        corrupt(tail, RollJournal.HEADER_BYTES + 20);
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            assertEquals(11, journal.getNextSeq());
+            journal.append(6, 6, 0, RollJournal.NO_DECISION, 0, 0);
+        }
+        final long[] seq = {0};
+        assertEquals(11, RollJournal.read(myDir, theEntry -> assertEquals(++seq[0], theEntry.getSeq())));
+    }
+
+    @Test
+    void corruptRecordIsDetected() throws IOException {
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 1)) {
+            journal.append(1, 2, 0, RollJournal.HOUSE_WIN, -5, 0);
+            journal.append(2, 3, 5, RollJournal.NO_DECISION, 0, 0);
+        }
+        corrupt(onlySegment(), RollJournal.HEADER_BYTES + 20);
+        assertThrows(IOException.class, () -> RollJournal.read(myDir, theEntry -> { }));
+    }
+
+    @Test
+    void crapsLogicJournalsEveryRoll() throws IOException {
+        final CrapsLogic craps = new CrapsLogic(DiceSource.splittable(7));
+        final BankBetLogic bank = craps.getBank();
+        bank.setBankAmount(1000);
+        bank.setBetAmount(10);
+        int rolls = 0;
+        try (RollJournal journal = new RollJournal(myDir, SEGMENT, 16)) {
+            craps.setJournal(journal);
+            while (craps.isGameActive()) {
+                craps.roll();
+                rolls++;
+            }
+        }
+        final List<RollJournal.Entry> entries = new ArrayList<>();
+        assertEquals(rolls, RollJournal.read(myDir, entries::add));
+        final RollJournal.Entry last = entries.get(entries.size() - 1);
+        assertEquals(craps.getDice1(), last.getDie1());
+        assertEquals(craps.getDice2(), last.getDie2());
+        assertEquals(-10, last.getBetDelta());
+        assertEquals(craps.getGameWon() ? RollJournal.PLAYER_WIN : RollJournal.HOUSE_WIN, last.getOutcome());
+        assertEquals(craps.getGameWon() ? 20 : 0, last.getBankDelta());
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(myDir)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private static void corrupt(final Path theFile, final int theOffset) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(theFile.toFile(), "rw")) {
+            file.seek(theOffset);
+            final int value = file.read();
+            file.seek(theOffset);
+            file.write(value ^ 0xFF);
+        }
+    }
+}
\ No newline at end of file
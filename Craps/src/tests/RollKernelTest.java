@@ -0,0 +1,69 @@
+package tests;
+
+import model.RollKernel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollKernelTest {
+
+    @Test
+    void testComeOutNatural() {
+        int result = RollKernel.resolve(0, 7);
+        assertTrue(RollKernel.isDecided(result));
+        assertTrue(RollKernel.isPlayerWin(result));
+        assertTrue(RollKernel.isPlayerWin(RollKernel.resolve(0, 11)));
+    }
+
+    @Test
+    void testComeOutCraps() {
+        for (int total : new int[] {2, 3, 12}) {
+            int result = RollKernel.resolve(0, total);
+            assertTrue(RollKernel.isDecided(result));
+            assertFalse(RollKernel.isPlayerWin(result));
+        }
+    }
+
+    @Test
+    void testComeOutEstablishesPoint() {
+        for (int total : new int[] {4, 5, 6, 8, 9, 10}) {
+            int result = RollKernel.resolve(0, total);
+            assertFalse(RollKernel.isDecided(result));
+            assertEquals(total, RollKernel.nextPoint(result));
+        }
+    }
+
+    @Test
+    void testPointMade() {
+        int result = RollKernel.resolve(6, 6);
+        assertTrue(RollKernel.isPlayerWin(result));
+        assertEquals(0, RollKernel.nextPoint(result));
+    }
+
+    @Test
+    void testSevenOut() {
+        int result = RollKernel.resolve(9, 7);
+        assertTrue(RollKernel.isDecided(result));
+        assertFalse(RollKernel.isPlayerWin(result));
+    }
+
+    @Test
+    void testResolveRowMatchesResolve() {
+        for (int point : new int[] {4, 5, 6, 8, 9, 10}) {
+            // the come-out roll that establishes the point hands back its row
+            int row = RollKernel.nextRow(RollKernel.resolve(0, point));
+            for (int total = 2; total <= 12; total++) {
+                assertEquals(RollKernel.resolve(point, total), RollKernel.resolveRow(row, total));
+            }
+        }
+    }
+
+    @Test
+    void testPointPhaseNoDecision() {
+        for (int total : new int[] {2, 3, 11, 12, 5}) {
+            int result = RollKernel.resolve(4, total);
+            assertFalse(RollKernel.isDecided(result));
+            assertEquals(4, RollKernel.nextPoint(result));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package tests;
+
+import model.CrapsLogic;
+import model.CrapsOdds;
+import model.DiceSource;
+import model.RollKernel;
+import model.RollStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollStatisticsTest {
+    private static void play(final RollStatistics theStats, final long theRolls, final long theSeed) {
+        final SplittableRandom random = new SplittableRandom(theSeed);
+        int point = 0;
+        for (long i = 0; i < theRolls; i++) {
+            final int total = random.nextInt(1, 7) + random.nextInt(1, 7);
+            final int result = RollKernel.resolve(point, total);
+            theStats.record(total, point, result);
+            point = RollKernel.isDecided(result) ? 0 : RollKernel.nextPoint(result);
+        }
+    }
+
+    private static long sum(final RollStatistics.Snapshot theSnapshot, final boolean theTotals) {
+        long sum = 0;
+        if (theTotals) {
+            for (int total = 2; total <= 12; total++) {
+                sum += theSnapshot.getTotalCount(total);
+            }
+        } else {
+            for (int rolls = 1; rolls <= RollStatistics.MAX_TRACKED_ROLLS; rolls++) {
+                sum += theSnapshot.getDecisionsWithRolls(rolls);
+            }
+        }
+        return sum;
+    }
+
+    @Test
+    void emptyStatistics() {
+        final RollStatistics.Snapshot snapshot = new RollStatistics().snapshot();
+        assertEquals(0, snapshot.getRolls());
+        assertEquals(0.0, snapshot.getPlayerWinRate());
+        assertEquals(0.0, snapshot.getWinRateMargin());
+        assertEquals(0.0, snapshot.getRollsPerDecision());
+    }
+
+    @Test
+    void knownRolls() {
+        final RollStatistics stats = new RollStatistics();
+        stats.record(7, 0, RollKernel.resolve(0, 7));
+        stats.record(6, 0, RollKernel.resolve(0, 6));
+        stats.record(3, 6, RollKernel.resolve(6, 3));
+        stats.record(6, 6, RollKernel.resolve(6, 6));
+        stats.record(2, 0, RollKernel.resolve(0, 2));
+        final RollStatistics.Snapshot snapshot = stats.snapshot();
+        assertEquals(5, snapshot.getRolls());
+        assertEquals(3, snapshot.getDecisions());
+        assertEquals(2, snapshot.getTotalCount(6));
+        assertEquals(1, snapshot.getPointsEstablished(6));
+        assertEquals(1, snapshot.getPointsMade(6));
+        assertEquals(0, snapshot.getPointsMade(8));
+        assertEquals(2, snapshot.getDecisionsWithRolls(1));
+        assertEquals(1, snapshot.getDecisionsWithRolls(3));
+        assertEquals(5.0 / 3, snapshot.getRollsPerDecision(), 1e-12);
+        assertEquals(2.0 / 3, snapshot.getPlayerWinRate(), 1e-12);
+        assertEquals(1.0 / 3, snapshot.getWinRateVariance(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getPointsMade(7));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getTotalCount(1));
+    }
+
+    @Test
+    void convergesToTheOdds() {
+        final RollStatistics stats = new RollStatistics();
+        play(stats, 3_000_000, 42);
+        final RollStatistics.Snapshot snapshot = stats.snapshot();
+        final CrapsOdds odds = CrapsOdds.getInstance();
+        final double expected = odds.getPlayerWinProbability().doubleValue();
+        assertTrue(snapshot.getWinRateLow() < expected && expected < snapshot.getWinRateHigh(),
+                snapshot.toString());
+        assertEquals(odds.getExpectedRolls().doubleValue(), snapshot.getRollsPerDecision(), 0.02);
+        assertEquals(snapshot.getRolls(), sum(snapshot, true));
+        assertEquals(snapshot.getDecisions(), sum(snapshot, false));
+        assertEquals(1.0 / 6, (double) snapshot.getTotalCount(7) / snapshot.getRolls(), 0.002);
+        assertEquals(odds.getPointConversion(6).doubleValue(), (double) snapshot.getPointsMade(6) / snapshot.getPointsEstablished(6), 0.01);
+    }
+
+    @Test
+    void readersSeeConsistentSnapshots() throws InterruptedException {
+        final RollStatistics stats = new RollStatistics();
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread writer = new Thread(() -> {
+            play(stats, 2_000_000, 7);
+            done.set(true);
+        });
+        writer.start();
+        int reads = 0;
+        while (!done.get() || reads == 0) {
+            final RollStatistics.Snapshot snapshot = stats.snapshot();
+            assertEquals(snapshot.getRolls(), sum(snapshot, true));
+            assertEquals(snapshot.getDecisions(), sum(snapshot, false));
+            reads++;
+        }
+        writer.join();
+        assertEquals(2_000_000, stats.snapshot().getRolls());
+    }
+
+    @Test
+    void crapsLogicRecordsItsRolls() {
+        final CrapsLogic craps = new CrapsLogic(DiceSource.splittable(3));
+        int rolls = 0;
+        for (int round = 0; round < 100; round++) {
+            craps.softReset();
+            while (craps.isGameActive()) {
+                craps.roll();
+                rolls++;
+            }
+        }
+        final RollStatistics.Snapshot snapshot = craps.getStatistics().snapshot();
+        assertEquals(rolls, snapshot.getRolls());
+        assertEquals(100, snapshot.getDecisions());
+        assertEquals(craps.getPlayerWins() / 100.0, snapshot.getPlayerWinRate(), 1e-9);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package tests;
+
+import model.BettingStrategy;
+import model.RuinResult;
+import model.RuinSolver;
+import model.StrategyResult;
+import model.StrategySimulator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuinSolverTest {
+    private final RuinSolver mySolver = new RuinSolver();
+
+    private static double gamblersRuin(final double theWin, final int theStart, final int theTarget) {
+        final double ratio = (1 - theWin) / theWin;
+        return (Math.pow(ratio, theStart) - Math.pow(ratio, theTarget)) / (1 - Math.pow(ratio, theTarget));
+    }
+
+    private static double gamblersRounds(final double theWin, final int theStart, final int theTarget) {
+        final double q = 1 - theWin;
+        final double win = 1 - gamblersRuin(theWin, theStart, theTarget);
+        return (theStart - theTarget * win) / (q - theWin);
+    }
+
+    @Test
+    void matchesTheClosedForm() {
+        final double win = 244.0 / 495;
+        final RuinResult result = mySolver.solve(200, 10, 400);
+        assertEquals(gamblersRuin(win, 20, 40), result.getRuinProbability(), 1e-12);
+        assertEquals(gamblersRounds(win, 20, 40), result.getExpectedRounds(), 1e-9);
+    }
+
+    @Test
+    void fairGame() {
+        final RuinResult result = new RuinSolver(0.5).solve(30, 1, 100);
+        assertEquals(0.7, result.getRuinProbability(), 1e-12);
+        assertEquals(30 * 70, result.getExpectedRounds(), 1e-6);
+    }
+
+    @Test
+    void partialBetsCountAsRuin() {
+        assertEquals(1.0, mySolver.solve(5, 10, 100).getRuinProbability());
+        assertEquals(mySolver.solve(20, 10, 40).getRuinProbability(),
+                mySolver.solve(25, 10, 45).getRuinProbability(), 1e-15);
+    }
+
+    @Test
+    void roundLimitConvergesToUnlimited() {
+        final RuinResult unlimited = mySolver.solve(50, 5, 100);
+        final RuinResult limited = mySolver.solve(50, 5, 100, 5000);
+        assertEquals(unlimited.getRuinProbability(), limited.getRuinProbability(), 1e-9);
+        assertEquals(unlimited.getExpectedRounds(), limited.getExpectedRounds(), 1e-6);
+        assertEquals(0.0, mySolver.solve(50, 5, 100, 9).getRuinProbability());
+        assertEquals(10.0, mySolver.solve(50, 5, 100, 10).getExpectedRounds(), 1e-12);
+    }
+
+    @Test
+    void matchesTheSessionSimulator() {
+        final RuinResult exact = mySolver.solve(100, 10, 100_000, 60);
+        final StrategyResult simulated = new StrategySimulator(BettingStrategy.flat(10), 100, 60)
+                .run(200_000, 3);
+        assertEquals(exact.getRuinProbability(), simulated.getRuinProbability(), 0.005);
+        assertEquals(exact.getExpectedRounds(), simulated.getMeanRounds(), 0.2);
+    }
+
+    @Test
+    void millionUnitBank() {
+        final RuinResult result = mySolver.solve(1_000_000, 1, 1_000_100);
+        final double win = Math.pow(244.0 / 251, 100);
+        assertEquals(1 - win, result.getRuinProbability(), 1e-7);
+        assertEquals((1_000_000 - 1_000_100 * win) * 495 / 7, result.getExpectedRounds(),
+                1e-6 * result.getExpectedRounds());
+    }
+
+    @Test
+    void sweepKeepsTheOrderOfTheBets() {
+        final RuinResult[] results = mySolver.sweep(1000, 2000, 0, 1, 10, 50, 100, 500);
+        assertEquals(5, results.length);
+        for (int i = 0; i < results.length; i++) {
+            assertEquals(new int[] {1, 10, 50, 100, 500}[i], results[i].getBet());
+            if (i > 0) {
+                assertTrue(results[i].getRuinProbability() < results[i - 1].getRuinProbability());
+            }
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> mySolver.solve(100, 0, 200));
+        assertThrows(IllegalArgumentException.class, () -> mySolver.solve(100, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> mySolver.solve(100, 10, 200, -1));
+        assertThrows(IllegalArgumentException.class, () -> new RuinSolver(1));
+    }
+}
\ No newline at end of file
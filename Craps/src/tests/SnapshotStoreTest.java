@@ -0,0 +1,186 @@
+package tests;
+
+import model.BankBetLogic;
+import model.BetType;
+import model.CrapsTable;
+import model.GameSnapshot;
+import model.Money;
+import model.SnapshotStore;
+import model.TableRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStoreTest {
+    private Path myDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        myDir = Files.createTempDirectory("snapshots");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(myDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(thePath -> thePath.toFile().delete());
+        }
+    }
+
+    private static TableRegistry playedRegistry(final int theTables) {
+        final TableRegistry registry = new TableRegistry();
+        for (int i = 0; i < theTables; i++) {
+            final CrapsTable table = registry.create();
+            table.setBank(100 + i);
+            table.placeBet(5);
+            for (int r = 0; r < i % 7; r++) {
+                table.roll();
+            }
+        }
+        return registry;
+    }
+
+    @Test
+    void writeAndRestoreRegistry() throws IOException {
+        final TableRegistry registry = playedRegistry(50);
+        final List<GameSnapshot> before = registry.snapshot();
+        final SnapshotStore store = new SnapshotStore(myDir);
+        store.write(before);
+
+        final TableRegistry restored = new TableRegistry();
+        restored.restore(new SnapshotStore(myDir).readLatest());
+        assertEquals(50, restored.size());
+        for (final GameSnapshot snapshot : before) {
+            assertEquals(snapshot, GameSnapshot.capture(restored.get(snapshot.getTableId())));
+        }
+        assertEquals(51, restored.create().getId());
+    }
+
+    @Test
+    void restoredTableKeepsPlaying() throws IOException {
+        final TableRegistry registry = new TableRegistry();
+        final CrapsTable table = registry.create();
+        table.setBank(100);
+        table.placeBet(10);
+        new SnapshotStore(myDir).write(registry.snapshot());
+
+        final TableRegistry restored = new TableRegistry();
+        restored.restore(new SnapshotStore(myDir).readLatest());
+        final CrapsTable copy = restored.get(table.getId());
+        assertEquals(90, copy.getBank().getBankAmount());
+        assertEquals(10, copy.getBank().getBetAmount());
+        assertTrue(copy.roll());
+    }
+
+    @Test
+    void newestSnapshotWinsAndOldOnesArePruned() throws IOException {
+        final SnapshotStore store = new SnapshotStore(myDir, 2);
+        for (int i = 1; i <= 5; i++) {
+            store.write(playedRegistry(i).snapshot());
+        }
+        try (Stream<Path> files = Files.list(myDir)) {
+            assertEquals(2, files.count());
+        }
+        assertEquals(5, store.readLatest().size());
+        assertEquals(5, new SnapshotStore(myDir).readLatest().size());
+    }
+
+    @Test
+    void corruptSnapshotFallsBackToOlder() throws IOException {
+        final SnapshotStore store = new SnapshotStore(myDir);
+        store.write(playedRegistry(3).snapshot());
+        final Path newest = store.write(playedRegistry(4).snapshot());
+        patch(newest, 40, 0x7F);
+        assertEquals(3, store.readLatest().size());
+    }
+
+    @Test
+    void unsupportedVersionIsRejected() throws IOException {
+        final SnapshotStore store = new SnapshotStore(myDir);
+        final Path file = store.write(playedRegistry(2).snapshot());
+        patch(file, 4, 9);
+        assertThrows(IOException.class, store::readLatest);
+    }
+
+    @Test
+    void legacyDollarSnapshotIsReadAsCents() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(24 + 40 + 4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0x43525053).putShort((short) 1).putShort((short) 40).putLong(0L).putInt(1).putInt(0);
+        buffer.putLong(7L).putInt(2).putInt(3).putInt(150).putInt(10)
+                .put((byte) 3).put((byte) 2).put((byte) 5).put((byte) 5).putInt(0b1101).putLong(0L);
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        Files.write(myDir.resolve("snapshot-0000000000000001.bin"), buffer.array());
+
+        final List<GameSnapshot> snapshots = new SnapshotStore(myDir).readLatest();
+        assertEquals(1, snapshots.size());
+        final GameSnapshot snapshot = snapshots.get(0);
+        assertEquals(7L, snapshot.getTableId());
+        assertEquals(Money.ofDollars(150), snapshot.getBankCents());
+        assertEquals(Money.ofDollars(10), snapshot.getBetCents());
+        assertEquals(5, snapshot.getPoint());
+        assertTrue(snapshot.isGameActive());
+    }
+
+    @Test
+    void centsSurviveRoundTrip() throws IOException {
+        final TableRegistry registry = new TableRegistry();
+        final CrapsTable table = registry.create();
+        table.getBank().setBankCents(Money.of(4_000_000_000L, 37));
+        final SnapshotStore store = new SnapshotStore(myDir);
+        store.write(registry.snapshot());
+        final GameSnapshot restored = store.readLatest().get(0);
+        assertEquals(Money.of(4_000_000_000L, 37), restored.getBankCents());
+    }
+
+    @Test
+    void tableBetsSurviveRoundTrip() throws IOException {
+        final TableRegistry registry = new TableRegistry();
+        final CrapsTable table = registry.create();
+        table.setBank(100);
+        table.getBank().placeTableBet(BetType.FIELD, 0, 10);
+        table.getBank().placeTableBetCents(BetType.HARDWAY, 8, Money.of(2, 50));
+        final SnapshotStore store = new SnapshotStore(myDir);
+        store.write(registry.snapshot());
+
+        final List<GameSnapshot> snapshots = store.readLatest();
+        assertEquals(registry.snapshot(), snapshots);
+        assertEquals(2, snapshots.get(0).getTableBetCount());
+        assertEquals(Money.of(12, 50), snapshots.get(0).getTableBetCents());
+
+        final TableRegistry restored = new TableRegistry();
+        restored.restore(snapshots);
+        final BankBetLogic bank = restored.get(snapshots.get(0).getTableId()).getBank();
+        assertEquals(Money.of(87, 50), bank.getBankCents());
+        assertEquals(2, bank.getTableBets().size());
+        assertEquals(BetType.HARDWAY, bank.getTableBets().getType(1));
+        assertEquals(8, bank.getTableBets().getNumber(1));
+        assertEquals(Money.of(2, 50), bank.getTableBets().getAmount(1));
+    }
+
+    @Test
+    void emptyStore() throws IOException {
+        assertTrue(new SnapshotStore(myDir).readLatest().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotStore(myDir, 0));
+    }
+
+    private static void patch(final Path theFile, final int theOffset, final int theValue) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(theFile.toFile(), "rw")) {
+            file.seek(theOffset);
+            file.write(theValue);
+        }
+    }
+}
\ No newline at end of file
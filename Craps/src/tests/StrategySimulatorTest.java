@@ -0,0 +1,88 @@
+package tests;
+
+import model.BettingStrategy;
+import model.CrapsOdds;
+import model.StrategyResult;
+import model.StrategySimulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategySimulatorTest {
+    @Test
+    void flatStrategy() {
+        final BettingStrategy flat = BettingStrategy.flat(25);
+        assertEquals(25, flat.nextBet(1000, 0, 0));
+        assertEquals(25, flat.nextBet(1000, 25, -3));
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategy.flat(0));
+    }
+
+    @Test
+    void martingaleStrategy() {
+        final BettingStrategy martingale = BettingStrategy.martingale(10);
+        assertEquals(10, martingale.nextBet(1000, 0, 0));
+        assertEquals(20, martingale.nextBet(1000, 10, -1));
+        assertEquals(40, martingale.nextBet(1000, 20, -2));
+        assertEquals(10, martingale.nextBet(1000, 40, 1));
+    }
+
+    @Test
+    void paroliStrategy() {
+        final BettingStrategy paroli = BettingStrategy.paroli(5, 3);
+        assertEquals(5, paroli.nextBet(1000, 0, 0));
+        assertEquals(10, paroli.nextBet(1000, 5, 1));
+        assertEquals(20, paroli.nextBet(1000, 10, 2));
+        assertEquals(5, paroli.nextBet(1000, 20, 3));
+        assertEquals(5, paroli.nextBet(1000, 20, -1));
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategy.paroli(5, 0));
+    }
+
+    @Test
+    void percentStrategy() {
+        final BettingStrategy percent = BettingStrategy.percentOfBank(10);
+        assertEquals(100, percent.nextBet(1000, 0, 0));
+        assertEquals(1, percent.nextBet(5, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategy.percentOfBank(101));
+    }
+
+    @Test
+    void singleRoundRuinMatchesTheOdds() {
+        final StrategyResult result = new StrategySimulator(BettingStrategy.flat(10), 10, 1).run(200_000, 1);
+        assertEquals(200_000, result.getSessions());
+        assertEquals(CrapsOdds.getInstance().getHouseWinProbability().doubleValue(),
+                result.getRuinProbability(), 0.005);
+        assertEquals(1.0, result.getMeanRounds());
+    }
+
+    @Test
+    void sameSeedSameResultForAnyParallelism() {
+        try (StrategySimulator one = new StrategySimulator(BettingStrategy.martingale(5), 200, 100, 1);
+             StrategySimulator four = new StrategySimulator(BettingStrategy.martingale(5), 200, 100, 4)) {
+            assertEquals(one.run(20_000, 42), four.run(20_000, 42));
+            assertNotEquals(one.run(20_000, 42), one.run(20_000, 43));
+        }
+    }
+
+    @Test
+    void histogramsCoverEverySession() {
+        final StrategyResult result = new StrategySimulator(BettingStrategy.paroli(10, 3), 500, 400)
+                .run(10_001, 7);
+        assertEquals(10_001, Arrays.stream(result.getBankHistogram()).sum());
+        assertEquals(10_001, Arrays.stream(result.getLengthHistogram()).sum());
+        assertTrue(result.getRuined() <= result.getBankHistogram()[0]);
+        assertTrue(result.getMeanRounds() <= 400);
+        assertTrue(result.getMeanFinalBank() < 500, result.toString());
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StrategySimulator(BettingStrategy.flat(1), 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StrategySimulator(BettingStrategy.flat(1), 10, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StrategySimulator(BettingStrategy.flat(1), 10, 10).run(-1, 0));
+    }
+}
\ No newline at end of file
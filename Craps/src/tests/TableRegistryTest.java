@@ -0,0 +1,94 @@
+package tests;
+
+import model.CrapsTable;
+import model.DiceSource;
+import model.TableRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableRegistryTest {
+    private TableRegistry myRegistry;
+
+    @BeforeEach
+    void setup() {
+        myRegistry = new TableRegistry();
+    }
+
+    @Test
+    void testCreateAndGet() {
+        CrapsTable table = myRegistry.create();
+        assertSame(table, myRegistry.get(table.getId()));
+        assertEquals(1, myRegistry.size());
+    }
+
+    @Test
+    void testRetire() {
+        CrapsTable table = myRegistry.create();
+        assertTrue(myRegistry.retire(table.getId()));
+        assertFalse(myRegistry.retire(table.getId()));
+        assertNull(myRegistry.get(table.getId()));
+        assertEquals(0, myRegistry.size());
+    }
+
+    @Test
+    void testTablesAreLinkedToTheirOwnState() {
+        CrapsTable table = myRegistry.create();
+        assertSame(table.getBank(), table.getCraps().getBank());
+        assertSame(table.getCraps(), table.getBank().getCraps());
+    }
+
+    @Test
+    void testManyIndependentTables() {
+        for (int i = 0; i < 10000; i++) {
+            CrapsTable table = myRegistry.create();
+            table.setBank(100 + i);
+            table.placeBet(10);
+        }
+        assertEquals(10000, myRegistry.size());
+        for (CrapsTable table : myRegistry.getTables()) {
+            assertEquals(10, table.getBank().getBetAmount());
+            assertEquals(89 + table.getId(), table.getBank().getBankAmount());
+        }
+    }
+
+    @Test
+    void testRollSettlesAgainstOwnTable() {
+        // 3 + 4 on the come-out roll wins even money
+        CrapsTable loser = myRegistry.create();
+        int[] faces = {3, 4};
+        int[] next = {0};
+        CrapsTable winner = new CrapsTable(99, () -> faces[next[0]++ % 2]);
+        winner.setBank(100);
+        winner.placeBet(50);
+        loser.setBank(100);
+        loser.placeBet(50);
+
+        assertTrue(winner.roll());
+        assertTrue(winner.getCraps().getGameWon());
+        assertEquals(150, winner.getBank().getBankAmount());
+        assertEquals(50, loser.getBank().getBankAmount());
+        assertEquals(0, loser.getCraps().getPlayerWins());
+    }
+
+    @Test
+    void testRollNeedsBet() {
+        CrapsTable table = myRegistry.create();
+        table.setBank(100);
+        assertFalse(table.roll());
+    }
+
+    @Test
+    void testPlayAgain() {
+        CrapsTable table = new CrapsTable(1, DiceSource.splittable(3));
+        table.setBank(1000);
+        table.placeBet(1);
+        assertFalse(table.playAgain());
+        while (table.roll()) {
+            // roll until the round is decided
+        }
+        assertTrue(table.playAgain());
+        assertTrue(table.getCraps().isGameActive());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package tests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import server.WireMessage;
+import server.WireProtocol;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WireProtocolTest {
+    private WireProtocol myEncoder;
+    private WireMessage myMessage;
+    private ByteBuffer myBuffer;
+
+    @BeforeEach
+    void setup() {
+        myEncoder = new WireProtocol();
+        myMessage = new WireMessage();
+        myBuffer = ByteBuffer.allocate(4 * WireProtocol.MESSAGE_BYTES);
+    }
+
+    @Test
+    void testRoundTrip() {
+        myEncoder.encodeRoll(myBuffer, 42L, 6, 5, 0, WireProtocol.WON, 1_234_567_890_123L);
+        myEncoder.encodeBet(myBuffer, 42L, true, 2_500);
+        myEncoder.encodeBank(myBuffer, 7L, -305);
+        assertEquals(3 * WireProtocol.MESSAGE_BYTES, myBuffer.position());
+        myBuffer.flip();
+
+        assertEquals(0, myMessage.decode(myBuffer));
+        assertEquals(WireProtocol.ROLL, myMessage.getKind());
+        assertEquals(0, myMessage.getSequence());
+        assertEquals(42L, myMessage.getTableId());
+        assertEquals(6, myMessage.getDie1());
+        assertEquals(5, myMessage.getDie2());
+        assertEquals(11, myMessage.getTotal());
+        assertEquals(WireProtocol.WON, myMessage.getOutcome());
+        assertEquals(1_234_567_890_123L, myMessage.getCents());
+
+        assertEquals(0, myMessage.decode(myBuffer));
+        assertEquals(WireProtocol.BET, myMessage.getKind());
+        assertTrue(myMessage.isAccepted());
+        assertEquals(2_500, myMessage.getCents());
+
+        assertEquals(0, myMessage.decode(myBuffer));
+        assertEquals(WireProtocol.BANK, myMessage.getKind());
+        assertEquals(7L, myMessage.getTableId());
+        assertEquals(-305, myMessage.getCents());
+        assertFalse(myBuffer.hasRemaining());
+    }
+
+    @Test
+    void testGapIsReported() {
+        myEncoder.encodeBank(myBuffer, 1L, 100);
+        myEncoder.encodeBank(myBuffer, 1L, 200);
+        myEncoder.encodeBank(myBuffer, 1L, 300);
+        myEncoder.encodeBank(myBuffer, 1L, 400);
+        assertEquals(4, myEncoder.getNextSequence());
+        myBuffer.flip();
+        assertEquals(0, myMessage.decode(myBuffer));
+        myBuffer.position(3 * WireProtocol.MESSAGE_BYTES);
+        assertEquals(2, myMessage.decode(myBuffer));
+        assertEquals(3, myMessage.getSequence());
+        assertEquals(400, myMessage.getCents());
+    }
+
+    @Test
+    void testRejectsBadInput() {
+        myEncoder.encodeBank(myBuffer, 1L, 100);
+        myEncoder.encodeBank(myBuffer, 1L, 200);
+        myBuffer.flip();
+        myMessage.decode(myBuffer);
+        myMessage.decode(myBuffer);
+        myBuffer.rewind();
+        assertThrows(IllegalArgumentException.class, () -> myMessage.decode(myBuffer));
+        assertEquals(0, myBuffer.position());
+
+        myBuffer.put(16, (byte) 9);
+        assertThrows(IllegalArgumentException.class, () -> new WireMessage().decode(myBuffer));
+        assertThrows(BufferUnderflowException.class,
+                () -> new WireMessage().decode(ByteBuffer.allocate(WireProtocol.MESSAGE_BYTES - 1)));
+        assertThrows(BufferOverflowException.class,
+                () -> myEncoder.encodeBank(ByteBuffer.allocate(8), 1L, 1));
+        assertEquals(2, myEncoder.getNextSequence());
+    }
+
+    @Test
+    void testRejectsOtherByteOrder() {
+        final ByteBuffer little = ByteBuffer.allocate(WireProtocol.MESSAGE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        assertThrows(IllegalArgumentException.class, () -> myEncoder.encodeBank(little, 1L, 100));
+        assertEquals(0, little.position());
+        assertEquals(0, myEncoder.getNextSequence());
+
+        myEncoder.encodeBank(myBuffer, 1L, 100);
+        myBuffer.flip();
+        assertEquals(1L, myBuffer.getLong(8));
+        assertEquals(100L, myBuffer.getLong(24));
+        assertThrows(IllegalArgumentException.class,
+                () -> myMessage.decode(myBuffer.duplicate().order(ByteOrder.LITTLE_ENDIAN)));
+        assertEquals(0, myMessage.decode(myBuffer));
+    }
+}
\ No newline at end of file
@@ -1,9 +1,11 @@
 package view;
 
 import controller.CrapsController;
+import server.CrapsServer;
 import javax.swing.UIManager;
 import javax.swing.*;
 import java.awt.*;
+import java.util.Arrays;
 
 /**
  * The driver for the craps game.
@@ -18,10 +20,16 @@ public class CrapsApplication {
     private CrapsApplication() {}
 
     /**
-     * Creates the JFrame to display the game of craps.
-     * @param theArgs Command line arguments, ignored.
+     * Creates the JFrame to display the game of craps,
+     * or runs the headless server when the first argument is --server.
+     * @param theArgs Command line arguments, --server and an optional port.
+     * @throws Exception if the server cannot be started.
      */
-    public static void main(String[] theArgs) {
+    public static void main(String[] theArgs) throws Exception {
+        if (theArgs.length > 0 && "--server".equals(theArgs[0])) {
+            CrapsServer.main(Arrays.copyOfRange(theArgs, 1, theArgs.length));
+            return;
+        }
         try {
             for (UIManager.LookAndFeelInfo info : UIManager.getInstalledLookAndFeels()) {
                 if ("Nimbus".equals(info.getName())) {